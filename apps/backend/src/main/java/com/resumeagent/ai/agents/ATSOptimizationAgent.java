@@ -2,7 +2,9 @@ package com.resumeagent.ai.agents;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeagent.ai.llm.LlmAgent;
 import com.resumeagent.ai.llm.LlmClient;
+import com.resumeagent.ai.util.JsonSanitizer;
 import com.resumeagent.ai.util.PromptLoader;
 import com.resumeagent.entity.model.MasterResumeJson;
 import lombok.RequiredArgsConstructor;
@@ -24,9 +26,9 @@ public class ATSOptimizationAgent {
         String finalPrompt = basePrompt
                 .replace("{{REWRITTEN_RESUME_JSON}}", objectMapper.writeValueAsString(resumeJson));
 
-        String output = llm.generate(finalPrompt);
+        String output = llm.generate(LlmAgent.ATS_OPTIMIZATION, finalPrompt);
 
-        String json = sanitizeJson(output);
+        String json = JsonSanitizer.extractObject(output);
 
         try {
             System.out.println("ATS optimization done successfully.");
@@ -38,13 +40,4 @@ public class ATSOptimizationAgent {
             );
         }
     }
-
-    private String sanitizeJson(String raw) {
-        int start = raw.indexOf('{');
-        int end = raw.lastIndexOf('}');
-        if (start == -1 || end == -1 || end <= start) {
-            throw new IllegalArgumentException("No valid JSON object found");
-        }
-        return raw.substring(start, end + 1);
-    }
 }
@@ -1,7 +1,9 @@
 package com.resumeagent.ai.agents;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeagent.ai.llm.LlmAgent;
 import com.resumeagent.ai.llm.LlmClient;
+import com.resumeagent.ai.util.JsonSanitizer;
 import com.resumeagent.ai.util.PromptLoader;
 import com.resumeagent.entity.model.JobDescriptionAnalyzerJson;
 import lombok.RequiredArgsConstructor;
@@ -23,9 +25,9 @@ public class JobDescriptionAnalyzerAgent {
                 jobDescription
         );
 
-        String output = llm.generate(finalPrompt);
+        String output = llm.generate(LlmAgent.JOB_DESCRIPTION_ANALYZER, finalPrompt);
 
-        String json = sanitizeJson(output);
+        String json = JsonSanitizer.extractObject(output);
 
         try {
             System.out.println("Job description analysis done successfully. \n" + json);
@@ -37,14 +39,4 @@ public class JobDescriptionAnalyzerAgent {
             );
         }
     }
-
-    private String sanitizeJson(String raw) {
-        int start = raw.indexOf('{');
-        int end = raw.lastIndexOf('}');
-        if (start == -1 || end == -1 || end <= start) {
-            throw new IllegalArgumentException("No valid JSON object found");
-        }
-        return raw.substring(start, end + 1);
-    }
-
 }
@@ -2,7 +2,9 @@ package com.resumeagent.ai.agents;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeagent.ai.llm.LlmAgent;
 import com.resumeagent.ai.llm.LlmClient;
+import com.resumeagent.ai.util.JsonSanitizer;
 import com.resumeagent.ai.util.PromptLoader;
 import com.resumeagent.entity.model.JobDescriptionAnalyzerJson;
 import com.resumeagent.entity.model.MasterResumeJson;
@@ -25,9 +27,9 @@ public class MatchingAgent {
                 .replace("{{RESUME_TEXT}}", objectMapper.writeValueAsString(resumeJson))
                 .replace("{{JOB_DESCRIPTION}}", objectMapper.writeValueAsString(jobDescription));
 
-        String output = llm.generate(finalPrompt);
+        String output = llm.generate(LlmAgent.MATCHING, finalPrompt);
 
-        String json = sanitizeJson(output);
+        String json = JsonSanitizer.extractObject(output);
 
         try {
             System.out.println("Matching analysis done successfully.");
@@ -39,14 +41,4 @@ public class MatchingAgent {
             );
         }
     }
-
-    private String sanitizeJson(String raw) {
-        int start = raw.indexOf('{');
-        int end = raw.lastIndexOf('}');
-        if (start == -1 || end == -1 || end <= start) {
-            throw new IllegalArgumentException("No valid JSON object found");
-        }
-        return raw.substring(start, end + 1);
-    }
-
 }
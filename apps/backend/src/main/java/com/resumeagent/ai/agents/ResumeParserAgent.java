@@ -1,7 +1,9 @@
 package com.resumeagent.ai.agents;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeagent.ai.llm.LlmAgent;
 import com.resumeagent.ai.llm.LlmClient;
+import com.resumeagent.ai.util.JsonSanitizer;
 import com.resumeagent.ai.util.PromptLoader;
 import com.resumeagent.entity.model.MasterResumeJson;
 import lombok.RequiredArgsConstructor;
@@ -23,9 +25,9 @@ public class ResumeParserAgent {
                 resumeText
         );
 
-        String output = llm.generate(finalPrompt);
+        String output = llm.generate(LlmAgent.RESUME_PARSER, finalPrompt);
 
-        String json = sanitizeJson(output);
+        String json = JsonSanitizer.stripCodeFence(output);
 
         try {
             System.out.println("Resume parsing done successfully.");
@@ -37,17 +39,4 @@ public class ResumeParserAgent {
             );
         }
     }
-
-    private String sanitizeJson(String raw) {
-        String trimmed = raw.trim();
-
-        if (trimmed.startsWith("```")) {
-            trimmed = trimmed
-                    .replaceFirst("^```[a-zA-Z]*", "")
-                    .replaceFirst("```$", "")
-                    .trim();
-        }
-
-        return trimmed;
-    }
 }
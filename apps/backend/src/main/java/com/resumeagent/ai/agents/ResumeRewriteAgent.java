@@ -2,7 +2,9 @@ package com.resumeagent.ai.agents;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeagent.ai.llm.LlmAgent;
 import com.resumeagent.ai.llm.LlmClient;
+import com.resumeagent.ai.util.JsonSanitizer;
 import com.resumeagent.ai.util.PromptLoader;
 import com.resumeagent.entity.model.JobDescriptionAnalyzerJson;
 import com.resumeagent.entity.model.MasterResumeJson;
@@ -28,9 +30,9 @@ public class ResumeRewriteAgent {
                 .replace("{{JOB_DESCRIPTION_ANALYSIS_JSON}}", objectMapper.writeValueAsString(jobDescription))
                 .replace("{{MATCHING_AGENT_JSON}}", objectMapper.writeValueAsString(matchingAgentJson));
 
-        String output = llm.generate(finalPrompt);
+        String output = llm.generate(LlmAgent.RESUME_REWRITE, finalPrompt);
 
-        String json = sanitizeJson(output);
+        String json = JsonSanitizer.extractObject(output);
 
         try {
             System.out.println("Resume rewriting done successfully.");
@@ -42,13 +44,4 @@ public class ResumeRewriteAgent {
             );
         }
     }
-
-    private String sanitizeJson(String raw) {
-        int start = raw.indexOf('{');
-        int end = raw.lastIndexOf('}');
-        if (start == -1 || end == -1 || end <= start) {
-            throw new IllegalArgumentException("No valid JSON object found");
-        }
-        return raw.substring(start, end + 1);
-    }
 }
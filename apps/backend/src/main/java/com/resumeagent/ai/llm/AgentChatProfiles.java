@@ -0,0 +1,35 @@
+package com.resumeagent.ai.llm;
+
+import org.springframework.ai.openai.OpenAiChatOptions;
+
+import java.util.Map;
+
+/**
+ * Per-agent chat option profiles (built in AiConfig).
+ * Each profile holds the static options for an agent (headers, temperature);
+ * the model and max-tokens are applied per call because they change with
+ * failover and with the output budget derived from history.
+ */
+public class AgentChatProfiles {
+
+    private final Map<LlmAgent, OpenAiChatOptions> profiles;
+
+    public AgentChatProfiles(Map<LlmAgent, OpenAiChatOptions> profiles) {
+        this.profiles = profiles;
+    }
+
+    /**
+     * Build the request options for one call.
+     *
+     * @param agent     calling agent
+     * @param model     model selected from the ladder
+     * @param maxTokens completion budget (null = global default)
+     * @return fresh options instance (profiles are never mutated)
+     */
+    public OpenAiChatOptions optionsFor(LlmAgent agent, String model, Integer maxTokens) {
+        OpenAiChatOptions options = profiles.get(agent).copy();
+        options.setModel(model);
+        options.setMaxTokens(maxTokens);
+        return options;
+    }
+}
@@ -0,0 +1,114 @@
+package com.resumeagent.ai.llm;
+
+import com.resumeagent.config.LlmProperties;
+import com.resumeagent.repository.ResumeAgentLogRepository;
+import com.resumeagent.repository.projection.AgentOutputTokenStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-agent completion budget (max-tokens).
+ * WHY:
+ * Reserving 12k completion tokens for a stage that emits ~1k makes upstream
+ * providers schedule the request as a large job. Budgets sized from real
+ * output history get faster scheduling and cheaper failures.
+ * BUDGET RESOLUTION:
+ * 1. Derived budget: ceil(percentile(tokens_output) x margin), clamped to [floor, ceiling]
+ *    over raw completion sizes of successful AND failed runs (truncated
+ *    completions must push the budget up, not drop out of the sample);
+ *    only when the agent has at least minSamples runs in the window
+ * 2. Agent max-tokens from llm.agents.{agent}.max-tokens
+ * 3. null -> spring.ai.openai.chat.options.max-tokens
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AgentTokenBudget {
+
+    private final ResumeAgentLogRepository agentLogRepository;
+    private final LlmProperties llmProperties;
+
+    private final Map<LlmAgent, Integer> derivedBudgets = new ConcurrentHashMap<>();
+
+    /**
+     * Completion budget for an agent call.
+     *
+     * @param agent calling agent
+     * @return max-tokens to request, or null to use the global default
+     */
+    public Integer maxTokensFor(LlmAgent agent) {
+        Integer derived = derivedBudgets.get(agent);
+        if (derived != null) {
+            return derived;
+        }
+        LlmProperties.AgentProfile profile = llmProperties.profileFor(agent.getProfileKey());
+        return profile != null ? profile.getMaxTokens() : null;
+    }
+
+    /**
+     * Recompute derived budgets from resume_agent_logs.
+     * Runs shortly after startup and then periodically; failures keep the previous budgets.
+     */
+    @Scheduled(
+            initialDelayString = "${llm.max-tokens.initial-delay-ms:15000}",
+            fixedDelayString = "${llm.max-tokens.refresh-interval-ms:3600000}"
+    )
+    public void refresh() {
+        LlmProperties.MaxTokens settings = llmProperties.getMaxTokens();
+        if (!settings.isDeriveFromHistory()) {
+            derivedBudgets.clear();
+            return;
+        }
+
+        Instant since = Instant.now().minus(Duration.ofDays(settings.getLookbackDays()));
+        try {
+            Set<LlmAgent> derived = EnumSet.noneOf(LlmAgent.class);
+            for (AgentOutputTokenStats stats :
+                    agentLogRepository.findOutputTokenStats(settings.getPercentile(), since)) {
+
+                LlmAgent.fromLogName(stats.getAgentName()).ifPresent(agent -> {
+                    if (stats.getSamples() < settings.getMinSamples() || stats.getPercentileTokens() == null) {
+                        return;
+                    }
+                    derived.add(agent);
+                    int budget = deriveBudget(agent, stats.getPercentileTokens(), settings);
+                    Integer previous = derivedBudgets.put(agent, budget);
+                    if (previous == null || previous != budget) {
+                        log.info("max-tokens for {} set to {} (p{} = {} over {} runs)",
+                                agent.getLogName(), budget, Math.round(settings.getPercentile() * 100),
+                                Math.round(stats.getPercentileTokens()), stats.getSamples());
+                    }
+                });
+            }
+            // Agents without enough runs in the window (or none at all) fall back to configuration
+            derivedBudgets.keySet().removeIf(agent -> {
+                if (derived.contains(agent)) {
+                    return false;
+                }
+                log.info("max-tokens for {} no longer derived (not enough runs in the window)", agent.getLogName());
+                return true;
+            });
+        } catch (Exception e) {
+            log.warn("Failed to refresh agent token budgets, keeping previous values: {}", e.getMessage());
+        }
+    }
+
+    private int deriveBudget(LlmAgent agent, double percentileTokens, LlmProperties.MaxTokens settings) {
+        LlmProperties.AgentProfile profile = llmProperties.profileFor(agent.getProfileKey());
+        int ceiling = profile != null && profile.getMaxTokens() != null
+                ? profile.getMaxTokens()
+                : settings.getCeiling();
+
+        int budget = (int) Math.ceil(percentileTokens * settings.getMargin());
+        return Math.max(settings.getFloor(), Math.min(budget, ceiling));
+    }
+}
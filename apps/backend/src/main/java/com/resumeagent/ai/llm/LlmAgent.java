@@ -0,0 +1,34 @@
+package com.resumeagent.ai.llm;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * AI agents that call the LLM.
+ * - logName    -> value stored in resume_agent_logs.agent_name
+ * - profileKey -> key used under llm.agents.* in application.properties
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LlmAgent {
+    RESUME_PARSER("ResumeParserAgent", "resume-parser"),
+    JOB_DESCRIPTION_ANALYZER("JobDescriptionAnalyzerAgent", "job-description-analyzer"),
+    MATCHING("MatchingAgent", "matching"),
+    RESUME_REWRITE("ResumeRewriteAgent", "resume-rewrite"),
+    ATS_OPTIMIZATION("ATSOptimizationAgent", "ats-optimization");
+
+    private final String logName;
+    private final String profileKey;
+
+    /**
+     * Resolve an agent from its resume_agent_logs.agent_name value.
+     */
+    public static Optional<LlmAgent> fromLogName(String logName) {
+        return Arrays.stream(values())
+                .filter(agent -> agent.logName.equals(logName))
+                .findFirst();
+    }
+}
@@ -0,0 +1,44 @@
+package com.resumeagent.ai.llm;
+
+import java.util.Optional;
+
+/**
+ * Records which model served the current agent call and how many
+ * completion tokens it produced.
+ * The AI pipeline runs synchronously on the request thread, so a ThreadLocal
+ * lets ResumeService read the serving model without changing agent signatures.
+ * Callers must clear() before and after each agent run.
+ */
+public final class LlmCallContext {
+
+    /**
+     * @param model            model that served (or last attempted) the call
+     * @param fallbackDepth    0 = primary model, 1 = first fallback, ...
+     * @param completionTokens tokens of the raw completion (null until a completion arrived)
+     */
+    public record ServedBy(String model, int fallbackDepth, Integer completionTokens) {
+    }
+
+    private static final ThreadLocal<ServedBy> CURRENT = new ThreadLocal<>();
+
+    private LlmCallContext() {}
+
+    static void record(String model, int fallbackDepth) {
+        CURRENT.set(new ServedBy(model, fallbackDepth, null));
+    }
+
+    static void recordCompletion(int completionTokens) {
+        ServedBy servedBy = CURRENT.get();
+        if (servedBy != null) {
+            CURRENT.set(new ServedBy(servedBy.model(), servedBy.fallbackDepth(), completionTokens));
+        }
+    }
+
+    public static Optional<ServedBy> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
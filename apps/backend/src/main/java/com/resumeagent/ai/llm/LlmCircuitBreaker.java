@@ -0,0 +1,149 @@
+package com.resumeagent.ai.llm;
+
+import com.resumeagent.config.LlmProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-model circuit breaker for LLM calls.
+ * STATES:
+ * - CLOSED    -> calls allowed, consecutive failures are counted
+ * - OPEN      -> calls rejected until openDurationMs has elapsed
+ * - HALF_OPEN -> exactly one trial call allowed; success closes, failure re-opens
+ * Every acquired call must end in onSuccess, onFailure or releaseTrial
+ * (callers use finally): a trial that exits any other way would otherwise
+ * leave the breaker half-open with its only trial slot taken forever.
+ * Breakers are keyed by model id because OpenRouter outages are usually
+ * model/provider specific, not global.
+ */
+@Component
+@Slf4j
+public class LlmCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final LlmProperties llmProperties;
+    private final LongSupplier clock;
+
+    private final Map<String, ModelBreaker> breakers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LlmCircuitBreaker(LlmProperties llmProperties) {
+        this(llmProperties, System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock current time in epoch milliseconds (tests pass a manual clock)
+     */
+    LlmCircuitBreaker(LlmProperties llmProperties, LongSupplier clock) {
+        this.llmProperties = llmProperties;
+        this.clock = clock;
+    }
+
+    /**
+     * Ask permission to call a model.
+     *
+     * @param model model id
+     * @return true if the call may proceed
+     */
+    public boolean tryAcquire(String model) {
+        ModelBreaker breaker = breakerFor(model);
+        if (breaker.openedAtMillis == 0L) {
+            return true;
+        }
+
+        long openFor = clock.getAsLong() - breaker.openedAtMillis;
+        if (openFor < llmProperties.getCircuitBreaker().getOpenDurationMs()) {
+            return false;
+        }
+
+        // Open period elapsed: let exactly one caller probe the model
+        return breaker.trialInFlight.compareAndSet(false, true);
+    }
+
+    /**
+     * Record a successful call (closes the breaker).
+     */
+    public void onSuccess(String model) {
+        ModelBreaker breaker = breakerFor(model);
+        if (breaker.openedAtMillis != 0L) {
+            log.info("LLM circuit closed for model: {}", model);
+        }
+        breaker.consecutiveFailures.set(0);
+        breaker.openedAtMillis = 0L;
+        breaker.trialInFlight.set(false);
+    }
+
+    /**
+     * Record a failed call (may open the breaker).
+     */
+    public void onFailure(String model) {
+        ModelBreaker breaker = breakerFor(model);
+        int failures = breaker.consecutiveFailures.incrementAndGet();
+
+        boolean trialFailed = breaker.trialInFlight.getAndSet(false);
+        if (trialFailed || failures >= llmProperties.getCircuitBreaker().getFailureThreshold()) {
+            if (breaker.openedAtMillis == 0L || trialFailed) {
+                log.warn("LLM circuit opened for model: {} after {} consecutive failures", model, failures);
+            }
+            breaker.openedAtMillis = clock.getAsLong();
+        }
+    }
+
+    /**
+     * Give back a half-open trial slot without an outcome (e.g. the call
+     * ended with an Error). The next caller probes the model instead.
+     * No effect if the call was not a trial.
+     */
+    public void releaseTrial(String model) {
+        if (breakerFor(model).trialInFlight.compareAndSet(true, false)) {
+            log.debug("LLM circuit trial for model {} ended without outcome; slot released", model);
+        }
+    }
+
+    /**
+     * Current state of a model breaker (for diagnostics).
+     */
+    public State stateOf(String model) {
+        ModelBreaker breaker = breakerFor(model);
+        if (breaker.openedAtMillis == 0L) {
+            return State.CLOSED;
+        }
+        long openFor = clock.getAsLong() - breaker.openedAtMillis;
+        return openFor < llmProperties.getCircuitBreaker().getOpenDurationMs() ? State.OPEN : State.HALF_OPEN;
+    }
+
+    /**
+     * Milliseconds until an open breaker allows its trial call (0 if the
+     * model may be called now).
+     */
+    public long millisUntilTrial(String model) {
+        ModelBreaker breaker = breakerFor(model);
+        if (breaker.openedAtMillis == 0L) {
+            return 0L;
+        }
+        long openFor = clock.getAsLong() - breaker.openedAtMillis;
+        return Math.max(0L, llmProperties.getCircuitBreaker().getOpenDurationMs() - openFor);
+    }
+
+    private ModelBreaker breakerFor(String model) {
+        return breakers.computeIfAbsent(model, key -> new ModelBreaker());
+    }
+
+    private static final class ModelBreaker {
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicBoolean trialInFlight = new AtomicBoolean();
+        private volatile long openedAtMillis = 0L;
+    }
+}
@@ -1,20 +1,109 @@
 package com.resumeagent.ai.llm;
 
+import com.resumeagent.ai.util.TokenCounter;
+import com.resumeagent.config.LlmProperties;
+import com.resumeagent.exception.LlmUnavailableException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
+/**
+ * LLM gateway used by all agents.
+ * FAILOVER FLOW:
+ * 1. Resolve the agent's model ladder (primary + fallbacks) and output budget
+ * 2. Skip models whose circuit breaker is open (no network call)
+ * 3. Call the first available model; on failure record it and try the next
+ * 4. If every model failed or is open, fail fast with LlmUnavailableException
+ * The model that served the call and the size of its raw completion are
+ * exposed via LlmCallContext for audit logs (and, through them, for
+ * AgentTokenBudget), also when the agent later fails to parse the output.
+ */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class LlmClient {
 
     private final ChatClient openAiChatClient;
+    private final LlmProperties llmProperties;
+    private final LlmCircuitBreaker circuitBreaker;
+    private final AgentChatProfiles agentChatProfiles;
+    private final AgentTokenBudget agentTokenBudget;
+
+    public String generate(LlmAgent agent, String prompt) {
+        List<String> ladder = llmProperties.modelsFor(agent.getProfileKey());
+        Integer maxTokens = agentTokenBudget.maxTokensFor(agent);
+
+        RuntimeException lastFailure = null;
+        for (int depth = 0; depth < ladder.size(); depth++) {
+            String model = ladder.get(depth);
+
+            if (!circuitBreaker.tryAcquire(model)) {
+                log.debug("Skipping model {} for {}: circuit open", model, agent.getLogName());
+                continue;
+            }
+
+            LlmCallContext.record(model, depth);
+            boolean outcomeRecorded = false;
+            try {
+                ChatResponse response = openAiChatClient
+                        .prompt(prompt)
+                        .options(agentChatProfiles.optionsFor(agent, model, maxTokens))
+                        .call()
+                        .chatResponse();
+                String content = response != null && response.getResult() != null
+                        ? response.getResult().getOutput().getText()
+                        : null;
+
+                if (content == null || content.isBlank()) {
+                    throw new IllegalStateException("Empty completion from model: " + model);
+                }
+                LlmCallContext.recordCompletion(completionTokens(response, content));
 
-    public String generate(String prompt) {
-        return openAiChatClient
-                .prompt(prompt)
-                .call()
-                .content();
+                circuitBreaker.onSuccess(model);
+                outcomeRecorded = true;
+                if (depth > 0) {
+                    log.warn("{} served by fallback model {} (depth {})", agent.getLogName(), model, depth);
+                }
+                return content;
+            } catch (RuntimeException ex) {
+                circuitBreaker.onFailure(model);
+                outcomeRecorded = true;
+                lastFailure = ex;
+                log.warn("LLM call failed for {} on model {}: {}", agent.getLogName(), model, ex.getMessage());
+            } finally {
+                // Errors skip both callbacks; never keep a half-open trial slot
+                if (!outcomeRecorded) {
+                    circuitBreaker.releaseTrial(model);
+                }
+            }
+        }
+
+        throw new LlmUnavailableException(
+                "No LLM model available for " + agent.getLogName(), retryAfterSeconds(ladder), lastFailure);
+    }
+
+    /**
+     * Seconds until the first model of the ladder allows a call again (at least 1).
+     */
+    private int retryAfterSeconds(List<String> ladder) {
+        long millis = ladder.stream()
+                .mapToLong(circuitBreaker::millisUntilTrial)
+                .min()
+                .orElse(0L);
+        return (int) Math.max(1L, (millis + 999L) / 1000L);
     }
-}
 
+    /**
+     * Provider-reported completion tokens; local count of the raw text if absent.
+     */
+    private static int completionTokens(ChatResponse response, String content) {
+        Usage usage = response.getMetadata() != null ? response.getMetadata().getUsage() : null;
+        Integer reported = usage != null ? usage.getCompletionTokens() : null;
+        return reported != null && reported > 0 ? reported : TokenCounter.countTokens(content);
+    }
+}
@@ -0,0 +1,91 @@
+package com.resumeagent.ai.llm.fake;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Fake LLM Server Configuration (profile: fake-llm)
+ * Controls the local OpenAI-compatible stand-in used for load and regression runs.
+ * MODES:
+ * - REPLAY: answer from recordings keyed by prompt hash (no network)
+ * - RECORD: proxy to the real provider and save each answer as a recording
+ * FAULT INJECTION:
+ * - latency distribution per request
+ * - probability of 429 (rate limited) responses
+ * - probability of malformed (truncated) JSON content
+ */
+@ConfigurationProperties(prefix = "fake-llm")
+@Getter
+@Setter
+public class FakeLlmProperties {
+
+    public enum Mode {
+        REPLAY,
+        RECORD
+    }
+
+    public enum LatencyDistribution {
+        FIXED,
+        UNIFORM,
+        LOG_NORMAL
+    }
+
+    /**
+     * Port the fake server listens on (0 = random, useful in tests).
+     */
+    private int port = 8089;
+
+    private Mode mode = Mode.REPLAY;
+
+    /**
+     * Directory holding recordings (one {prompt-sha256}.json file per prompt).
+     */
+    private String recordingsDir = "llm-recordings";
+
+    /**
+     * Optional file answered when no recording matches (empty = 404 error).
+     */
+    private String fallbackResponseFile;
+
+    /**
+     * Upstream used in RECORD mode.
+     */
+    private String upstreamBaseUrl = "https://openrouter.ai/api/v1";
+
+    private String upstreamApiKey;
+
+    private LatencyDistribution latencyDistribution = LatencyDistribution.FIXED;
+
+    /**
+     * FIXED: exact latency. LOG_NORMAL: median latency.
+     */
+    private long latencyMs = 0;
+
+    /**
+     * UNIFORM bounds.
+     */
+    private long latencyMinMs = 0;
+    private long latencyMaxMs = 0;
+
+    /**
+     * LOG_NORMAL shape (sigma of the underlying normal).
+     */
+    private double latencySigma = 0.5;
+
+    /**
+     * Probability [0..1] of answering 429 Too Many Requests.
+     */
+    private double rateLimitProbability = 0.0;
+
+    /**
+     * Probability [0..1] of truncating the completion into malformed JSON.
+     */
+    private double malformedJsonProbability = 0.0;
+
+    /**
+     * Streaming: characters per SSE chunk and delay between chunks.
+     */
+    private int streamChunkChars = 64;
+    private long streamChunkDelayMs = 5;
+}
@@ -0,0 +1,346 @@
+package com.resumeagent.ai.llm.fake;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.resumeagent.ai.util.TokenCounter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local OpenAI-compatible chat completions server.
+ * Lets ResumeService be load-tested and regression-tested without paying
+ * OpenRouter or being rate limited.
+ * ENDPOINTS:
+ * - POST /chat/completions (streaming and non-streaming)
+ * - GET  /models
+ * - HEAD|GET / (connection warm-up)
+ * RECORDINGS:
+ * Key = SHA-256 of the request messages' content joined by newlines, so the
+ * same agent prompt always replays the same answer. Stored as
+ * {recordingsDir}/{key}.json: { "model": "...", "content": "..." }
+ * Uses the JDK HTTP server on virtual threads: simulated latency is a sleep,
+ * so thousands of in-flight requests cost no platform threads.
+ */
+@Slf4j
+public class FakeLlmServer implements AutoCloseable {
+
+    private final FakeLlmProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Recording> recordings = new ConcurrentHashMap<>();
+    private final AtomicLong requestCounter = new AtomicLong();
+    private final HttpClient upstreamClient = HttpClient.newHttpClient();
+
+    private HttpServer server;
+
+    public record Recording(String model, String content) {
+    }
+
+    public FakeLlmServer(FakeLlmProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", properties.getPort()), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/chat/completions", this::handleChatCompletion);
+        server.createContext("/models", this::handleModels);
+        server.createContext("/", exchange -> respond(exchange, 200, "application/json", "{}"));
+        server.start();
+        log.info("Fake LLM server listening on port {} in {} mode", getPort(), properties.getMode());
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    /**
+     * Recording key for a prompt (exposed so tests/tools can pre-seed recordings).
+     */
+    public static String promptKey(String promptContent) {
+        return DigestUtils.sha256Hex(promptContent);
+    }
+
+    // -------------------------------------------------------------------------
+    // Handlers
+    // -------------------------------------------------------------------------
+
+    private void handleChatCompletion(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            try {
+                serveChatCompletion(exchange);
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                log.warn("Fake LLM request failed: {}", e.getMessage());
+                // Headers already sent (e.g. mid-stream): closing the exchange truncates the response
+                if (exchange.getResponseCode() == -1) {
+                    respond(exchange, 500, "application/json", error("Fake LLM request failed: " + e.getMessage()));
+                }
+            }
+        }
+    }
+
+    private void serveChatCompletion(HttpExchange exchange) throws IOException, InterruptedException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, "application/json", error("Method not allowed"));
+            return;
+        }
+
+        byte[] requestBody = exchange.getRequestBody().readAllBytes();
+        JsonNode request = objectMapper.readTree(requestBody);
+        String model = request.path("model").asText("fake-model");
+        boolean stream = request.path("stream").asBoolean(false);
+        String key = promptKey(promptContent(request));
+
+        simulateLatency();
+
+        if (chance(properties.getRateLimitProbability())) {
+            exchange.getResponseHeaders().add("Retry-After", "1");
+            respond(exchange, 429, "application/json", error("Rate limit exceeded (simulated)"));
+            return;
+        }
+
+        Optional<Recording> recording = properties.getMode() == FakeLlmProperties.Mode.RECORD
+                ? Optional.ofNullable(recordFromUpstream(key, requestBody))
+                : findRecording(key);
+
+        if (recording.isEmpty()) {
+            respond(exchange, 404, "application/json", error("No recording for prompt " + key));
+            return;
+        }
+
+        String content = recording.get().content();
+        if (chance(properties.getMalformedJsonProbability())) {
+            content = content.substring(0, content.length() / 2);
+        }
+
+        if (stream) {
+            streamCompletion(exchange, model, content);
+        } else {
+            respond(exchange, 200, "application/json", completion(model, content, request));
+        }
+    }
+
+    private void handleModels(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            respond(exchange, 200, "application/json",
+                    "{\"object\":\"list\",\"data\":[{\"id\":\"fake-model\",\"object\":\"model\"}]}");
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Recordings
+    // -------------------------------------------------------------------------
+
+    private Optional<Recording> findRecording(String key) {
+        Recording cached = recordings.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Path file = Path.of(properties.getRecordingsDir(), key + ".json");
+        if (!Files.exists(file) && properties.getFallbackResponseFile() != null) {
+            file = Path.of(properties.getFallbackResponseFile());
+        }
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+
+        try {
+            Recording recording = objectMapper.readValue(file.toFile(), Recording.class);
+            recordings.put(key, recording);
+            return Optional.of(recording);
+        } catch (IOException e) {
+            log.warn("Unreadable recording {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Recording recordFromUpstream(String key, byte[] requestBody) throws IOException, InterruptedException {
+        // Always record the non-streaming form; streaming is replayed from content
+        ObjectNode upstreamRequest = (ObjectNode) objectMapper.readTree(requestBody);
+        upstreamRequest.put("stream", false);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(properties.getUpstreamBaseUrl() + "/chat/completions"))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + properties.getUpstreamApiKey())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(upstreamRequest)))
+                .build();
+
+        HttpResponse<String> response = upstreamClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            log.warn("Upstream answered {} while recording {}", response.statusCode(), key);
+            return null;
+        }
+
+        JsonNode body = objectMapper.readTree(response.body());
+        Recording recording = new Recording(
+                body.path("model").asText(),
+                body.path("choices").path(0).path("message").path("content").asText());
+
+        Path dir = Path.of(properties.getRecordingsDir());
+        Files.createDirectories(dir);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(dir.resolve(key + ".json").toFile(), recording);
+        recordings.put(key, recording);
+        log.info("Recorded LLM response {}", key);
+        return recording;
+    }
+
+    // -------------------------------------------------------------------------
+    // Response builders
+    // -------------------------------------------------------------------------
+
+    private String completion(String model, String content, JsonNode request) throws IOException {
+        int promptTokens = TokenCounter.countTokens(promptContent(request));
+        int completionTokens = TokenCounter.countTokens(content);
+
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("id", "chatcmpl-fake-" + requestCounter.incrementAndGet());
+        body.put("object", "chat.completion");
+        body.put("created", Instant.now().getEpochSecond());
+        body.put("model", model);
+
+        ObjectNode choice = body.putArray("choices").addObject();
+        choice.put("index", 0);
+        choice.putObject("message").put("role", "assistant").put("content", content);
+        choice.put("finish_reason", "stop");
+
+        body.putObject("usage")
+                .put("prompt_tokens", promptTokens)
+                .put("completion_tokens", completionTokens)
+                .put("total_tokens", promptTokens + completionTokens);
+
+        return objectMapper.writeValueAsString(body);
+    }
+
+    private void streamCompletion(HttpExchange exchange, String model, String content)
+            throws IOException, InterruptedException {
+        String id = "chatcmpl-fake-" + requestCounter.incrementAndGet();
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            int chunkSize = Math.max(1, properties.getStreamChunkChars());
+            for (int offset = 0; offset < content.length(); offset += chunkSize) {
+                String piece = content.substring(offset, Math.min(content.length(), offset + chunkSize));
+                writeEvent(out, chunk(id, model, piece, null));
+                Thread.sleep(properties.getStreamChunkDelayMs());
+            }
+            writeEvent(out, chunk(id, model, null, "stop"));
+            out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+    }
+
+    private String chunk(String id, String model, String piece, String finishReason) throws IOException {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("id", id);
+        body.put("object", "chat.completion.chunk");
+        body.put("created", Instant.now().getEpochSecond());
+        body.put("model", model);
+
+        ObjectNode choice = body.putArray("choices").addObject();
+        choice.put("index", 0);
+        ObjectNode delta = choice.putObject("delta");
+        if (piece != null) {
+            delta.put("content", piece);
+        }
+        if (finishReason != null) {
+            choice.put("finish_reason", finishReason);
+        } else {
+            choice.putNull("finish_reason");
+        }
+        return objectMapper.writeValueAsString(body);
+    }
+
+    private void writeEvent(OutputStream out, String json) throws IOException {
+        out.write(("data: " + json + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private String error(String message) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.putObject("error").put("message", message).put("type", "fake_llm_error");
+        return body.toString();
+    }
+
+    private void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Simulation helpers
+    // -------------------------------------------------------------------------
+
+    private String promptContent(JsonNode request) {
+        StringBuilder prompt = new StringBuilder();
+        JsonNode messages = request.path("messages");
+        if (messages instanceof ArrayNode array) {
+            for (JsonNode message : array) {
+                if (!prompt.isEmpty()) {
+                    prompt.append('\n');
+                }
+                prompt.append(message.path("content").asText());
+            }
+        }
+        return prompt.toString();
+    }
+
+    private void simulateLatency() throws InterruptedException {
+        long delayMs = switch (properties.getLatencyDistribution()) {
+            case FIXED -> properties.getLatencyMs();
+            case UNIFORM -> properties.getLatencyMaxMs() <= properties.getLatencyMinMs()
+                    ? properties.getLatencyMinMs()
+                    : ThreadLocalRandom.current().nextLong(properties.getLatencyMinMs(), properties.getLatencyMaxMs());
+            case LOG_NORMAL -> Math.round(properties.getLatencyMs()
+                    * Math.exp(properties.getLatencySigma() * ThreadLocalRandom.current().nextGaussian()));
+        };
+        if (delayMs > 0) {
+            Thread.sleep(delayMs);
+        }
+    }
+
+    private boolean chance(double probability) {
+        return probability > 0 && ThreadLocalRandom.current().nextDouble() < probability;
+    }
+}
@@ -0,0 +1,24 @@
+package com.resumeagent.ai.llm.fake;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Starts the fake LLM server inside the application (profile: fake-llm).
+ * application-fake-llm.properties points spring.ai.openai.base-url at it,
+ * so the full /api/resume/generate pipeline runs without OpenRouter.
+ * Run: SPRING_PROFILES_ACTIVE=fake-llm ./mvnw spring-boot:run
+ */
+@Configuration
+@Profile("fake-llm")
+@EnableConfigurationProperties(FakeLlmProperties.class)
+public class FakeLlmServerConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    FakeLlmServer fakeLlmServer(FakeLlmProperties properties, ObjectMapper objectMapper) {
+        return new FakeLlmServer(properties, objectMapper);
+    }
+}
@@ -0,0 +1,41 @@
+package com.resumeagent.ai.util;
+
+/**
+ * Cleans raw LLM output before it is handed to Jackson.
+ * Models frequently wrap JSON in markdown fences or add a sentence before or
+ * after the object, so agents strip that noise first.
+ */
+public final class JsonSanitizer {
+
+    private JsonSanitizer() {}
+
+    /**
+     * Cut the outermost JSON object out of the output (first '{' to last '}').
+     *
+     * @throws IllegalArgumentException if the output contains no object
+     */
+    public static String extractObject(String raw) {
+        int start = raw.indexOf('{');
+        int end = raw.lastIndexOf('}');
+        if (start == -1 || end == -1 || end <= start) {
+            throw new IllegalArgumentException("No valid JSON object found");
+        }
+        return raw.substring(start, end + 1);
+    }
+
+    /**
+     * Remove a surrounding markdown code fence (```json ... ```), if present.
+     */
+    public static String stripCodeFence(String raw) {
+        String trimmed = raw.trim();
+
+        if (trimmed.startsWith("```")) {
+            trimmed = trimmed
+                    .replaceFirst("^```[a-zA-Z]*", "")
+                    .replaceFirst("```$", "")
+                    .trim();
+        }
+
+        return trimmed;
+    }
+}
@@ -0,0 +1,288 @@
+package com.resumeagent.cache;
+
+import com.resumeagent.config.InvalidationBusProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Cross-node cache invalidation over PostgreSQL LISTEN/NOTIFY (no broker)
+ * PUBLISH (service layer, inside the write transaction):
+ * - publish(topic, userId) evicts local subscribers immediately and again
+ *   after commit (same rule as a local evict-after-commit)
+ * - pg_notify runs on the transaction's own connection, so other nodes are
+ *   notified exactly when the change commits, and never on rollback
+ * SUBSCRIBE:
+ * - subscribe(topic, ...) for entity events on channel entity_changed
+ *   (payload "TOPIC|key|publishedAtMillis|nodeId"; own events are skipped)
+ * - subscribeChannel(channel, ...) for raw channels fed by triggers
+ *   (e.g. access_token_revoked)
+ * - Every subscriber supplies a resync action that runs after each
+ *   (re)connect: notifications sent while disconnected are lost, so
+ *   subscribers must drop or reload everything they cached
+ * METRICS (Micrometer):
+ * - invalidation.bus.published / received {topic}
+ * - invalidation.bus.lag {topic}: publish -> receive (cross-node clocks)
+ * - invalidation.bus.reconnects, invalidation.bus.connected (gauge 0/1)
+ */
+@Component
+@Slf4j
+public class InvalidationBus {
+
+    static final String ENTITY_CHANNEL = "entity_changed";
+
+    private record Subscriber(Consumer<String> onMessage, Runnable onResync) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final InvalidationBusProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Node identity, used to skip our own entity events (already applied locally).
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<InvalidationTopic, List<Subscriber>> topicSubscribers = new ConcurrentHashMap<>();
+    private final Map<String, List<Subscriber>> channelSubscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connected = new AtomicInteger();
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public InvalidationBus(JdbcTemplate jdbcTemplate,
+                           DataSourceProperties dataSourceProperties,
+                           InvalidationBusProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("invalidation.bus.connected", connected);
+    }
+
+    // -------------------------------------------------------------------------
+    // Subscribe (call during bean initialization)
+    // -------------------------------------------------------------------------
+
+    /**
+     * Receive entity-change events of one topic (from any node, including this one)
+     *
+     * @param topic    entity topic
+     * @param onEvict  called with the changed key (user ID)
+     * @param onResync called after every (re)connect; must drop all entries
+     */
+    public void subscribe(InvalidationTopic topic, Consumer<UUID> onEvict, Runnable onResync) {
+        requireNotStarted();
+        topicSubscribers.computeIfAbsent(topic, t -> new CopyOnWriteArrayList<>())
+                .add(new Subscriber(key -> onEvict.accept(UUID.fromString(key)), onResync));
+    }
+
+    /**
+     * Receive raw notifications of a channel written by database triggers
+     *
+     * @param channel  NOTIFY channel
+     * @param onNotify called with the notification payload
+     * @param onResync called after every (re)connect
+     */
+    public void subscribeChannel(String channel, Consumer<String> onNotify, Runnable onResync) {
+        requireNotStarted();
+        channelSubscribers.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>())
+                .add(new Subscriber(onNotify, onResync));
+    }
+
+    // -------------------------------------------------------------------------
+    // Publish
+    // -------------------------------------------------------------------------
+
+    /**
+     * Announce that an entity changed
+     * Call inside the write transaction (or after the write, without one).
+     *
+     * @param topic entity topic
+     * @param key   owning user ID
+     */
+    public void publish(InvalidationTopic topic, UUID key) {
+        evictLocal(topic, key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // A concurrent read may have re-cached the old row before commit
+                    evictLocal(topic, key);
+                }
+            });
+        }
+
+        if (properties.isEnabled()) {
+            String payload = topic.name() + "|" + key + "|" + System.currentTimeMillis() + "|" + nodeId;
+            // Same connection as the surrounding transaction: delivered on commit only
+            jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", String.class, ENTITY_CHANNEL, payload);
+        }
+        meterRegistry.counter("invalidation.bus.published", "topic", topic.name()).increment();
+    }
+
+    private void evictLocal(InvalidationTopic topic, UUID key) {
+        for (Subscriber subscriber : topicSubscribers.getOrDefault(topic, List.of())) {
+            subscriber.onMessage().accept(key.toString());
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // LISTEN loop
+    // -------------------------------------------------------------------------
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        listener = Thread.ofPlatform().daemon().name("invalidation-bus-listener").start(this::listen);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void listen() {
+        long backoffMs = properties.getReconnectInitialMs();
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + ENTITY_CHANNEL);
+                    for (String channel : channelSubscribers.keySet()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                }
+                connected.set(1);
+                backoffMs = properties.getReconnectInitialMs();
+                log.info("Invalidation bus listening on {} and {}", ENTITY_CHANNEL, channelSubscribers.keySet());
+
+                // Anything published while we were not listening is lost: resync everyone
+                resyncAll();
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(properties.getPollTimeoutMs());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getName(), notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                connected.set(0);
+                if (!running) {
+                    return;
+                }
+                meterRegistry.counter("invalidation.bus.reconnects").increment();
+                log.warn("Invalidation bus disconnected: {}; reconnecting in {} ms", e.getMessage(), backoffMs);
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, properties.getReconnectMaxMs());
+            }
+        }
+        connected.set(0);
+    }
+
+    private void dispatch(String channel, String payload) {
+        if (!ENTITY_CHANNEL.equals(channel)) {
+            for (Subscriber subscriber : channelSubscribers.getOrDefault(channel, List.of())) {
+                deliver(subscriber, payload);
+            }
+            return;
+        }
+
+        String[] parts = payload.split("\\|");
+        if (parts.length != 4) {
+            log.warn("Ignoring malformed invalidation event: {}", payload);
+            return;
+        }
+        InvalidationTopic topic;
+        try {
+            topic = InvalidationTopic.valueOf(parts[0]);
+        } catch (IllegalArgumentException e) {
+            // Published by a newer node version; nothing here caches it
+            return;
+        }
+
+        meterRegistry.counter("invalidation.bus.received", "topic", topic.name()).increment();
+        Timer.builder("invalidation.bus.lag")
+                .description("Time from publish (commit) to receipt on this node")
+                .tag("topic", topic.name())
+                .register(meterRegistry)
+                .record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - Long.parseLong(parts[2]))));
+
+        if (nodeId.equals(parts[3])) {
+            return; // Already evicted locally at publish and after commit
+        }
+        for (Subscriber subscriber : topicSubscribers.getOrDefault(topic, List.of())) {
+            deliver(subscriber, parts[1]);
+        }
+    }
+
+    private void resyncAll() {
+        topicSubscribers.values().forEach(list -> list.forEach(this::resync));
+        channelSubscribers.values().forEach(list -> list.forEach(this::resync));
+    }
+
+    private void resync(Subscriber subscriber) {
+        try {
+            subscriber.onResync().run();
+        } catch (Exception e) {
+            log.warn("Invalidation bus resync failed: {}", e.getMessage());
+        }
+    }
+
+    private void deliver(Subscriber subscriber, String payload) {
+        try {
+            subscriber.onMessage().accept(payload);
+        } catch (Exception e) {
+            log.warn("Invalidation bus subscriber failed for {}: {}", payload, e.getMessage());
+        }
+    }
+
+    private void requireNotStarted() {
+        if (running) {
+            throw new IllegalStateException("Subscribe during initialization, before the bus starts listening");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.resumeagent.cache;
+
+/**
+ * Entities whose changes are broadcast on the invalidation bus.
+ * The key of an event is always the owning user's ID.
+ */
+public enum InvalidationTopic {
+    /**
+     * users row changed (security version, email status, role).
+     */
+    USER,
+    /**
+     * master_resumes row of a user created, updated or deleted.
+     */
+    MASTER_RESUME
+}
@@ -0,0 +1,83 @@
+package com.resumeagent.cache;
+
+import com.resumeagent.config.EntityCacheProperties;
+import com.resumeagent.entity.MasterResume;
+import com.resumeagent.entity.model.MasterResumeJson;
+import com.resumeagent.repository.MasterResumeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-through cache of deserialized master resumes keyed by user ID
+ * A hit skips both the master_resumes query and the Jackson
+ * deserialization of resume_json (the dominant cost for large resumes).
+ * Versioned by updated_at; evicted through InvalidationBus topic
+ * MASTER_RESUME and written through by MasterResumeService.
+ * IMPORTANT:
+ * The cached MasterResumeJson is shared between requests and must not be
+ * mutated; build a new object to change a resume.
+ */
+@Component
+@RequiredArgsConstructor
+public class MasterResumeCache {
+
+    /**
+     * Cached master resume of one user.
+     *
+     * @param masterResumeId master_resumes.id (for FK references)
+     * @param resumeJson     deserialized resume_json (read-only)
+     * @param updatedAt      master_resumes.updated_at
+     * @param versionNumber  master_resumes.current_version (the version resumeJson is)
+     */
+    public record CachedMasterResume(UUID masterResumeId, MasterResumeJson resumeJson, Instant updatedAt,
+                                     int versionNumber) {
+
+        static CachedMasterResume of(MasterResume masterResume) {
+            return new CachedMasterResume(
+                    masterResume.getId(), masterResume.getResumeJson(), masterResume.getUpdatedAt(),
+                    masterResume.getCurrentVersion());
+        }
+    }
+
+    private final MasterResumeRepository masterResumeRepository;
+    private final EntityCacheProperties properties;
+    private final InvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+
+    private ReadThroughCache<UUID, CachedMasterResume> resumes;
+
+    @PostConstruct
+    void init() {
+        resumes = new ReadThroughCache<>("master-resume", properties.getMasterResumeSize(),
+                Duration.ofMillis(properties.getTtlMs()), CachedMasterResume::updatedAt, meterRegistry);
+        invalidationBus.subscribe(InvalidationTopic.MASTER_RESUME, resumes::invalidate, resumes::invalidateAll);
+    }
+
+    /**
+     * Master resume of a user (database on cache miss)
+     *
+     * @param userId Owner's user ID
+     * @return cached resume, empty if the user has none
+     */
+    public Optional<CachedMasterResume> get(UUID userId) {
+        return resumes.get(userId, id -> masterResumeRepository.findByUserId(id).map(CachedMasterResume::of));
+    }
+
+    /**
+     * Write-through after create/update; call AFTER publishing the
+     * MASTER_RESUME event so the after-commit eviction runs first
+     *
+     * @param userId       Owner's user ID
+     * @param masterResume managed entity just saved
+     */
+    public void putAfterCommit(UUID userId, MasterResume masterResume) {
+        resumes.putAfterCommit(userId, () -> CachedMasterResume.of(masterResume));
+    }
+}
@@ -0,0 +1,125 @@
+package com.resumeagent.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through, write-through cache of versioned entity snapshots
+ * (BoundedTtlCache underneath: size-bounded, per-entry TTL).
+ * CONSISTENCY RULES:
+ * - Read-through: a value loaded while an invalidation ran is discarded
+ *   (epoch check), so a load that raced a commit cannot re-cache the old row
+ * - Write-through: values are installed after the writer commits, and never
+ *   replace a cached value with a newer version (updated_at)
+ * - Other nodes: subscribers of the InvalidationBus call invalidate /
+ *   invalidateAll
+ * METRICS (Micrometer):
+ * - entity.cache.requests {cache, result=hit|miss}: hit ratio = hit / total
+ * - entity.cache.size {cache}
+ *
+ * @param <K> key type
+ * @param <V> cached snapshot type (must be treated as immutable by callers)
+ */
+public class ReadThroughCache<K, V> {
+
+    private final BoundedTtlCache<K, V> entries;
+    private final Function<V, Instant> version;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * @param name          cache name (metric tag)
+     * @param maxSize       maximum entries
+     * @param ttl           safety-net expiry
+     * @param version       snapshot version (updated_at)
+     * @param meterRegistry metrics registry
+     */
+    public ReadThroughCache(String name, int maxSize, Duration ttl,
+                            Function<V, Instant> version, MeterRegistry meterRegistry) {
+        this.entries = new BoundedTtlCache<>(maxSize, ttl);
+        this.version = version;
+        this.hits = meterRegistry.counter("entity.cache.requests", "cache", name, "result", "hit");
+        this.misses = meterRegistry.counter("entity.cache.requests", "cache", name, "result", "miss");
+        Gauge.builder("entity.cache.size", entries, BoundedTtlCache::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cached value, loading (and caching) it on a miss
+     *
+     * @param key    cache key
+     * @param loader database load; empty results are not cached
+     */
+    public Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        V cached = entries.get(key);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+
+        long epoch = invalidations.get();
+        Optional<V> loaded = loader.apply(key);
+        loaded.ifPresent(value -> {
+            if (invalidations.get() != epoch) {
+                return; // an invalidation overlapped the load: value may be stale
+            }
+            entries.put(key, value);
+            // Invalidation between the check and the put: undo
+            if (invalidations.get() != epoch) {
+                entries.invalidate(key);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * Install a freshly written value once the surrounding transaction
+     * commits (immediately without a transaction)
+     *
+     * @param key   cache key
+     * @param value supplier evaluated after commit (e.g. reads the flushed updated_at)
+     */
+    public void putAfterCommit(K key, Supplier<V> value) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    putIfNewer(key, value.get());
+                }
+            });
+        } else {
+            putIfNewer(key, value.get());
+        }
+    }
+
+    public void invalidate(K key) {
+        invalidations.incrementAndGet();
+        entries.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        entries.invalidateAll();
+    }
+
+    private void putIfNewer(K key, V value) {
+        V current = entries.get(key);
+        if (current != null && version.apply(current).isAfter(version.apply(value))) {
+            return;
+        }
+        entries.put(key, value);
+    }
+}
@@ -0,0 +1,88 @@
+package com.resumeagent.cache;
+
+import com.resumeagent.config.EntityCacheProperties;
+import com.resumeagent.entity.User;
+import com.resumeagent.entity.enums.UserPlan;
+import com.resumeagent.entity.enums.UserRole;
+import com.resumeagent.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-through cache of user profile/quota snapshots keyed by user ID
+ * Serves GET /api/user/me style reads without a users query.
+ * Evicted through InvalidationBus topic USER (verification, password
+ * reset, quota usage).
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSnapshotCache {
+
+    /**
+     * Immutable copy of the user columns shown to the user.
+     */
+    public record UserSnapshot(
+            UUID id,
+            String email,
+            String fullName,
+            UserRole role,
+            boolean emailActive,
+            UserPlan plan,
+            int resumeGenerationLimit,
+            int resumeGenerationUsed,
+            Instant updatedAt) {
+
+        static UserSnapshot of(User user) {
+            return new UserSnapshot(
+                    user.getId(),
+                    user.getEmail(),
+                    user.getFullName(),
+                    user.getUserRole(),
+                    user.isEmailActive(),
+                    user.getPlan(),
+                    user.getResumeGenerationLimit(),
+                    user.getResumeGenerationUsed(),
+                    user.getUpdatedAt());
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final EntityCacheProperties properties;
+    private final InvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+
+    private ReadThroughCache<UUID, UserSnapshot> snapshots;
+
+    @PostConstruct
+    void init() {
+        snapshots = new ReadThroughCache<>("user", properties.getUserSnapshotSize(),
+                Duration.ofMillis(properties.getTtlMs()), UserSnapshot::updatedAt, meterRegistry);
+        invalidationBus.subscribe(InvalidationTopic.USER, snapshots::invalidate, snapshots::invalidateAll);
+    }
+
+    /**
+     * Snapshot of a user (database on cache miss)
+     *
+     * @param userId User ID
+     * @return snapshot, empty if the user does not exist
+     */
+    public Optional<UserSnapshot> get(UUID userId) {
+        return snapshots.get(userId, id -> userRepository.findById(id).map(UserSnapshot::of));
+    }
+
+    /**
+     * Write-through: cache the user's new state once the transaction commits
+     *
+     * @param user managed entity just modified
+     */
+    public void putAfterCommit(User user) {
+        snapshots.putAfterCommit(user.getId(), () -> UserSnapshot.of(user));
+    }
+}
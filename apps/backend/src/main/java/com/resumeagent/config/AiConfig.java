@@ -1,24 +1,56 @@
 package com.resumeagent.config;
 
+import com.resumeagent.ai.llm.AgentChatProfiles;
+import com.resumeagent.ai.llm.LlmAgent;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.EnumMap;
 import java.util.Map;
 
 @Configuration
 public class AiConfig {
 
+    /**
+     * OpenRouter attribution headers.
+     * Per-call options replace the client defaults, so every agent profile re-applies these.
+     */
+    public static final Map<String, String> OPENROUTER_HEADERS = Map.of(
+            "HTTP-Referer", "http://localhost",
+            "X-Title", "ResumeAgent"
+    );
+
     @Bean
     ChatClient chatClient(ChatClient.Builder builder) {
         return builder
-                .defaultOptions(OpenAiChatOptions.builder().httpHeaders(Map.of(
-                                        "HTTP-Referer", "http://localhost",
-                                        "X-Title", "ResumeAgent"
-                                ))
+                .defaultOptions(OpenAiChatOptions.builder().httpHeaders(OPENROUTER_HEADERS)
                                 .build()
                 )
                 .build();
     }
+
+    /**
+     * Per-agent option profiles (llm.agents.*).
+     * Options left null fall back to spring.ai.openai.chat.options.*.
+     */
+    @Bean
+    AgentChatProfiles agentChatProfiles(LlmProperties llmProperties) {
+        Map<LlmAgent, OpenAiChatOptions> profiles = new EnumMap<>(LlmAgent.class);
+
+        for (LlmAgent agent : LlmAgent.values()) {
+            LlmProperties.AgentProfile profile = llmProperties.profileFor(agent.getProfileKey());
+
+            OpenAiChatOptions.Builder options = OpenAiChatOptions.builder()
+                    .httpHeaders(OPENROUTER_HEADERS);
+            if (profile != null && profile.getTemperature() != null) {
+                options.temperature(profile.getTemperature());
+            }
+
+            profiles.put(agent, options.build());
+        }
+
+        return new AgentChatProfiles(profiles);
+    }
 }
@@ -0,0 +1,51 @@
+package com.resumeagent.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Email Outbox Dispatcher Configuration
+ * DELIVERY:
+ * - Every poll-interval-ms the dispatcher claims up to batch-size due rows
+ *   and sends them over one SMTP connection
+ * - A claim is a lease of lease-ms; rows of a crashed dispatcher are
+ *   retried once the lease expires
+ * RETRIES:
+ * - Exponential backoff: backoff-initial-ms x 2^(attempt-1), capped at
+ *   backoff-max-ms, plus up to 20% jitter
+ * - After max-attempts the row is marked FAILED
+ */
+@Configuration
+@ConfigurationProperties(prefix = "email-outbox")
+@Validated
+@Getter
+@Setter
+public class EmailOutboxProperties {
+
+    /**
+     * Dispatcher switch (disable on instances that must not send mail).
+     */
+    private boolean enabled = true;
+
+    @Positive
+    private long pollIntervalMs = 1000;
+
+    @Positive
+    private int batchSize = 50;
+
+    @Positive
+    private long leaseMs = 120000;
+
+    @Positive
+    private int maxAttempts = 8;
+
+    @Positive
+    private long backoffInitialMs = 30000;
+
+    @Positive
+    private long backoffMaxMs = 3600000;
+}
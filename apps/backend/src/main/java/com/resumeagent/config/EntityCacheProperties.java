@@ -0,0 +1,32 @@
+package com.resumeagent.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Entity Cache Configuration
+ * In-process caches of user snapshots and deserialized master resumes.
+ * Freshness comes from write-through + InvalidationBus events; ttl-ms is
+ * only a safety net. Master resume entries hold a full MasterResumeJson
+ * tree, so that cache is sized smaller.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "entity-cache")
+@Validated
+@Getter
+@Setter
+public class EntityCacheProperties {
+
+    @Positive
+    private int userSnapshotSize = 10000;
+
+    @Positive
+    private int masterResumeSize = 2000;
+
+    @Positive
+    private long ttlMs = 600000;
+}
@@ -0,0 +1,31 @@
+package com.resumeagent.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.type.format.jackson.JacksonJsonFormatMapper;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JSON Column Configuration
+ * Hibernate serializes @JdbcTypeCode(SqlTypes.JSON) attributes with its own
+ * ObjectMapper by default, which writes LocalDate as [yyyy, m, d] while the
+ * application's ObjectMapper writes ISO strings. JSONB written through JPA,
+ * through jsonb_set section patches and through version deltas must use one
+ * dialect, otherwise JSON Patches computed in the application do not line
+ * up with the stored documents.
+ * NOTE:
+ * Documents and version snapshots written before this setting were
+ * rewritten to ISO dates by V12/V13, so passthrough reads and rebuilt
+ * versions return the same form as the DTO path.
+ */
+@Configuration
+public class HibernateJsonConfig {
+
+    @Bean
+    HibernatePropertiesCustomizer jsonFormatMapperCustomizer(ObjectMapper objectMapper) {
+        return properties -> properties.put(AvailableSettings.JSON_FORMAT_MAPPER,
+                new JacksonJsonFormatMapper(objectMapper));
+    }
+}
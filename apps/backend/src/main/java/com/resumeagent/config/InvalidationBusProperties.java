@@ -0,0 +1,41 @@
+package com.resumeagent.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Cache Invalidation Bus Configuration
+ * The bus holds ONE dedicated (unpooled) PostgreSQL connection in LISTEN
+ * mode. After a failure it reconnects with exponential backoff from
+ * reconnect-initial-ms up to reconnect-max-ms; every (re)connect makes all
+ * subscribers resync, because notifications sent while disconnected are lost.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "invalidation-bus")
+@Validated
+@Getter
+@Setter
+public class InvalidationBusProperties {
+
+    /**
+     * Disable only for single-node setups without PostgreSQL NOTIFY support;
+     * local eviction still happens.
+     */
+    private boolean enabled = true;
+
+    @Positive
+    private long reconnectInitialMs = 500;
+
+    @Positive
+    private long reconnectMaxMs = 30000;
+
+    /**
+     * Maximum block per notification poll (also bounds shutdown latency).
+     */
+    @Positive
+    private int pollTimeoutMs = 5000;
+}
@@ -6,14 +6,20 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * JWT Configuration Properties
  * 
  * Externalizes JWT-related configuration to support environment-specific settings.
- * Uses RS256 (RSA with SHA-256) for asymmetric token signing.
+ * Uses asymmetric token signing: RS256 (default), ES256 or EdDSA (Ed25519).
  * 
  * SECURITY RATIONALE:
  * - Private key signing prevents token forgery
@@ -34,7 +40,39 @@ import jakarta.validation.constraints.Positive;
 public class JwtProperties {
 
     /**
-     * Path to RSA private key (PEM format)
+     * Algorithm of the active signing key
+     *
+     * RS256: RSA-2048 + SHA-256 (default, existing keys)
+     * ES256: ECDSA P-256 + SHA-256 (much faster signing, small signatures)
+     * EdDSA: Ed25519 (fastest signing and verification, deterministic)
+     *
+     * Measured with apps/benchmarks JwtSigningAlgorithmBenchmark.
+     */
+    @NotNull(message = "JWT signing algorithm must be configured")
+    private SigningAlgorithm signingAlgorithm = SigningAlgorithm.RS256;
+
+    /**
+     * Key id (kid header) of the active signing key
+     *
+     * Must change whenever the key pair changes, so tokens signed by the
+     * previous key can still be routed to it (see verificationKeys).
+     */
+    @NotBlank(message = "JWT signing key id must be configured")
+    private String signingKeyId = "rs256-default";
+
+    /**
+     * Previous public keys still accepted for verification, keyed by kid
+     *
+     * KEY ROLLOVER:
+     * 1. Add the current key under its kid here
+     * 2. Point private/public key paths at the new pair, set a new signingKeyId
+     * 3. Remove the old entry once the refresh token lifetime has passed
+     */
+    @Valid
+    private Map<String, VerificationKey> verificationKeys = new LinkedHashMap<>();
+
+    /**
+     * Path to private key (PKCS#8 PEM format, matching signingAlgorithm)
      * Used for signing JWTs
      * 
      * Development: classpath:keys/private_key.pem
@@ -44,7 +82,7 @@ public class JwtProperties {
     private String privateKeyPath;
 
     /**
-     * Path to RSA public key (PEM format)
+     * Path to public key (X.509 PEM format, matching signingAlgorithm)
      * Used for verifying JWT signatures
      * 
      * Development: classpath:keys/public_key.pem
@@ -139,4 +177,83 @@ public class JwtProperties {
      * Set to ".yourdomain.com" for subdomain sharing
      */
     private String cookieDomain = null;
+
+    /**
+     * Maximum number of verified tokens kept in memory
+     *
+     * Repeated requests with the same access token skip signature verification.
+     * Entries expire with the token itself.
+     */
+    @Positive(message = "Verified token cache size must be positive")
+    private int verifiedTokenCacheSize = 10000;
+
+    /**
+     * Maximum number of users whose security state is cached
+     */
+    @Positive(message = "User state cache size must be positive")
+    private int userStateCacheSize = 10000;
+
+    /**
+     * How long a cached user security state is trusted (milliseconds)
+     *
+     * Upper bound for how long another instance keeps accepting tokens
+     * after a password reset or role change.
+     */
+    @Positive(message = "User state cache TTL must be positive")
+    private long userStateCacheTtlMs = 60000; // 1 minute
+
+    /**
+     * Maximum number of unknown refresh-token hashes remembered
+     *
+     * Garbage or already-rotated tokens are answered from memory instead of
+     * hitting refresh_tokens again. Bounded so random tokens cannot grow the heap.
+     */
+    @Positive(message = "Refresh token negative cache size must be positive")
+    private int refreshTokenNegativeCacheSize = 10000;
+
+    /**
+     * How long an unknown refresh-token hash is remembered (milliseconds)
+     */
+    @Positive(message = "Refresh token negative cache TTL must be positive")
+    private long refreshTokenNegativeCacheTtlMs = 300000; // 5 minutes
+
+    /**
+     * Grace window for presenting an already-rotated refresh token (milliseconds)
+     *
+     * Two tabs or parallel 401 retries refresh with the same cookie; the
+     * loser finds the token rotated moments ago. Within this window that is
+     * treated as a benign race (401 only) instead of token reuse (all
+     * sessions revoked).
+     */
+    @PositiveOrZero(message = "Refresh token reuse grace must not be negative")
+    private long refreshTokenReuseGraceMs = 10000; // 10 seconds
+
+    /**
+     * Supported JWS signing algorithms
+     */
+    public enum SigningAlgorithm {
+        RS256,
+        ES256,
+        EdDSA
+    }
+
+    /**
+     * Public key kept for verification during key rollover
+     */
+    @Getter
+    @Setter
+    public static class VerificationKey {
+
+        /**
+         * Algorithm the key was used with (header alg must match)
+         */
+        @NotNull
+        private SigningAlgorithm algorithm = SigningAlgorithm.RS256;
+
+        /**
+         * Path to public key (X.509 PEM format)
+         */
+        @NotBlank
+        private String publicKeyPath;
+    }
 }
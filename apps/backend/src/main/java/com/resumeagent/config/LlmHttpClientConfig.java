@@ -0,0 +1,181 @@
+package com.resumeagent.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpHead;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import javax.net.ssl.SSLSocket;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LLM HTTP Transport Configuration
+ * Spring AI's OpenAI client is built from the auto-configured RestClient.Builder.
+ * Without this config it gets an unpooled default request factory, so every
+ * agent call may pay DNS + TCP + TLS before the first token.
+ * TRANSPORT:
+ * - Apache HttpClient 5 connection pool (LIFO reuse keeps a small warm set)
+ * - Per-route and total limits, bounded pool-acquire wait
+ * - Connect / response timeouts sized for agent completions (llm.http.*)
+ * - Keep-alive + TTL + idle eviction
+ * - gzip/deflate: Accept-Encoding is sent and responses decoded transparently
+ * - Warm-up connections opened at startup
+ * METRICS (Micrometer):
+ * - httpcomponents.httpclient.pool.* {httpclient=llm}: leased, available, pending, max
+ * - llm.http.tls.handshake: TLS handshake time of newly opened connections
+ * - llm.http.connections.opened: new connections (should stay flat when warm)
+ * NOTE:
+ * The classic (blocking) HttpClient 5 API speaks HTTP/1.1 only. HTTP/2 would
+ * require the async client; with pooled keep-alive connections the handshake
+ * cost is already off the critical path.
+ */
+@Configuration
+@Slf4j
+public class LlmHttpClientConfig {
+
+    @Bean(destroyMethod = "close")
+    PoolingHttpClientConnectionManager llmConnectionManager(LlmProperties llmProperties, MeterRegistry meterRegistry) {
+        LlmProperties.Http http = llmProperties.getHttp();
+
+        TlsSocketStrategy timedTls = new TimedTlsSocketStrategy(
+                DefaultClientTlsStrategy.createDefault(),
+                Timer.builder("llm.http.tls.handshake")
+                        .description("TLS handshake time for new LLM connections")
+                        .register(meterRegistry),
+                Counter.builder("llm.http.connections.opened")
+                        .description("New TLS connections opened to the LLM provider")
+                        .register(meterRegistry));
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.getMaxConnections())
+                .setMaxConnPerRoute(http.getMaxConnectionsPerRoute())
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setTlsSocketStrategy(timedTls)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(http.getConnectTimeoutMs()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(http.getResponseTimeoutMs()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(http.getConnectionTtlMs()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "llm")
+                .bindTo(meterRegistry);
+
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    CloseableHttpClient llmHttpClient(PoolingHttpClientConnectionManager llmConnectionManager,
+                                      LlmProperties llmProperties) {
+        LlmProperties.Http http = llmProperties.getHttp();
+
+        return HttpClients.custom()
+                .setConnectionManager(llmConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(http.getPoolAcquireTimeoutMs()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(http.getResponseTimeoutMs()))
+                        .setConnectionKeepAlive(TimeValue.ofMilliseconds(http.getKeepAliveMs()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(http.getIdleEvictMs()))
+                .build();
+    }
+
+    /**
+     * Route every RestClient built from Spring Boot's builder (Spring AI's OpenAI
+     * client is the only one in this application) through the pooled client.
+     */
+    @Bean
+    RestClientCustomizer llmRestClientCustomizer(CloseableHttpClient llmHttpClient) {
+        return builder -> builder.requestFactory(new HttpComponentsClientHttpRequestFactory(llmHttpClient));
+    }
+
+    /**
+     * Open warm-up connections once the application is ready.
+     * Uses lightweight HEAD requests; the status code is irrelevant, only the
+     * established (and pooled) TLS connection matters.
+     */
+    @Bean
+    ApplicationListener<ApplicationReadyEvent> llmConnectionWarmer(
+            CloseableHttpClient llmHttpClient,
+            LlmProperties llmProperties,
+            @Value("${spring.ai.openai.base-url}") String baseUrl) {
+
+        return event -> {
+            int connections = llmProperties.getHttp().getWarmupConnections();
+            if (connections <= 0) {
+                return;
+            }
+
+            // Concurrent requests force distinct connections into the pool
+            try (ExecutorService warmers = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < connections; i++) {
+                    warmers.submit(() -> {
+                        try {
+                            llmHttpClient.execute(new HttpHead(baseUrl), response -> null);
+                        } catch (IOException e) {
+                            log.warn("LLM connection warm-up failed: {}", e.getMessage());
+                        }
+                    });
+                }
+            }
+            log.info("LLM connection pool warmed with {} connection(s)", connections);
+        };
+    }
+
+    /**
+     * Delegating TLS strategy that times handshakes of new connections.
+     */
+    static final class TimedTlsSocketStrategy implements TlsSocketStrategy {
+
+        private final TlsSocketStrategy delegate;
+        private final Timer handshakeTimer;
+        private final Counter connectionsOpened;
+
+        TimedTlsSocketStrategy(TlsSocketStrategy delegate, Timer handshakeTimer, Counter connectionsOpened) {
+            this.delegate = delegate;
+            this.handshakeTimer = handshakeTimer;
+            this.connectionsOpened = connectionsOpened;
+        }
+
+        @Override
+        public SSLSocket upgrade(Socket socket, String target, int port, Object attachment, HttpContext context)
+                throws IOException {
+            long start = System.nanoTime();
+            try {
+                return delegate.upgrade(socket, target, port, attachment, context);
+            } finally {
+                handshakeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                connectionsOpened.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.resumeagent.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LLM Routing Configuration
+ * Externalizes which models serve each agent and how failures are handled.
+ * FAILOVER MODEL:
+ * - Every agent has an ordered model ladder (primary first, fallbacks after)
+ * - Agents without a ladder use llm.default-models
+ * - Each model sits behind its own circuit breaker
+ * - An open breaker is skipped without making a network call (fail fast)
+ * OUTPUT BUDGET:
+ * - max-tokens per agent is derived from historical output sizes in
+ *   resume_agent_logs (percentile x margin), so short stages stop reserving
+ *   a 12k-token completion they never use
+ * - agent max-tokens (if set) acts as the ceiling and as the value used
+ *   until enough history exists
+ */
+@Configuration
+@ConfigurationProperties(prefix = "llm")
+@Validated
+@Getter
+@Setter
+public class LlmProperties {
+
+    /**
+     * Ordered model ladder used by agents without their own profile.
+     * Example: meta-llama/llama-3.3-70b-instruct:free, mistralai/mistral-small-3.1-24b-instruct:free
+     */
+    @NotEmpty(message = "At least one default LLM model must be configured")
+    private List<String> defaultModels = new ArrayList<>();
+
+    /**
+     * Per-agent profiles keyed by LlmAgent.profileKey (e.g. job-description-analyzer).
+     */
+    @Valid
+    private Map<String, AgentProfile> agents = new HashMap<>();
+
+    @Valid
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    @Valid
+    private MaxTokens maxTokens = new MaxTokens();
+
+    @Valid
+    private Http http = new Http();
+
+    /**
+     * Resolve the model ladder for an agent profile key.
+     *
+     * @param profileKey agent profile key
+     * @return ordered list of models to try
+     */
+    public List<String> modelsFor(String profileKey) {
+        AgentProfile profile = agents.get(profileKey);
+        if (profile == null || profile.getModels().isEmpty()) {
+            return defaultModels;
+        }
+        return profile.getModels();
+    }
+
+    /**
+     * Resolve the agent profile for a profile key (null if not configured).
+     */
+    public AgentProfile profileFor(String profileKey) {
+        return agents.get(profileKey);
+    }
+
+    @Getter
+    @Setter
+    public static class AgentProfile {
+
+        /**
+         * Ordered model ladder for this agent (primary first).
+         */
+        private List<String> models = new ArrayList<>();
+
+        /**
+         * Sampling temperature (null = spring.ai.openai.chat.options.temperature).
+         */
+        private Double temperature;
+
+        /**
+         * Completion budget ceiling for this agent
+         * (null = llm.max-tokens.ceiling, used until history is available).
+         */
+        @Positive
+        private Integer maxTokens;
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        /**
+         * Consecutive failures that open the breaker for a model.
+         */
+        @Positive
+        private int failureThreshold = 3;
+
+        /**
+         * How long an open breaker rejects calls before allowing one trial call.
+         */
+        @Positive
+        private long openDurationMs = 30000;
+    }
+
+    @Getter
+    @Setter
+    public static class MaxTokens {
+
+        /**
+         * Derive per-agent max-tokens from resume_agent_logs history.
+         */
+        private boolean deriveFromHistory = true;
+
+        /**
+         * Output-size percentile used as the base budget (0.99 = p99).
+         */
+        @DecimalMin("0.5")
+        @DecimalMax("1.0")
+        private double percentile = 0.99;
+
+        /**
+         * Safety multiplier applied on top of the percentile.
+         */
+        @DecimalMin("1.0")
+        private double margin = 1.25;
+
+        /**
+         * Minimum successful runs before history is trusted.
+         */
+        @Positive
+        private int minSamples = 50;
+
+        /**
+         * History window in days.
+         */
+        @Positive
+        private int lookbackDays = 30;
+
+        /**
+         * Lower bound for a derived budget.
+         */
+        @Positive
+        private int floor = 512;
+
+        /**
+         * Upper bound for a derived budget when the agent has no max-tokens.
+         */
+        @Positive
+        private int ceiling = 12000;
+    }
+
+    @Getter
+    @Setter
+    public static class Http {
+
+        /**
+         * Maximum pooled connections across all routes.
+         */
+        @Positive
+        private int maxConnections = 50;
+
+        /**
+         * Maximum pooled connections per route (OpenRouter is a single route).
+         */
+        @Positive
+        private int maxConnectionsPerRoute = 20;
+
+        /**
+         * TCP connect timeout.
+         */
+        @Positive
+        private long connectTimeoutMs = 5000;
+
+        /**
+         * Maximum wait for a pooled connection before failing (pool saturation).
+         */
+        @Positive
+        private long poolAcquireTimeoutMs = 2000;
+
+        /**
+         * Socket/response timeout; must cover the slowest agent completion.
+         */
+        @Positive
+        private long responseTimeoutMs = 120000;
+
+        /**
+         * Keep-alive used when the server sends no Keep-Alive hint.
+         */
+        @Positive
+        private long keepAliveMs = 120000;
+
+        /**
+         * Maximum lifetime of a pooled connection (forces periodic DNS/TLS refresh).
+         */
+        @Positive
+        private long connectionTtlMs = 600000;
+
+        /**
+         * Idle connections older than this are evicted by a background thread.
+         */
+        @Positive
+        private long idleEvictMs = 90000;
+
+        /**
+         * Connections opened at startup so the first requests skip the TLS handshake.
+         */
+        private int warmupConnections = 4;
+    }
+}
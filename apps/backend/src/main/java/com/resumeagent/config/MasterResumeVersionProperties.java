@@ -0,0 +1,28 @@
+package com.resumeagent.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Master Resume Version Configuration
+ * Every snapshot-interval-th version stores the full document, the others a
+ * JSON Patch delta. Larger intervals save space; reconstruction applies up
+ * to snapshot-interval - 1 patches.
+ * NOTE:
+ * Changing the interval only affects new versions; existing chains stay
+ * valid because reconstruction looks for the nearest stored snapshot.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "master-resume-versions")
+@Validated
+@Getter
+@Setter
+public class MasterResumeVersionProperties {
+
+    @Positive
+    private int snapshotInterval = 10;
+}
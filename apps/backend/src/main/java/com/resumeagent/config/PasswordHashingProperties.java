@@ -0,0 +1,59 @@
+package com.resumeagent.config;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Password Hashing Executor Configuration
+ * BCrypt(12) costs ~250 ms of CPU per hash/verify. Running it on request
+ * threads lets a login storm occupy every Tomcat thread and starve all other
+ * endpoints. Hashing runs on a small dedicated pool instead.
+ * ADMISSION CONTROL:
+ * - threads: CPU-sized worker pool (0 = number of available processors)
+ * - queue-capacity: waiting hash jobs beyond this are rejected immediately
+ * - max-wait-ms: a caller gives up if its job has not finished in time
+ * Rejected/timed-out callers get 503 with Retry-After.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "password-hashing")
+@Validated
+@Getter
+@Setter
+public class PasswordHashingProperties {
+
+    /**
+     * Worker threads (0 = Runtime.availableProcessors()).
+     */
+    @PositiveOrZero
+    private int threads = 0;
+
+    /**
+     * Hash jobs allowed to wait for a worker.
+     */
+    @Positive
+    private int queueCapacity = 64;
+
+    /**
+     * Maximum time a caller waits for its hash (queue wait + hashing).
+     */
+    @Positive
+    private long maxWaitMs = 3000;
+
+    /**
+     * Retry-After (seconds) sent when hashing capacity is exhausted.
+     */
+    @Positive
+    private int retryAfterSeconds = 2;
+
+    /**
+     * Effective worker count.
+     */
+    public int effectiveThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,38 @@
+package com.resumeagent.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Password History Configuration
+ * REUSE CHECK:
+ * Only the newest window-size hashes are compared (each comparison is a
+ * full BCrypt verification, ~250 ms of CPU), so a password reset has a
+ * fixed upper cost no matter how old the account is.
+ * PRUNING:
+ * Rows beyond the window are never read again and are deleted in batches
+ * by PasswordHistoryPruneJob.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "password-history")
+@Validated
+@Getter
+@Setter
+public class PasswordHistoryProperties {
+
+    /**
+     * Newest hashes per user checked for reuse (and kept by pruning).
+     */
+    @Positive
+    private int windowSize = 5;
+
+    /**
+     * Users pruned per prune statement (their surplus rows are deleted together).
+     */
+    @Positive
+    private int pruneBatchSize = 1000;
+}
@@ -0,0 +1,108 @@
+package com.resumeagent.config;
+
+import com.resumeagent.entity.enums.UserPlan;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rate Limit Configuration
+ * Protects the expensive endpoints (BCrypt, SMTP, LLM budget) from a single
+ * abusive client. Limits are enforced in memory by RateLimitFilter, per
+ * application instance, without any database access.
+ * RULE MODEL:
+ * - path: exact request path (e.g. /auth/login)
+ * - key: IP (unauthenticated endpoints) or USER (authenticated endpoints)
+ * - capacity requests per period-seconds, bursting up to capacity
+ * - plan-capacity: per UserPlan override for USER rules
+ */
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+@Validated
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    /**
+     * Master switch (tests / local load testing).
+     */
+    private boolean enabled = true;
+
+    /**
+     * Upper bound on live buckets; beyond it, new keys share one overflow
+     * bucket per rule so memory stays bounded under key-spraying.
+     */
+    @Positive
+    private int maxBuckets = 100000;
+
+    /**
+     * How often fully refilled (idle) buckets are evicted.
+     */
+    @Positive
+    private long evictionIntervalMs = 60000;
+
+    /**
+     * Rules keyed by name (used in logs and the rate.limit.rejected metric).
+     */
+    @Valid
+    private Map<String, Rule> rules = new LinkedHashMap<>();
+
+    public enum KeyType {
+        IP,
+        USER
+    }
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /**
+         * Exact request path.
+         */
+        @NotBlank
+        private String path;
+
+        /**
+         * HTTP method the rule applies to.
+         */
+        @NotBlank
+        private String method = "POST";
+
+        /**
+         * Bucket key: client IP or authenticated user.
+         */
+        @NotNull
+        private KeyType key = KeyType.IP;
+
+        /**
+         * Requests allowed per period (also the burst size).
+         */
+        @Positive
+        private int capacity = 10;
+
+        /**
+         * Refill period in seconds.
+         */
+        @Positive
+        private long periodSeconds = 60;
+
+        /**
+         * Capacity per plan for USER rules (falls back to capacity).
+         */
+        private Map<UserPlan, Integer> planCapacity = new EnumMap<>(UserPlan.class);
+
+        public int capacityFor(UserPlan plan) {
+            return plan != null ? planCapacity.getOrDefault(plan, capacity) : capacity;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.resumeagent.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (maintenance, budget refresh, dispatchers).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,6 +1,7 @@
 package com.resumeagent.config;
 
 import com.resumeagent.security.JwtAuthenticationFilter;
+import com.resumeagent.security.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -47,6 +48,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     /**
      * Security Filter Chain
@@ -74,6 +76,7 @@ public class SecurityConfig {
      * 4. FILTER ORDER:
      * - JwtAuthenticationFilter runs BEFORE UsernamePasswordAuthenticationFilter
      * - Ensures JWT validation happens first
+     * - RateLimitFilter runs right after it (USER rules need the principal)
      * 
      * @param http HttpSecurity builder
      * @return Configured SecurityFilterChain
@@ -92,6 +95,7 @@ public class SecurityConfig {
                         // NOTE: Login is idempotent and doesn't change server state until success
                         .ignoringRequestMatchers(
                                 "/auth/login",
+                                "/auth/refresh",
                                 "/auth/register",
                                 "/auth/verify-email",
                                 "/auth/logout",
@@ -118,6 +122,7 @@ public class SecurityConfig {
                         // Public endpoints (no authentication required)
                         .requestMatchers(
                                 "/auth/login",
+                                "/auth/refresh",
                                 "/auth/register",
                                 "/auth/verify-email",
                                 "/auth/resend-verification",
@@ -128,6 +133,7 @@ public class SecurityConfig {
 
                         // Admin endpoints (role-based)
                         .requestMatchers("/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
                         // All other endpoints require authentication
                         .anyRequest().authenticated())
@@ -135,6 +141,9 @@ public class SecurityConfig {
                 // Add JWT filter before Spring Security's authentication filter
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
 
+                // Throttle expensive endpoints (429 + Retry-After, no DB access)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+
                 // Security Headers (Production Best Practices)
                 .headers(headers -> headers
                         // Prevent clickjacking
@@ -0,0 +1,48 @@
+package com.resumeagent.config;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Token Purge Configuration
+ * TokenPurgeJob deletes dead rows from refresh_tokens,
+ * email_verification_tokens, password_reset_tokens, email_outbox and
+ * revoked_access_tokens.
+ * BATCHING:
+ * - Each DELETE removes at most batch-size rows in its own transaction
+ * - batch-pause-ms between batches lets autovacuum / replicas keep up
+ * - max-batches-per-run bounds one run; the rest waits for the next run
+ * RETENTION:
+ * - Expired tokens: deleted once expired
+ * - Used verification/reset tokens: kept for used-token-retention-ms
+ * - SENT/FAILED outbox emails: kept for outbox-retention-ms
+ */
+@Configuration
+@ConfigurationProperties(prefix = "token-purge")
+@Validated
+@Getter
+@Setter
+public class TokenPurgeProperties {
+
+    private boolean enabled = true;
+
+    @Positive
+    private int batchSize = 5000;
+
+    @PositiveOrZero
+    private long batchPauseMs = 50;
+
+    @Positive
+    private int maxBatchesPerRun = 200;
+
+    @PositiveOrZero
+    private long usedTokenRetentionMs = 86400000;
+
+    @PositiveOrZero
+    private long outboxRetentionMs = 604800000;
+}
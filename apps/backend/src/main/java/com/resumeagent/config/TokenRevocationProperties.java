@@ -0,0 +1,45 @@
+package com.resumeagent.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Access Token Revocation Configuration
+ * BLOOM FILTER:
+ * - Sized for expected-revocations live entries (revoked tokens that have
+ *   not expired yet) at false-positive-rate
+ * - Rebuilt from the database every rebuild-interval-ms, which drops
+ *   expired entries and keeps the false-positive rate near its target
+ * LOOKUPS:
+ * Only filter hits query the database; the answer is cached per jti
+ * (revoked: until token exp; not revoked: negative-cache-ttl-ms).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "token-revocation")
+@Validated
+@Getter
+@Setter
+public class TokenRevocationProperties {
+
+    @Positive
+    private int expectedRevocations = 100000;
+
+    @DecimalMin("0.000001")
+    @DecimalMax("0.5")
+    private double falsePositiveRate = 0.001;
+
+    @Positive
+    private long rebuildIntervalMs = 300000;
+
+    @Positive
+    private int lookupCacheSize = 10000;
+
+    @Positive
+    private long negativeCacheTtlMs = 30000;
+}
@@ -1,12 +1,17 @@
 package com.resumeagent.controller;
 
 import com.resumeagent.dto.request.RegisterAdminAndUserRequest;
+import com.resumeagent.dto.response.AdminMasterResumeSearchResponse;
 import com.resumeagent.dto.response.CommonResponse;
+import com.resumeagent.service.AdminResumeSearchService;
 import com.resumeagent.service.AdminService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
 
 /**
  * AdminController
@@ -24,7 +29,13 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class AdminController {
 
+    /**
+     * Maximum skills (and, separately, organizations) per search.
+     */
+    private static final int MAX_SEARCH_TERMS = 10;
+
     private final AdminService adminService;
+    private final AdminResumeSearchService adminResumeSearchService;
 
     /**
      * Register a new admin user.
@@ -47,4 +58,47 @@ public class AdminController {
         return adminService.registerAdmin(request);
     }
 
+    /**
+     * Find users whose master resume contains all given skills and organizations.
+     * Endpoint: GET /api/admin/master-resumes/search?skill=Java&skill=Kafka&organization=Acme
+     * Responsibilities:
+     * - Normalize terms (trim, drop blanks and duplicates)
+     * - Bound the number of terms (each one adds index probes)
+     * - Delegate the search to AdminResumeSearchService
+     * HTTP Behavior:
+     * - 200 OK with a page of users (total on the first page)
+     * - 400 BAD REQUEST without terms, with too many terms or an invalid cursor
+     * - 403 FORBIDDEN for non-admin users
+     */
+    @GetMapping(value = "/master-resumes/search")
+    public AdminMasterResumeSearchResponse searchMasterResumes(
+            @RequestParam(name = "skill", required = false) List<String> skills,
+            @RequestParam(name = "organization", required = false) List<String> organizations,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        List<String> skillTerms = normalizeTerms(skills);
+        List<String> organizationTerms = normalizeTerms(organizations);
+
+        if (skillTerms.isEmpty() && organizationTerms.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one skill or organization is required");
+        }
+        if (skillTerms.size() > MAX_SEARCH_TERMS || organizationTerms.size() > MAX_SEARCH_TERMS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_SEARCH_TERMS + " skills and " + MAX_SEARCH_TERMS + " organizations are allowed");
+        }
+
+        return adminResumeSearchService.search(skillTerms, organizationTerms, cursor, limit);
+    }
+
+    private static List<String> normalizeTerms(List<String> terms) {
+        if (terms == null) {
+            return List.of();
+        }
+        return terms.stream()
+                .map(String::strip)
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .toList();
+    }
 }
@@ -7,10 +7,10 @@ import com.resumeagent.dto.request.ResetPasswordRequest;
 import com.resumeagent.dto.response.CommonResponse;
 import com.resumeagent.dto.response.LoginResponse;
 import com.resumeagent.dto.response.UserInfoResponse;
+import com.resumeagent.security.AuthenticatedUser;
 import com.resumeagent.service.AuthenticationService;
 import com.resumeagent.service.PasswordResetService;
 import com.resumeagent.service.UserService; // [ADDED]
-import jakarta.mail.MessagingException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -19,10 +19,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus; // [ADDED]
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.IOException;
 
 /**
  * Authentication Controller
@@ -82,6 +81,31 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Refresh endpoint
+     * PUBLIC ENDPOINT (authenticated by the refresh token cookie, not the access token)
+     * Response: { "message": "Token refreshed", "email": "user@example.com" }
+     * Cookies Set: accessToken, refreshToken (rotated)
+     * HTTP STATUS CODES:
+     * - 200 OK: Tokens rotated
+     * - 401 Unauthorized: Refresh token missing, invalid, expired or reused
+     * SECURITY:
+     * - Refresh token is single-use (rotated on every call)
+     * - Reuse of a rotated token revokes all sessions of the user
+     * - Refresh cookie is SameSite=Strict and scoped to this path
+     *
+     * @param httpRequest  HTTP request carrying the refresh cookie
+     * @param httpResponse HTTP response for setting cookies
+     * @return Refresh response
+     */
+    @PostMapping(value = "/refresh")
+    public ResponseEntity<LoginResponse> refresh(
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
+        LoginResponse response = authenticationService.refresh(httpRequest, httpResponse);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Logout endpoint
      * REQUIRES AUTHENTICATION (access token in cookie)
@@ -120,12 +144,12 @@ public class AuthController {
      * - Prevents unauthorized access to other users' data
      * - Account status enforced by Spring Security
      *
-     * @param authentication Spring Security Authentication object (injected)
+     * @param principal Authenticated user built from the access token (injected)
      * @return User information
      */
     @GetMapping(value = "/me")
-    public ResponseEntity<UserInfoResponse> getCurrentUser(Authentication authentication) {
-        UserInfoResponse userInfo = authenticationService.getCurrentUser(authentication);
+    public ResponseEntity<UserInfoResponse> getCurrentUser(@AuthenticationPrincipal AuthenticatedUser principal) {
+        UserInfoResponse userInfo = authenticationService.getCurrentUser(principal);
         return ResponseEntity.ok(userInfo);
     }
 
@@ -192,12 +216,8 @@ public class AuthController {
             @Valid @RequestBody ForgotPasswordRequest request,
             HttpServletRequest httpRequest) {
 
-        try {
-            passwordResetService.createAndSendPasswordResetToken(request.getEmail(), httpRequest);
-        } catch (IOException | MessagingException e) {
-            // Log details server-side but return generic message to client
-            log.error("Failed to send password reset email for {}: {}", request.getEmail(), e.getMessage());
-        }
+        // The email is queued in the outbox; SMTP latency/outages never reach this request
+        passwordResetService.createAndSendPasswordResetToken(request.getEmail(), httpRequest);
 
         CommonResponse resp = CommonResponse.builder()
                 .message("If this email is registered, a password reset link has been sent.")
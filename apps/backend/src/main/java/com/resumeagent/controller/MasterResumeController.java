@@ -1,15 +1,25 @@
 package com.resumeagent.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.resumeagent.dto.request.CreateAndUpdateMasterResume;
 import com.resumeagent.dto.response.CommonResponse;
-import com.resumeagent.dto.response.MasterResumeResponse;
+import com.resumeagent.dto.response.MasterResumeVersionResponse;
+import com.resumeagent.dto.response.MasterResumeVersionSummaryResponse;
+import com.resumeagent.entity.model.MasterResumeSection;
+import com.resumeagent.security.AuthenticatedUser;
 import com.resumeagent.service.MasterResumeService;
+import com.resumeagent.service.MasterResumeVersionService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/master-resume")
@@ -17,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 public class MasterResumeController {
 
     private final MasterResumeService masterResumeService;
+    private final MasterResumeVersionService masterResumeVersionService;
 
     /**
      * Creates a new Master Resume for the authenticated user.
@@ -25,11 +36,10 @@ public class MasterResumeController {
     @PostMapping(value = "/create")
     @ResponseStatus(HttpStatus.CREATED)
     public CommonResponse createMasterResume(
-            Authentication authentication,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @Valid @RequestBody CreateAndUpdateMasterResume request
     ) {
-        String email = authentication.getName();
-        return masterResumeService.createMasterResume(request, email);
+        return masterResumeService.createMasterResume(request, principal);
     }
 
     @PostMapping(
@@ -38,12 +48,10 @@ public class MasterResumeController {
     )
     @ResponseStatus(HttpStatus.CREATED)
     public CommonResponse createMasterResumeFromText(
-            Authentication authentication,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @RequestPart("resume") String resumeText
     ) {
-
-        String email = authentication.getName();
-        return masterResumeService.createMasterResumeFromText(resumeText, email);
+        return masterResumeService.createMasterResumeFromText(resumeText, principal);
     }
 
     /**
@@ -52,21 +60,106 @@ public class MasterResumeController {
     @PutMapping(value = "/update")
     @ResponseStatus(HttpStatus.OK)
     public CommonResponse updateMasterResume(
-            Authentication authentication,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @Valid @RequestBody CreateAndUpdateMasterResume request
     ) {
-        String email = authentication.getName();
-        return masterResumeService.updateMasterResume(request, email);
+        return masterResumeService.updateMasterResume(request, principal);
     }
 
     /**
      * Returns a Master Resume for the authenticated user.
+     * Response: {"resumeJson": {...}}, streamed from the stored jsonb text.
+     */
+    @GetMapping(value = "/view", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getMasterResume(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            HttpServletResponse response
+    ) throws IOException {
+        RawJsonResponse.write(response, "resumeJson", masterResumeService.getMasterResumeJson(principal));
+    }
+
+    /**
+     * Returns one section of the Master Resume, e.g. /sections/coreSkills.
+     * Response: {"coreSkills": {...}}, extracted from the jsonb in SQL.
+     */
+    @GetMapping(value = "/sections/{section}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getSection(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @PathVariable("section") String sectionKey,
+            HttpServletResponse response
+    ) throws IOException {
+        MasterResumeSection section = section(sectionKey);
+        RawJsonResponse.write(response, section.getKey(), masterResumeService.getSectionJson(section, principal));
+    }
+
+    /**
+     * Returns one element of a list section, e.g. /sections/experience/0.
+     */
+    @GetMapping(value = "/sections/{section}/{index}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getSectionItem(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @PathVariable("section") String sectionKey,
+            @PathVariable int index,
+            HttpServletResponse response
+    ) throws IOException {
+        MasterResumeSection section = section(sectionKey);
+        String item = masterResumeService.getSectionItemJson(section, index, principal)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Section item not found"));
+        RawJsonResponse.write(response, section.getKey(), item);
+    }
+
+    /**
+     * Replaces one section of the Master Resume; the body is the new section value.
+     */
+    @PatchMapping(value = "/sections/{section}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public CommonResponse patchSection(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @PathVariable("section") String sectionKey,
+            @RequestBody JsonNode value
+    ) {
+        return masterResumeService.patchSection(section(sectionKey), value, principal);
+    }
+
+    /**
+     * Replaces one existing element of a list section; the body is the new element.
      */
-    @GetMapping(value = "/view")
+    @PatchMapping(value = "/sections/{section}/{index}", consumes = MediaType.APPLICATION_JSON_VALUE)
     @ResponseStatus(HttpStatus.OK)
-    public MasterResumeResponse getMasterResume(Authentication authentication ) {
-        String email = authentication.getName();
-        return masterResumeService.getMasterResume(email);
+    public CommonResponse patchSectionItem(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @PathVariable("section") String sectionKey,
+            @PathVariable int index,
+            @RequestBody JsonNode value
+    ) {
+        MasterResumeSection section = section(sectionKey);
+        if (!masterResumeService.patchSectionItem(section, index, value, principal)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Section item not found");
+        }
+        return CommonResponse.builder()
+                .message("Master resume section updated successfully")
+                .email(principal.email())
+                .build();
+    }
+
+    /**
+     * Lists the latest versions of the Master Resume, newest first (no content).
+     */
+    @GetMapping(value = "/versions")
+    public List<MasterResumeVersionSummaryResponse> listVersions(@AuthenticationPrincipal AuthenticatedUser principal) {
+        return masterResumeVersionService.listVersions(principal);
+    }
+
+    /**
+     * Returns the Master Resume as it was at the given version.
+     */
+    @GetMapping(value = "/versions/{versionNumber}")
+    public MasterResumeVersionResponse getVersion(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @PathVariable int versionNumber
+    ) {
+        return masterResumeVersionService.getVersion(versionNumber, principal)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Version not found"));
     }
 
     /**
@@ -74,8 +167,12 @@ public class MasterResumeController {
      */
     @DeleteMapping(value = "/delete")
     @ResponseStatus(HttpStatus.OK)
-    public CommonResponse deleteMasterResume(Authentication authentication) {
-        String email = authentication.getName();
-        return masterResumeService.deleteMasterResume(email);
+    public CommonResponse deleteMasterResume(@AuthenticationPrincipal AuthenticatedUser principal) {
+        return masterResumeService.deleteMasterResume(principal);
+    }
+
+    private static MasterResumeSection section(String sectionKey) {
+        return MasterResumeSection.fromKey(sectionKey)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown section: " + sectionKey));
     }
 }
@@ -0,0 +1,42 @@
+package com.resumeagent.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes JSON documents read from jsonb columns straight into the response
+ * FLOW:
+ * - PostgreSQL renders the jsonb value as text (column::text)
+ * - The text is wrapped in a one-field envelope, e.g. {"resumeJson": ...},
+ *   so clients see the same shape the DTO-based responses had
+ * - Characters go through the servlet writer into the response buffer
+ * PERFORMANCE:
+ * No message converter, no ObjectMapper and no intermediate object graph;
+ * the only per-request copy of the document is the String from the driver.
+ * SECURITY NOTE:
+ * Only use this for values read from a jsonb column: PostgreSQL guarantees
+ * they are valid JSON, so nothing can break out of the envelope.
+ */
+final class RawJsonResponse {
+
+    private RawJsonResponse() {
+    }
+
+    static void write(HttpServletResponse response, String fieldName, String rawJson) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        Writer writer = response.getWriter();
+        writer.write("{\"");
+        writer.write(fieldName);
+        writer.write("\":");
+        writer.write(rawJson);
+        writer.write('}');
+        writer.flush();
+    }
+}
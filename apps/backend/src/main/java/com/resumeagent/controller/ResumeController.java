@@ -2,14 +2,27 @@ package com.resumeagent.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.resumeagent.dto.response.CommonResponse;
+import com.resumeagent.dto.response.MasterResumeVersionResponse;
+import com.resumeagent.dto.response.ResumeHistoryResponse;
+import com.resumeagent.security.AuthenticatedUser;
+import com.resumeagent.service.MasterResumeVersionService;
 import com.resumeagent.service.ResumeService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.UUID;
 
 @RestController
 @RequestMapping(value = "/api/resume")
@@ -17,14 +30,70 @@ import org.springframework.web.bind.annotation.RestController;
 public class ResumeController {
 
     private final ResumeService resumeService;
+    private final MasterResumeVersionService masterResumeVersionService;
 
     @PostMapping(value = "/generate", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public CommonResponse generateResume(
-            Authentication authentication,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @RequestPart("jobDescription" ) String jobDescription
     ) throws JsonProcessingException {
 
-        String email = authentication.getName();
-        return resumeService.generateResume(jobDescription, email);
+        return resumeService.generateResume(jobDescription, principal);
+    }
+
+    /**
+     * Returns the authenticated user's generated resumes, newest first.
+     * Summaries only (no resume JSON); pass nextCursor back as ?cursor=.
+     */
+    @GetMapping(value = "/history")
+    public ResumeHistoryResponse getHistory(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return resumeService.getHistory(cursor, limit, principal);
+    }
+
+    /**
+     * Searches the authenticated user's resumes by job title, company and
+     * job requirements; every term is a prefix ("back java" finds "Backend
+     * Developer, Java"). Best match first; pass nextCursor back as ?cursor=.
+     */
+    @GetMapping(value = "/search")
+    public ResumeHistoryResponse search(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return resumeService.search(query, cursor, limit, principal);
+    }
+
+    /**
+     * Returns one of the authenticated user's generated resumes.
+     * Response: {"resumeJson": {...}}, streamed from the stored jsonb text.
+     */
+    @GetMapping(value = "/{resumeId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getResume(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @PathVariable UUID resumeId,
+            HttpServletResponse response
+    ) throws IOException {
+        String resumeJson = resumeService.getResumeJson(resumeId, principal)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Resume not found"));
+        RawJsonResponse.write(response, "resumeJson", resumeJson);
+    }
+
+    /**
+     * Returns the Master Resume version this resume was generated from.
+     * 404 for resumes generated before version history existed.
+     */
+    @GetMapping(value = "/{resumeId}/source")
+    public MasterResumeVersionResponse getSource(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @PathVariable UUID resumeId
+    ) {
+        return masterResumeVersionService.getResumeSource(resumeId, principal)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Resume source not found"));
     }
 }
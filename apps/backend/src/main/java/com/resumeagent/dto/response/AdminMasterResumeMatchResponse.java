@@ -0,0 +1,27 @@
+package com.resumeagent.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A user whose master resume matched an admin skill search
+ *
+ * SECURITY NOTE:
+ * Identity fields only; the resume itself is not part of the result.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminMasterResumeMatchResponse {
+
+    private UUID userId;
+    private String email;
+    private String fullName;
+    private Instant masterResumeUpdatedAt;
+}
@@ -0,0 +1,25 @@
+package com.resumeagent.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of GET /api/admin/master-resumes/search
+ *
+ * total is only computed for the first page (no cursor) and is null on
+ * later pages. nextCursor is null on the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminMasterResumeSearchResponse {
+
+    private Long total;
+    private List<AdminMasterResumeMatchResponse> items;
+    private String nextCursor;
+}
@@ -0,0 +1,28 @@
+package com.resumeagent.dto.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A reconstructed master resume version
+ *
+ * Returned from GET /api/master-resume/versions/{versionNumber} and
+ * GET /api/resume/{id}/source.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MasterResumeVersionResponse {
+
+    private UUID id;
+    private int versionNumber;
+    private Instant createdAt;
+    private JsonNode resumeJson;
+}
@@ -0,0 +1,27 @@
+package com.resumeagent.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One entry of GET /api/master-resume/versions
+ *
+ * snapshot tells whether the version is stored in full or as a delta
+ * (informational; every version can be fetched the same way).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MasterResumeVersionSummaryResponse {
+
+    private UUID id;
+    private int versionNumber;
+    private boolean snapshot;
+    private Instant createdAt;
+}
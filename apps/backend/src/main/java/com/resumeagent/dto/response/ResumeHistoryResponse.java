@@ -0,0 +1,24 @@
+package com.resumeagent.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of GET /api/resume/history or GET /api/resume/search
+ *
+ * nextCursor is opaque; pass it back as ?cursor= for the next page.
+ * It is null on the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeHistoryResponse {
+
+    private List<ResumeSummaryResponse> items;
+    private String nextCursor;
+}
@@ -0,0 +1,31 @@
+package com.resumeagent.dto.response;
+
+import com.resumeagent.entity.enums.ResumeStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One entry of the generated-resume history
+ *
+ * Built directly by a JPQL constructor expression, so the JSONB columns
+ * (resume_json, analyzed_job_description) are never selected.
+ * The full resume is fetched separately from GET /api/resume/{id}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeSummaryResponse {
+
+    private UUID id;
+    private String jobTitleTargeted;
+    private String companyTargeted;
+    private ResumeStatus status;
+    private Instant createdAt;
+    private Instant updatedAt;
+}
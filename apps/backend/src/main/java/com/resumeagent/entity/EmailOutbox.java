@@ -0,0 +1,95 @@
+package com.resumeagent.entity;
+
+import com.resumeagent.entity.enums.EmailOutboxStatus;
+import com.resumeagent.entity.enums.EmailType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Queued application email (transactional outbox).
+ * Maps to table: email_outbox
+ */
+@Entity
+@Table(
+        name = "email_outbox",
+        indexes = {
+                @Index(name = "idx_email_outbox_due", columnList = "next_attempt_at")
+        }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+@ToString(exclude = "actionToken")
+public class EmailOutbox implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // -------------------------------------------------------------------------
+    // Primary Key
+    // -------------------------------------------------------------------------
+
+    @Id
+    @GeneratedValue
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    // -------------------------------------------------------------------------
+    // Message
+    // -------------------------------------------------------------------------
+
+    @Column(name = "email_type", nullable = false, length = 30)
+    private EmailType emailType;
+
+    @Column(name = "recipient_email", nullable = false)
+    private String recipientEmail;
+
+    @Column(name = "recipient_name")
+    private String recipientName;
+
+    /**
+     * Verification / reset token embedded in the email link.
+     */
+    @Column(name = "action_token", nullable = false)
+    private String actionToken;
+
+    // -------------------------------------------------------------------------
+    // Delivery State
+    // -------------------------------------------------------------------------
+
+    @Builder.Default
+    @Column(name = "status", nullable = false, length = 20)
+    private EmailOutboxStatus status = EmailOutboxStatus.PENDING;
+
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    /**
+     * When the row is due: first send, next retry, or lease expiry while SENDING.
+     */
+    @Builder.Default
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt = Instant.now();
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    // -------------------------------------------------------------------------
+    // Auditing
+    // -------------------------------------------------------------------------
+
+    @Column(name = "created_at", nullable = false, updatable = false, insertable = false)
+    private Instant createdAt;
+
+    @Column(name = "sent_at")
+    private Instant sentAt;
+}
@@ -91,6 +91,14 @@ public class MasterResume implements Serializable {
     @Column(name = "is_active", nullable = false)
     private boolean active = true;
 
+    /**
+     * Number of the latest row in master_resume_versions.
+     * Maintained in SQL by MasterResumeVersionRepository.recordVersion
+     * (never written through JPA).
+     */
+    @Column(name = "current_version", nullable = false, insertable = false, updatable = false)
+    private int currentVersion;
+
     // -------------------------------------------------------------------------
     // Auditing
     // -------------------------------------------------------------------------
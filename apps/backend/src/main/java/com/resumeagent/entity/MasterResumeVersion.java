@@ -0,0 +1,75 @@
+package com.resumeagent.entity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One revision of a master resume (see V11__master_resume_versions.sql).
+ * Exactly one of snapshot / patch is set:
+ * - snapshot: the full resume_json at this version
+ * - patch:    RFC 6902 JSON Patch from the previous version
+ * Rows are written by MasterResumeVersionRepository.recordVersion in SQL
+ * and are immutable afterwards.
+ */
+@Entity
+@Table(
+        name = "master_resume_versions",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uq_master_resume_versions_number",
+                        columnNames = {"master_resume_id", "version_number"}
+                )
+        }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+@ToString(exclude = {"masterResume", "snapshot", "patch"})
+public class MasterResumeVersion implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(
+            name = "master_resume_id",
+            nullable = false,
+            updatable = false,
+            foreignKey = @ForeignKey(name = "fk_master_resume_versions_master_resume_id")
+    )
+    private MasterResume masterResume;
+
+    @Column(name = "version_number", nullable = false, updatable = false)
+    private int versionNumber;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "snapshot", columnDefinition = "jsonb", updatable = false)
+    private JsonNode snapshot;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "patch", columnDefinition = "jsonb", updatable = false)
+    private JsonNode patch;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    public boolean isSnapshot() {
+        return snapshot != null;
+    }
+}
@@ -12,7 +12,7 @@ import java.util.UUID;
 @Table(
         name = "password_history",
         indexes = {
-                @Index(name = "idx_password_history_user_id", columnList = "user_id"),
+                @Index(name = "idx_password_history_user_created", columnList = "user_id, created_at DESC"),
                 @Index(name = "idx_password_history_created_at", columnList = "created_at DESC")
         }
 )
@@ -17,8 +17,9 @@ import java.util.UUID;
 @Table(
         name = "resumes",
         indexes = {
-                @Index(name = "idx_resumes_user_id", columnList = "user_id"),
+                @Index(name = "idx_resumes_user_created_id", columnList = "user_id, created_at DESC, id DESC"),
                 @Index(name = "idx_resumes_master_resume_id", columnList = "master_resume_id"),
+                @Index(name = "idx_resumes_master_resume_version_id", columnList = "master_resume_version_id"),
                 @Index(name = "idx_resumes_status", columnList = "status"),
                 @Index(name = "idx_resumes_created_at", columnList = "created_at")
         }
@@ -29,7 +30,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(of = "id")
-@ToString(exclude = {"user", "masterResume"})
+@ToString(exclude = {"user", "masterResume", "masterResumeVersion"})
 public class Resume implements Serializable {
 
     @Serial
@@ -77,6 +78,18 @@ public class Resume implements Serializable {
     )
     private MasterResume masterResume;
 
+    /**
+     * Exact master resume version this resume was generated from.
+     * Null for resumes generated before version history existed.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(
+            name = "master_resume_version_id",
+            updatable = false,
+            foreignKey = @ForeignKey(name = "fk_resumes_master_resume_version_id")
+    )
+    private MasterResumeVersion masterResumeVersion;
+
     // -------------------------------------------------------------------------
     // Targeting Metadata
     // -------------------------------------------------------------------------
@@ -69,6 +69,19 @@ public class ResumeAgentLog implements Serializable {
     @Column(name = "agent_name", nullable = false, length = 100)
     private String agentName;
 
+    /**
+     * Model that served this agent run (or the last model attempted on failure).
+     */
+    @Column(name = "model", length = 150)
+    private String model;
+
+    /**
+     * Position of the serving model in the agent's fallback ladder.
+     * 0 = primary model, 1 = first fallback, ...
+     */
+    @Column(name = "fallback_depth")
+    private Integer fallbackDepth;
+
     @Column(name = "tokens_input")
     private Integer tokensInput;
 
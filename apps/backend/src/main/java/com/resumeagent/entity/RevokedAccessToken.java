@@ -0,0 +1,53 @@
+package com.resumeagent.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Access token revoked before its expiry (logout).
+ * Maps to table: revoked_access_tokens
+ * Rows are meaningful only until expiresAt and are purged afterwards.
+ */
+@Entity
+@Table(
+        name = "revoked_access_tokens",
+        indexes = {
+                @Index(name = "idx_revoked_access_tokens_expires", columnList = "expires_at")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(of = "jti")
+@ToString
+public class RevokedAccessToken implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * jti claim of the revoked access token.
+     */
+    @Id
+    @Column(name = "jti", nullable = false, updatable = false, length = 64)
+    private String jti;
+
+    @Column(name = "user_id")
+    private UUID userId;
+
+    /**
+     * exp claim of the token; the row is irrelevant afterwards.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "revoked_at", nullable = false, updatable = false, insertable = false)
+    private Instant revokedAt;
+}
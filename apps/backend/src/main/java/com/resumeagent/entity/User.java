@@ -87,6 +87,14 @@ public class User implements Serializable {
     @Column(name = "is_email_active", nullable = false)
     private boolean emailActive = false;
 
+    /**
+     * Incremented whenever previously issued access tokens must stop working
+     * (password reset, email verification, role change).
+     * Access tokens carry the version they were issued with (claim "sv").
+     */
+    @Column(name = "security_version", nullable = false)
+    private int securityVersion;
+
     // -------------------------------------------------------------------------
     // Auditing
     // -------------------------------------------------------------------------
@@ -112,4 +120,25 @@ public class User implements Serializable {
     protected void onUpdate() {
         this.updatedAt = Instant.now();
     }
+
+    // -------------------------------------------------------------------------
+    // Domain Logic
+    // -------------------------------------------------------------------------
+
+    /**
+     * Invalidate all access tokens issued before this change.
+     */
+    public void bumpSecurityVersion() {
+        this.securityVersion++;
+    }
+
+    /**
+     * Change role; outstanding tokens carry the old role, so they are invalidated.
+     */
+    public void changeRole(UserRole role) {
+        if (this.userRole != role) {
+            this.userRole = role;
+            bumpSecurityVersion();
+        }
+    }
 }
@@ -0,0 +1,15 @@
+package com.resumeagent.entity.converter;
+
+import com.resumeagent.entity.enums.EmailOutboxStatus;
+import jakarta.persistence.Converter;
+
+/**
+ * EmailOutboxStatus <-> DB (uppercase string).
+ * Auto-applied globally (autoApply = true).
+ */
+@Converter(autoApply = true)
+public class EmailOutboxStatusConverter extends AbstractUppercaseEnumConverter<EmailOutboxStatus> {
+    public EmailOutboxStatusConverter() {
+        super(EmailOutboxStatus.class);
+    }
+}
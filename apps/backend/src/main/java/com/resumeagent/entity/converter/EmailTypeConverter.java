@@ -0,0 +1,15 @@
+package com.resumeagent.entity.converter;
+
+import com.resumeagent.entity.enums.EmailType;
+import jakarta.persistence.Converter;
+
+/**
+ * EmailType <-> DB (uppercase string).
+ * Auto-applied globally (autoApply = true).
+ */
+@Converter(autoApply = true)
+public class EmailTypeConverter extends AbstractUppercaseEnumConverter<EmailType> {
+    public EmailTypeConverter() {
+        super(EmailType.class);
+    }
+}
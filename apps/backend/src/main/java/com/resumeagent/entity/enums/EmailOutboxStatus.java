@@ -0,0 +1,13 @@
+package com.resumeagent.entity.enums;
+
+/**
+ * Delivery status of an email_outbox row.
+ * The DB CHECK constraint must match these values:
+ *   CHECK (status IN ('PENDING', 'SENDING', 'SENT', 'FAILED'))
+ */
+public enum EmailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,11 @@
+package com.resumeagent.entity.enums;
+
+/**
+ * Kind of application email queued in email_outbox.
+ * The DB CHECK constraint must match these values:
+ *   CHECK (email_type IN ('VERIFICATION', 'PASSWORD_RESET'))
+ */
+public enum EmailType {
+    VERIFICATION,
+    PASSWORD_RESET
+}
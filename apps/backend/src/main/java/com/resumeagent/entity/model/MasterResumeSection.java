@@ -0,0 +1,71 @@
+package com.resumeagent.entity.model;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Top-level sections of MasterResumeJson that can be read and patched on
+ * their own (GET/PATCH /api/master-resume/sections/{section}).
+ * The key is both the URL segment and the JSON property in resume_json, so
+ * it must stay in sync with the field names of MasterResumeJson.
+ * List sections (itemType != null) also support item-level access by index.
+ */
+public enum MasterResumeSection {
+
+    METADATA("metadata", MasterResumeJson.Metadata.class, null),
+    HEADER("header", MasterResumeJson.Header.class, null),
+    SUMMARY("summary", String.class, null),
+    CORE_SKILLS("coreSkills", MasterResumeJson.CoreSkills.class, null),
+    EXPERIENCE("experience", null, MasterResumeJson.Experience.class),
+    PROJECTS_OR_WORK("projectsOrWork", null, MasterResumeJson.ProjectOrWork.class),
+    EDUCATION("education", null, MasterResumeJson.Education.class),
+    CERTIFICATIONS("certifications", null, MasterResumeJson.Certification.class),
+    AWARDS_AND_HONORS("awardsAndHonors", null, MasterResumeJson.AwardAndHonor.class),
+    PUBLICATIONS("publications", null, MasterResumeJson.Publication.class),
+    VOLUNTEER_EXPERIENCE("volunteerExperience", null, MasterResumeJson.VolunteerExperience.class),
+    LANGUAGES("languages", null, MasterResumeJson.Language.class),
+    PROFESSIONAL_AFFILIATIONS("professionalAffiliations", null, String.class),
+    ADDITIONAL_SECTIONS("additionalSections", null, MasterResumeJson.AdditionalSection.class);
+
+    private static final Map<String, MasterResumeSection> BY_KEY = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(MasterResumeSection::getKey, Function.identity()));
+
+    private final String key;
+    private final Class<?> valueType;
+    private final Class<?> itemType;
+
+    MasterResumeSection(String key, Class<?> valueType, Class<?> itemType) {
+        this.key = key;
+        this.valueType = valueType;
+        this.itemType = itemType;
+    }
+
+    public static Optional<MasterResumeSection> fromKey(String key) {
+        return Optional.ofNullable(BY_KEY.get(key));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Model type of a non-list section (null for list sections).
+     */
+    public Class<?> getValueType() {
+        return valueType;
+    }
+
+    /**
+     * Element type of a list section (null for non-list sections).
+     */
+    public Class<?> getItemType() {
+        return itemType;
+    }
+
+    public boolean isList() {
+        return itemType != null;
+    }
+}
@@ -0,0 +1,66 @@
+package com.resumeagent.exception;
+
+import com.resumeagent.dto.response.CommonResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps application exceptions that need a specific status or headers.
+ * Everything else keeps Spring Boot's default error handling.
+ */
+@RestControllerAdvice
+@Slf4j
+public class GlobalExceptionHandler {
+
+    /**
+     * Overload: tell the client when to retry instead of letting it hang.
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<CommonResponse> handleServiceBusy(ServiceBusyException ex) {
+        log.warn("Request shed: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(CommonResponse.builder()
+                        .message("Service is busy, please retry shortly")
+                        .build());
+    }
+
+    /**
+     * Every model of the agent failed or has an open circuit: retry once one may close.
+     */
+    @ExceptionHandler(LlmUnavailableException.class)
+    public ResponseEntity<CommonResponse> handleLlmUnavailable(LlmUnavailableException ex) {
+        log.warn("LLM unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(CommonResponse.builder()
+                        .message("Resume generation is temporarily unavailable, please retry shortly")
+                        .build());
+    }
+
+    /**
+     * Section patch body that does not deserialize into the section model.
+     */
+    @ExceptionHandler(InvalidSectionValueException.class)
+    public ResponseEntity<CommonResponse> handleInvalidSectionValue(InvalidSectionValueException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(CommonResponse.builder()
+                        .message(ex.getMessage())
+                        .build());
+    }
+
+    /**
+     * Pagination cursor that was not produced by this API.
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<CommonResponse> handleInvalidCursor(InvalidCursorException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(CommonResponse.builder()
+                        .message(ex.getMessage())
+                        .build());
+    }
+}
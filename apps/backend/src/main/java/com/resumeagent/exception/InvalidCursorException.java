@@ -0,0 +1,12 @@
+package com.resumeagent.exception;
+
+/**
+ * Thrown when a pagination cursor cannot be decoded (tampered or truncated).
+ * Mapped to 400 Bad Request.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
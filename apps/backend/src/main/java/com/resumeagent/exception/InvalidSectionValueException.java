@@ -0,0 +1,12 @@
+package com.resumeagent.exception;
+
+/**
+ * Thrown when a master-resume section patch does not match the section's model.
+ * Mapped to 400 Bad Request.
+ */
+public class InvalidSectionValueException extends RuntimeException {
+
+    public InvalidSectionValueException(String message) {
+        super(message);
+    }
+}
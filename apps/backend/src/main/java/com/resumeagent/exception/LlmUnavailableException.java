@@ -0,0 +1,18 @@
+package com.resumeagent.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when every model of an agent's ladder failed or has an open circuit.
+ * Mapped to 503 Service Unavailable with a Retry-After header.
+ */
+@Getter
+public class LlmUnavailableException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public LlmUnavailableException(String message, int retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,96 @@
+package com.resumeagent.repository;
+
+import com.resumeagent.entity.EmailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, UUID> {
+
+    /**
+     * Claim due emails with a lease (one statement, one short transaction)
+     * - PENDING rows whose next attempt is due
+     * - SENDING rows whose lease expired (dispatcher crashed mid-batch)
+     * FOR UPDATE SKIP LOCKED lets several instances dispatch concurrently
+     * without claiming the same row. The lease expiry is stored in
+     * next_attempt_at, so one partial index serves both cases.
+     *
+     * @param now          Current time
+     * @param leaseExpires Lease end for the claimed rows
+     * @param batchSize    Maximum rows claimed
+     * @return Claimed rows (status SENDING, attempts incremented)
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE email_outbox
+            SET status = 'SENDING',
+                attempts = attempts + 1,
+                next_attempt_at = :leaseExpires
+            WHERE id IN (
+                SELECT id
+                FROM email_outbox
+                WHERE status IN ('PENDING', 'SENDING')
+                  AND next_attempt_at <= :now
+                ORDER BY next_attempt_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING *
+            """, nativeQuery = true)
+    List<EmailOutbox> claimDue(@Param("now") Instant now,
+                               @Param("leaseExpires") Instant leaseExpires,
+                               @Param("batchSize") int batchSize);
+
+    /**
+     * Mark delivered emails in one statement.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE email_outbox SET status = 'SENT', sent_at = :sentAt, last_error = NULL WHERE id IN (:ids)",
+            nativeQuery = true)
+    int markSent(@Param("ids") Collection<UUID> ids, @Param("sentAt") Instant sentAt);
+
+    /**
+     * Schedule another attempt after a failed send.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE email_outbox SET status = 'PENDING', next_attempt_at = :nextAttemptAt, last_error = :error " +
+            "WHERE id = :id", nativeQuery = true)
+    int markRetry(@Param("id") UUID id, @Param("nextAttemptAt") Instant nextAttemptAt, @Param("error") String error);
+
+    /**
+     * Give up on an email (attempts exhausted or permanently undeliverable).
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE email_outbox SET status = 'FAILED', last_error = :error WHERE id = :id",
+            nativeQuery = true)
+    int markFailed(@Param("id") UUID id, @Param("error") String error);
+
+    /**
+     * Delete ONE bounded batch of finished emails (TokenPurgeJob)
+     * SENT/FAILED rows still carry their action token; they are kept only
+     * for the retention period.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM email_outbox
+            WHERE ctid = ANY(ARRAY(
+                SELECT ctid FROM email_outbox
+                WHERE status IN ('SENT', 'FAILED')
+                  AND created_at < :before
+                LIMIT :batchSize))
+            """, nativeQuery = true)
+    int deleteFinishedBatch(@Param("before") Instant before, @Param("batchSize") int batchSize);
+}
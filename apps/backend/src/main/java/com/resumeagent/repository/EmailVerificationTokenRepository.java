@@ -2,8 +2,13 @@ package com.resumeagent.repository;
 
 import com.resumeagent.entity.EmailVerificationToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +16,29 @@ import java.util.UUID;
 public interface EmailVerificationTokenRepository extends JpaRepository<EmailVerificationToken, UUID> {
 
     Optional<EmailVerificationToken> findByToken(String token);
+
+    /**
+     * Delete ONE bounded batch of expired or used tokens (TokenPurgeJob)
+     * Used tokens are kept until usedBefore so a second click still gets the
+     * "already verified" answer instead of "invalid token", even when the
+     * token has expired in the meantime (expiry only purges unused tokens).
+     *
+     * @param expiredBefore Unused tokens expired before this are deleted
+     * @param usedBefore    Used tokens consumed before this are deleted
+     * @param batchSize     Maximum rows deleted
+     * @return Number of deleted rows
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM email_verification_tokens
+            WHERE ctid = ANY(ARRAY(
+                SELECT ctid FROM email_verification_tokens
+                WHERE (used = FALSE AND expires_at < :expiredBefore)
+                   OR (used = TRUE AND COALESCE(used_at, expires_at) < :usedBefore)
+                LIMIT :batchSize))
+            """, nativeQuery = true)
+    int deleteExpiredOrUsedBatch(@Param("expiredBefore") Instant expiredBefore,
+                                 @Param("usedBefore") Instant usedBefore,
+                                 @Param("batchSize") int batchSize);
 }
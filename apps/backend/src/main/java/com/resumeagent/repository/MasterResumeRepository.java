@@ -2,9 +2,15 @@ package com.resumeagent.repository;
 
 import com.resumeagent.entity.MasterResume;
 import com.resumeagent.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,4 +22,92 @@ public interface MasterResumeRepository extends JpaRepository<MasterResume, UUID
     boolean existsByUserId(UUID userId);
 
     Optional<MasterResume> findByUser(User user);
+
+    Optional<MasterResume> findByUserId(UUID userId);
+
+    /**
+     * Row lock for full updates: the version delta is diffed against the
+     * loaded document, so no other edit may commit in between
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM MasterResume m WHERE m.user.id = :userId")
+    Optional<MasterResume> findByUserIdForUpdate(@Param("userId") UUID userId);
+
+    @Query("SELECT m.id FROM MasterResume m WHERE m.user.id = :userId")
+    Optional<UUID> findIdByUserId(@Param("userId") UUID userId);
+
+    /**
+     * current_version straight from the row (bypasses the persistence context)
+     */
+    @Query("SELECT m.currentVersion FROM MasterResume m WHERE m.user.id = :userId")
+    Optional<Integer> findCurrentVersionByUserId(@Param("userId") UUID userId);
+
+    /**
+     * resume_json as JSON text, for passthrough reads
+     * PostgreSQL renders the jsonb value and the driver hands it over as a
+     * String; no MasterResumeJson graph is ever built.
+     */
+    @Query(value = "SELECT resume_json::text FROM master_resumes WHERE user_id = :userId", nativeQuery = true)
+    Optional<String> findResumeJsonTextByUserId(@Param("userId") UUID userId);
+
+    /**
+     * One top-level section of resume_json as JSON text ('null' if the
+     * document has no such key, empty if the user has no master resume)
+     */
+    @Query(value = "SELECT COALESCE((resume_json -> :section)::text, 'null') " +
+            "FROM master_resumes WHERE user_id = :userId", nativeQuery = true)
+    Optional<String> findSectionJsonText(@Param("userId") UUID userId, @Param("section") String section);
+
+    /**
+     * One element of a list section as JSON text
+     * (empty if the resume, the section or the index does not exist)
+     */
+    @Query(value = "SELECT (resume_json -> :section -> CAST(:index AS int))::text " +
+            "FROM master_resumes WHERE user_id = :userId", nativeQuery = true)
+    Optional<String> findSectionItemJsonText(@Param("userId") UUID userId,
+                                             @Param("section") String section,
+                                             @Param("index") int index);
+
+    /**
+     * Replace one top-level section in place with jsonb_set
+     * Only the section travels over the wire; the rest of the document is
+     * never read into the JVM.
+     *
+     * @return rows updated (0 = no master resume)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE master_resumes
+            SET resume_json = jsonb_set(resume_json, ARRAY[CAST(:section AS text)], CAST(:value AS jsonb), true),
+                updated_at = :updatedAt
+            WHERE user_id = :userId
+            """, nativeQuery = true)
+    int updateSection(@Param("userId") UUID userId,
+                      @Param("section") String section,
+                      @Param("value") String value,
+                      @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Replace one existing element of a list section with jsonb_set
+     * The CASE guard keeps jsonb_array_length away from non-array values and
+     * stops out-of-range indexes from appending.
+     *
+     * @return rows updated (0 = no master resume, or no element at that index)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE master_resumes
+            SET resume_json = jsonb_set(resume_json, ARRAY[CAST(:section AS text), CAST(:index AS text)],
+                                        CAST(:value AS jsonb), false),
+                updated_at = :updatedAt
+            WHERE user_id = :userId
+              AND CASE WHEN jsonb_typeof(resume_json -> :section) = 'array'
+                       THEN jsonb_array_length(resume_json -> :section)
+                       ELSE 0 END > :index
+            """, nativeQuery = true)
+    int updateSectionItem(@Param("userId") UUID userId,
+                          @Param("section") String section,
+                          @Param("index") int index,
+                          @Param("value") String value,
+                          @Param("updatedAt") Instant updatedAt);
 }
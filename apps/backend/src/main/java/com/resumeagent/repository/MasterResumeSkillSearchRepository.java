@@ -0,0 +1,155 @@
+package com.resumeagent.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.resumeagent.dto.response.AdminMasterResumeMatchResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Admin search over master resumes by skill and organization
+ * QUERY SHAPE:
+ * Every condition is a JSONB containment test against a small document,
+ * e.g. resume_json @> '{"experience":[{"skillsUsed":["Java"]}]}', which the
+ * jsonb_path_ops GIN index idx_master_resumes_resume_json answers directly.
+ * - A skill matches if it appears in any coreSkills category, in any
+ *   experience skillsUsed or in any project skillsUsed (OR of containments,
+ *   planned as a BitmapOr of index scans)
+ * - An organization matches experience or volunteer organizations
+ * - All requested skills and organizations must match (BitmapAnd)
+ * Matching is exact and case-sensitive on array elements / field values,
+ * which is what containment (and therefore the index) supports.
+ * SECURITY NOTE:
+ * The SQL text only varies in the number of terms; every value is bound
+ * as a JSON document parameter, never concatenated.
+ * Dynamic arity is why this is a JdbcTemplate repository and not a
+ * Spring Data @Query.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MasterResumeSkillSearchRepository {
+
+    private static final List<String> CORE_SKILL_CATEGORIES =
+            List.of("technical", "professional", "soft", "tools", "domainSpecific");
+    private static final List<String> SKILL_SECTIONS = List.of("experience", "projectsOrWork");
+    private static final List<String> ORGANIZATION_SECTIONS = List.of("experience", "volunteerExperience");
+
+    /**
+     * @param skills        skills that must all be present
+     * @param organizations organizations that must all be present
+     */
+    public record Criteria(List<String> skills, List<String> organizations) {
+    }
+
+    /**
+     * SQL text and bound parameters of one search query.
+     */
+    record SqlQuery(String sql, MapSqlParameterSource params) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Number of master resumes matching the criteria.
+     */
+    public long count(Criteria criteria) {
+        SqlQuery query = countQuery(criteria);
+        Long count = jdbcTemplate.queryForObject(query.sql(), query.params(), Long.class);
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * One page of matching users, ordered by user ID.
+     *
+     * @param afterUserId last user ID of the previous page (null for the first page)
+     */
+    public List<AdminMasterResumeMatchResponse> find(Criteria criteria, UUID afterUserId, int limit) {
+        SqlQuery query = findQuery(criteria, afterUserId, limit);
+        return jdbcTemplate.query(query.sql(), query.params(), (rs, rowNum) ->
+                AdminMasterResumeMatchResponse.builder()
+                        .userId(rs.getObject("user_id", UUID.class))
+                        .email(rs.getString("email"))
+                        .fullName(rs.getString("full_name"))
+                        .masterResumeUpdatedAt(rs.getTimestamp("updated_at").toInstant())
+                        .build());
+    }
+
+    SqlQuery countQuery(Criteria criteria) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = "SELECT count(*) FROM master_resumes mr WHERE " + predicate(criteria, params);
+        return new SqlQuery(sql, params);
+    }
+
+    SqlQuery findQuery(Criteria criteria, UUID afterUserId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder("""
+                SELECT mr.user_id, u.email, u.full_name, mr.updated_at
+                FROM master_resumes mr
+                JOIN users u ON u.id = mr.user_id
+                WHERE """);
+        sql.append(' ').append(predicate(criteria, params));
+        if (afterUserId != null) {
+            sql.append(" AND mr.user_id > :afterUserId");
+            params.addValue("afterUserId", afterUserId);
+        }
+        sql.append(" ORDER BY mr.user_id LIMIT :limit");
+        params.addValue("limit", limit);
+        return new SqlQuery(sql.toString(), params);
+    }
+
+    /**
+     * AND of one containment group per term (callers guarantee at least one term).
+     */
+    private String predicate(Criteria criteria, MapSqlParameterSource params) {
+        List<String> groups = new ArrayList<>();
+        for (String skill : criteria.skills()) {
+            groups.add(containmentGroup(skillDocuments(skill), params));
+        }
+        for (String organization : criteria.organizations()) {
+            groups.add(containmentGroup(organizationDocuments(organization), params));
+        }
+        return String.join(" AND ", groups);
+    }
+
+    private String containmentGroup(List<ObjectNode> documents, MapSqlParameterSource params) {
+        List<String> tests = new ArrayList<>(documents.size());
+        for (ObjectNode document : documents) {
+            String name = "doc" + params.getParameterNames().length;
+            params.addValue(name, document.toString());
+            tests.add("mr.resume_json @> CAST(:" + name + " AS jsonb)");
+        }
+        return "(" + String.join(" OR ", tests) + ")";
+    }
+
+    private List<ObjectNode> skillDocuments(String skill) {
+        List<ObjectNode> documents = new ArrayList<>();
+        for (String category : CORE_SKILL_CATEGORIES) {
+            ObjectNode document = objectMapper.createObjectNode();
+            document.putObject("coreSkills").putArray(category).add(skill);
+            documents.add(document);
+        }
+        for (String section : SKILL_SECTIONS) {
+            ObjectNode document = objectMapper.createObjectNode();
+            document.putArray(section).addObject().putArray("skillsUsed").add(skill);
+            documents.add(document);
+        }
+        return documents;
+    }
+
+    private List<ObjectNode> organizationDocuments(String organization) {
+        List<ObjectNode> documents = new ArrayList<>();
+        for (String section : ORGANIZATION_SECTIONS) {
+            ObjectNode document = objectMapper.createObjectNode();
+            document.putArray(section).addObject().put("organization", organization);
+            documents.add(document);
+        }
+        return documents;
+    }
+}
@@ -0,0 +1,89 @@
+package com.resumeagent.repository;
+
+import com.resumeagent.dto.response.MasterResumeVersionSummaryResponse;
+import com.resumeagent.entity.MasterResumeVersion;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface MasterResumeVersionRepository extends JpaRepository<MasterResumeVersion, UUID> {
+
+    /**
+     * Append the next version of a user's master resume
+     * One statement: bump master_resumes.current_version (row lock, so
+     * numbers are consecutive under concurrency) and insert the version
+     * with either the current resume_json (snapshot versions 1, 1 + N, ...)
+     * or the given patch. Reads resume_json in SQL, so pending entity
+     * changes are flushed first.
+     *
+     * @param patch JSON Patch from the previous version (ignored for snapshot versions)
+     * @return rows inserted (0 = no master resume)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            WITH bumped AS (
+                UPDATE master_resumes
+                SET current_version = current_version + 1
+                WHERE user_id = :userId
+                RETURNING id, current_version, resume_json
+            )
+            INSERT INTO master_resume_versions (master_resume_id, version_number, snapshot, patch, created_at)
+            SELECT id,
+                   current_version,
+                   CASE WHEN (current_version - 1) % :snapshotInterval = 0 THEN resume_json END,
+                   CASE WHEN (current_version - 1) % :snapshotInterval = 0 THEN NULL
+                        ELSE CAST(:patch AS jsonb) END,
+                   :createdAt
+            FROM bumped
+            """, nativeQuery = true)
+    int recordVersion(@Param("userId") UUID userId,
+                      @Param("patch") String patch,
+                      @Param("snapshotInterval") int snapshotInterval,
+                      @Param("createdAt") Instant createdAt);
+
+    /**
+     * Rows needed to rebuild a version: the nearest snapshot at or below it
+     * and every delta after that snapshot, in version order
+     */
+    @Query("""
+            SELECT v FROM MasterResumeVersion v
+            WHERE v.masterResume.id = :masterResumeId
+              AND v.versionNumber <= :versionNumber
+              AND v.versionNumber >= (
+                  SELECT max(s.versionNumber) FROM MasterResumeVersion s
+                  WHERE s.masterResume.id = :masterResumeId
+                    AND s.versionNumber <= :versionNumber
+                    AND s.snapshot IS NOT NULL)
+            ORDER BY v.versionNumber
+            """)
+    List<MasterResumeVersion> findReconstructionChain(@Param("masterResumeId") UUID masterResumeId,
+                                                      @Param("versionNumber") int versionNumber);
+
+    @Query("""
+            SELECT v.id FROM MasterResumeVersion v
+            WHERE v.masterResume.id = :masterResumeId AND v.versionNumber = :versionNumber
+            """)
+    Optional<UUID> findIdByMasterResumeIdAndVersionNumber(@Param("masterResumeId") UUID masterResumeId,
+                                                          @Param("versionNumber") int versionNumber);
+
+    /**
+     * Latest versions of a user's master resume, newest first (payload columns not selected)
+     */
+    @Query("""
+            SELECT new com.resumeagent.dto.response.MasterResumeVersionSummaryResponse(
+                v.id, v.versionNumber, CASE WHEN v.snapshot IS NOT NULL THEN true ELSE false END, v.createdAt)
+            FROM MasterResumeVersion v
+            WHERE v.masterResume.user.id = :userId
+            ORDER BY v.versionNumber DESC
+            """)
+    List<MasterResumeVersionSummaryResponse> findSummariesByUserId(@Param("userId") UUID userId, Limit limit);
+}
@@ -1,8 +1,13 @@
 package com.resumeagent.repository;
 
 import com.resumeagent.entity.PasswordHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -10,5 +15,69 @@ import java.util.UUID;
 @Repository
 public interface PasswordHistoryRepository extends JpaRepository<PasswordHistory, UUID> {
     List<PasswordHistory> findByUserId(UUID userId);
-}
 
+    /**
+     * Newest password hashes of a user (reuse-check window)
+     * Served by idx_password_history_user_created (user_id, created_at DESC):
+     * reads exactly limit index entries.
+     *
+     * @param userId User ID
+     * @param limit  Window size
+     * @return Hashes, newest first
+     */
+    @Query("SELECT ph.passwordHash FROM PasswordHistory ph WHERE ph.user.id = :userId ORDER BY ph.createdAt DESC")
+    List<String> findRecentHashes(@Param("userId") UUID userId, Limit limit);
+
+    /**
+     * Next users (in user_id order) that have more than keep history rows
+     * PERFORMANCE:
+     * Grouped straight off idx_password_history_user_created (index order =
+     * user_id order, no sort); LIMIT stops the scan once enough users are
+     * found, and afterUserId resumes it, so a full prune reads the index once.
+     *
+     * @param keep        Rows kept per user
+     * @param afterUserId Last user of the previous batch (all-zero UUID to start)
+     * @param limit       Maximum users returned
+     * @return User IDs, ascending
+     */
+    @Query(value = """
+            SELECT user_id
+            FROM password_history
+            WHERE user_id > :afterUserId
+            GROUP BY user_id
+            HAVING count(*) > :keep
+            ORDER BY user_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UUID> findUsersOverWindow(@Param("keep") int keep,
+                                   @Param("afterUserId") UUID afterUserId,
+                                   @Param("limit") int limit);
+
+    /**
+     * Delete the given users' rows outside their newest keep rows
+     * Each user's rows are read through idx_password_history_user_created
+     * (newest first, skipping keep); no other user's rows are touched.
+     *
+     * @param userIds Users to prune (from findUsersOverWindow)
+     * @param keep    Rows kept per user
+     * @return Number of rows deleted
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM password_history
+            WHERE id IN (
+                SELECT old.id
+                FROM users u
+                CROSS JOIN LATERAL (
+                    SELECT ph.id
+                    FROM password_history ph
+                    WHERE ph.user_id = u.id
+                    ORDER BY ph.created_at DESC, ph.id
+                    OFFSET :keep
+                ) old
+                WHERE u.id IN (:userIds)
+            )
+            """, nativeQuery = true)
+    int deleteOutsideWindow(@Param("userIds") List<UUID> userIds, @Param("keep") int keep);
+}
@@ -1,9 +1,16 @@
 package com.resumeagent.repository;
 
 import com.resumeagent.entity.PasswordResetTokens;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,6 +18,26 @@ import java.util.UUID;
 @Repository
 public interface PasswordResetTokensRepository extends JpaRepository<PasswordResetTokens, UUID> {
     Optional<PasswordResetTokens> findByToken(String token);
+
+    // Row lock for the reset write transaction (one token, one reset)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM PasswordResetTokens t WHERE t.token = :token")
+    Optional<PasswordResetTokens> findByTokenForUpdate(@Param("token") String token);
     List<PasswordResetTokens> findByUserIdAndUsedFalse(UUID userId);
     void deleteByUserId(UUID userId);
+
+    // One bounded batch of expired unused or long-used tokens (TokenPurgeJob), TID-scan delete
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM password_reset_tokens
+            WHERE ctid = ANY(ARRAY(
+                SELECT ctid FROM password_reset_tokens
+                WHERE (used = FALSE AND expires_at < :expiredBefore)
+                   OR (used = TRUE AND COALESCE(used_at, expires_at) < :usedBefore)
+                LIMIT :batchSize))
+            """, nativeQuery = true)
+    int deleteExpiredOrUsedBatch(@Param("expiredBefore") Instant expiredBefore,
+                                 @Param("usedBefore") Instant usedBefore,
+                                 @Param("batchSize") int batchSize);
 }
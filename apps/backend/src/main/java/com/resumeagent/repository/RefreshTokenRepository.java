@@ -2,6 +2,7 @@ package com.resumeagent.repository;
 
 import com.resumeagent.entity.RefreshToken;
 import com.resumeagent.entity.User;
+import com.resumeagent.repository.projection.RotatedRefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -31,11 +32,87 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID
      * Raw token from cookie is hashed then matched against database
      * If attacker compromises database, hashed tokens are useless
      * 
-     * @param tokenHash BCrypt hash of refresh token
+     * @param tokenHash SHA-256 hash of refresh token
      * @return Optional containing token if found
      */
     Optional<RefreshToken> findByTokenHash(String tokenHash);
 
+    /**
+     * Find a usable (non-revoked, non-expired) refresh token by hashed value
+     * PERFORMANCE:
+     * - Single index probe on the UNIQUE token_hash index (O(log n))
+     * - Expiry and revocation evaluated in the same query
+     * - Owner fetched in the same round trip (callers log / rotate for the user)
+     *
+     * @param tokenHash SHA-256 hash of refresh token
+     * @param now       Current timestamp
+     * @return Optional containing token if found and active
+     */
+    @Query("SELECT rt FROM RefreshToken rt JOIN FETCH rt.user " +
+            "WHERE rt.tokenHash = :tokenHash AND rt.revoked = false AND rt.expiresAt > :now")
+    Optional<RefreshToken> findActiveByTokenHash(String tokenHash, Instant now);
+
+    /**
+     * Rotate a refresh token in ONE statement (one round trip, one short transaction)
+     * ROTATION:
+     * 1. Revoke the presented token if it is still active and its owner's
+     *    email is verified, link it to its successor
+     * 2. Insert the successor for the same user (only if step 1 matched a row)
+     * 3. Return the owner's fields needed for the new access token
+     * An empty result means the presented token is unknown, expired, already
+     * rotated/revoked (the caller decides whether that is token reuse) or
+     * owned by a user whose email is not verified (token left untouched).
+     * CONCURRENCY:
+     * Two concurrent refreshes with the same token serialize on the row lock;
+     * the loser re-checks "revoked = false", matches nothing and gets no result.
+     *
+     * @param oldTokenHash SHA-256 hash of the presented token
+     * @param newTokenId   ID for the successor row (generated by the caller)
+     * @param newTokenHash SHA-256 hash of the successor token
+     * @param newExpiresAt Successor expiry
+     * @param ipAddress    Client IP for the successor session
+     * @param userAgent    Client user agent for the successor session
+     * @param now          Current timestamp
+     * @return Owner of the rotated token, if rotation happened
+     */
+    @Transactional
+    @Query(value = """
+            WITH rotated AS (
+                UPDATE refresh_tokens
+                SET revoked = TRUE,
+                    revoked_at = :now,
+                    last_used_at = :now,
+                    replaced_by_token_id = :newTokenId
+                WHERE token_hash = :oldTokenHash
+                  AND revoked = FALSE
+                  AND expires_at > :now
+                  AND EXISTS (SELECT 1 FROM users u
+                              WHERE u.id = refresh_tokens.user_id AND u.is_email_active)
+                RETURNING user_id
+            ),
+            successor AS (
+                INSERT INTO refresh_tokens (id, user_id, token_hash, expires_at, revoked, ip_address, user_agent)
+                SELECT :newTokenId, user_id, :newTokenHash, :newExpiresAt, FALSE, :ipAddress, :userAgent
+                FROM rotated
+                RETURNING user_id
+            )
+            SELECT u.id              AS "userId",
+                   u.email           AS "email",
+                   u.user_role       AS "userRole",
+                   u.plan            AS "plan",
+                   u.security_version AS "securityVersion"
+            FROM successor s
+            JOIN users u ON u.id = s.user_id
+            """, nativeQuery = true)
+    Optional<RotatedRefreshToken> rotate(
+            String oldTokenHash,
+            UUID newTokenId,
+            String newTokenHash,
+            Instant newExpiresAt,
+            String ipAddress,
+            String userAgent,
+            Instant now);
+
     /**
      * Find all active (non-revoked, non-expired) refresh tokens for a user
      * Used for:
@@ -54,11 +131,14 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID
      * - Logout (optional: can also just delete single token)
      * - Account deletion
      * - Security breach response (force re-authentication)
+     * Executed as one bulk DELETE (not entity-by-entity) so a rotation chain
+     * is removed in a single statement.
      * 
      * @param user User entity
      */
     @Transactional
     @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.user = :user")
     void deleteByUser(User user);
 
     /**
@@ -74,6 +154,27 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID
     @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :timestamp")
     int deleteExpiredTokens(Instant timestamp);
 
+    /**
+     * Delete ONE bounded batch of expired refresh tokens (TokenPurgeJob)
+     * Revoked-but-unexpired rows are kept: rotation reuse detection needs them.
+     * ctid = ANY(ARRAY(...)) deletes the selected physical rows with a TID
+     * scan, so each batch is a short transaction with bounded locks and WAL.
+     *
+     * @param cutoff    Tokens expired before this are deleted
+     * @param batchSize Maximum rows deleted
+     * @return Number of deleted rows (less than batchSize when done)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM refresh_tokens
+            WHERE ctid = ANY(ARRAY(
+                SELECT ctid FROM refresh_tokens
+                WHERE expires_at < :cutoff
+                LIMIT :batchSize))
+            """, nativeQuery = true)
+    int deleteExpiredBatch(Instant cutoff, int batchSize);
+
     /**
      * Count active tokens for a user
      * Used for:
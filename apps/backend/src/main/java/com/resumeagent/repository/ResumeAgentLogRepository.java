@@ -1,11 +1,18 @@
 package com.resumeagent.repository;
 
 import com.resumeagent.entity.MasterResume;
+import com.resumeagent.entity.Resume;
 import com.resumeagent.entity.ResumeAgentLog;
 import com.resumeagent.entity.User;
+import com.resumeagent.repository.projection.AgentOutputTokenStats;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,4 +24,38 @@ public interface ResumeAgentLogRepository extends JpaRepository<ResumeAgentLog,
     boolean existsByUserId(UUID userId);
 
     Optional<ResumeAgentLog> findByUser(User user);
+
+    /**
+     * Link already persisted agent runs to the resume they produced.
+     * Flushes first so the resume row exists when the FK is written.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ResumeAgentLog l SET l.resume = :resume WHERE l.id IN :ids")
+    int linkToResume(@Param("ids") List<UUID> ids, @Param("resume") Resume resume);
+
+    /**
+     * Output-size percentile per agent over every run that produced a completion.
+     * Used to derive per-agent max-tokens (see AgentTokenBudget).
+     * Failed runs are included: a completion cut off by max-tokens fails to
+     * parse, and leaving it out would bias the percentile (and therefore the
+     * next budget) downwards. Older failure rows logged 0 output tokens and
+     * are skipped. Served by idx_agent_logs_created_at for the time window.
+     *
+     * @param percentile fraction between 0 and 1 (e.g. 0.99)
+     * @param since      only runs created at or after this instant
+     * @return one row per agent name
+     */
+    @Query(value = """
+            SELECT agent_name AS "agentName",
+                   COUNT(*) AS "samples",
+                   percentile_cont(:percentile) WITHIN GROUP (ORDER BY tokens_output) AS "percentileTokens"
+            FROM resume_agent_logs
+            WHERE tokens_output IS NOT NULL
+              AND (status = 'SUCCESS' OR tokens_output > 0)
+              AND created_at >= :since
+            GROUP BY agent_name
+            """, nativeQuery = true)
+    List<AgentOutputTokenStats> findOutputTokenStats(
+            @Param("percentile") double percentile,
+            @Param("since") Instant since);
 }
@@ -1,11 +1,18 @@
 package com.resumeagent.repository;
 
-import com.resumeagent.entity.MasterResume;
+import com.resumeagent.dto.response.ResumeSummaryResponse;
+import com.resumeagent.entity.MasterResumeVersion;
 import com.resumeagent.entity.Resume;
 import com.resumeagent.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,5 +23,108 @@ public interface ResumeRepository extends JpaRepository<Resume, UUID> {
 
     boolean existsByUserId(UUID userId);
 
-    Optional<Resume> findByUser(User user);
+    /**
+     * resume_json of one of the user's resumes as JSON text, for passthrough reads
+     * Filtering on user_id makes another user's resume indistinguishable
+     * from a missing one.
+     */
+    @Query(value = "SELECT resume_json::text FROM resumes WHERE id = :id AND user_id = :userId", nativeQuery = true)
+    Optional<String> findResumeJsonTextByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    /**
+     * Master resume version a resume was generated from (empty for other
+     * users' resumes and for resumes that predate version history)
+     */
+    @Query("""
+            SELECT v FROM Resume r JOIN r.masterResumeVersion v
+            WHERE r.id = :id AND r.user.id = :userId
+            """)
+    Optional<MasterResumeVersion> findMasterResumeVersion(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    /**
+     * First page of a user's resume history, newest first
+     * Projection only: the JSONB columns are never selected
+     * (see V8__resume_history_index.sql for the covering index).
+     */
+    @Query("""
+            SELECT new com.resumeagent.dto.response.ResumeSummaryResponse(
+                r.id, r.jobTitleTargeted, r.companyTargeted, r.status, r.createdAt, r.updatedAt)
+            FROM Resume r
+            WHERE r.user.id = :userId
+              AND r.status <> com.resumeagent.entity.enums.ResumeStatus.DELETED
+            ORDER BY r.createdAt DESC, r.id DESC
+            """)
+    List<ResumeSummaryResponse> findHistory(@Param("userId") UUID userId, Limit limit);
+
+    /**
+     * Next page after (createdAt, id), newest first
+     * The row-value comparison is an index range condition on
+     * (user_id, created_at DESC, id DESC): no OFFSET, no rows skipped.
+     */
+    @Query("""
+            SELECT new com.resumeagent.dto.response.ResumeSummaryResponse(
+                r.id, r.jobTitleTargeted, r.companyTargeted, r.status, r.createdAt, r.updatedAt)
+            FROM Resume r
+            WHERE r.user.id = :userId
+              AND (r.createdAt, r.id) < (:createdAt, :id)
+              AND r.status <> com.resumeagent.entity.enums.ResumeStatus.DELETED
+            ORDER BY r.createdAt DESC, r.id DESC
+            """)
+    List<ResumeSummaryResponse> findHistoryAfter(@Param("userId") UUID userId,
+                                                 @Param("createdAt") Instant createdAt,
+                                                 @Param("id") UUID id,
+                                                 Limit limit);
+
+    /**
+     * Summaries for a set of resume IDs (order is not preserved)
+     */
+    @Query("""
+            SELECT new com.resumeagent.dto.response.ResumeSummaryResponse(
+                r.id, r.jobTitleTargeted, r.companyTargeted, r.status, r.createdAt, r.updatedAt)
+            FROM Resume r
+            WHERE r.id IN :ids
+            """)
+    List<ResumeSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * First page of a full-text search over the user's resumes
+     * Each row is {id (UUID), rank (Float)}, best match first. Matching is
+     * served by idx_resumes_user_search (GIN on user_id, search_vector).
+     *
+     * @param query to_tsquery('simple', ...) text (see ResumeSearchQuery)
+     */
+    @Query(value = """
+            SELECT r.id, ts_rank_cd(r.search_vector, q.query) AS rank
+            FROM resumes r, to_tsquery('simple', :query) AS q(query)
+            WHERE r.user_id = :userId
+              AND r.status <> 'DELETED'
+              AND r.search_vector @@ q.query
+            ORDER BY rank DESC, r.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Object[]> searchRanked(@Param("userId") UUID userId,
+                                @Param("query") String query,
+                                @Param("limit") int limit);
+
+    /**
+     * Next page of a full-text search after (rank, id)
+     */
+    @Query(value = """
+            SELECT hits.id, hits.rank
+            FROM (
+                SELECT r.id, ts_rank_cd(r.search_vector, q.query) AS rank
+                FROM resumes r, to_tsquery('simple', :query) AS q(query)
+                WHERE r.user_id = :userId
+                  AND r.status <> 'DELETED'
+                  AND r.search_vector @@ q.query
+            ) hits
+            WHERE (hits.rank, hits.id) < (CAST(:rank AS real), :id)
+            ORDER BY hits.rank DESC, hits.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Object[]> searchRankedAfter(@Param("userId") UUID userId,
+                                     @Param("query") String query,
+                                     @Param("rank") float rank,
+                                     @Param("id") UUID id,
+                                     @Param("limit") int limit);
 }
@@ -0,0 +1,58 @@
+package com.resumeagent.repository;
+
+import com.resumeagent.entity.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, String> {
+
+    /**
+     * Record a revoked access token (idempotent: a second logout with the
+     * same token is a no-op). The insert trigger publishes the jti via NOTIFY.
+     *
+     * @return 1 if inserted, 0 if already revoked
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO revoked_access_tokens (jti, user_id, expires_at)
+            VALUES (:jti, :userId, :expiresAt)
+            ON CONFLICT (jti) DO NOTHING
+            """, nativeQuery = true)
+    int revoke(@Param("jti") String jti, @Param("userId") UUID userId, @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * Exact check behind a Bloom filter hit.
+     */
+    @Query("SELECT COUNT(r) > 0 FROM RevokedAccessToken r WHERE r.jti = :jti AND r.expiresAt > :now")
+    boolean isRevoked(@Param("jti") String jti, @Param("now") Instant now);
+
+    /**
+     * jti values still relevant (Bloom filter rebuild).
+     */
+    @Query("SELECT r.jti FROM RevokedAccessToken r WHERE r.expiresAt > :now")
+    List<String> findActiveJtis(@Param("now") Instant now);
+
+    /**
+     * Delete ONE bounded batch of rows whose token has expired (TokenPurgeJob).
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM revoked_access_tokens
+            WHERE ctid = ANY(ARRAY(
+                SELECT ctid FROM revoked_access_tokens
+                WHERE expires_at < :cutoff
+                LIMIT :batchSize))
+            """, nativeQuery = true)
+    int deleteExpiredBatch(@Param("cutoff") Instant cutoff, @Param("batchSize") int batchSize);
+}
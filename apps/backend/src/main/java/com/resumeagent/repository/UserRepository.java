@@ -1,6 +1,8 @@
 package com.resumeagent.repository;
 
 import com.resumeagent.entity.User;
+import com.resumeagent.repository.projection.ResumeGenerationUsage;
+import com.resumeagent.repository.projection.UserSecurityState;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
@@ -50,5 +52,38 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Query("SELECT u FROM User u WHERE u.email = :email")
     Optional<User> findByEmailForUpdate(@Param("email") String email);
 
+    /**
+     * Find user by ID with pessimistic lock
+     * Used when the authenticated principal already carries the user ID
+     * (e.g. resume generation quota check)
+     *
+     * @param id User ID
+     * @return Optional containing user if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") UUID id);
+
+    /**
+     * Load only the state needed to accept an access token
+     * Used by UserStateCache on cache miss
+     *
+     * @param id User ID
+     * @return Optional containing security state if user exists
+     */
+    @Query("SELECT u.securityVersion AS securityVersion, u.emailActive AS emailActive, u.userRole AS userRole " +
+            "FROM User u WHERE u.id = :id")
+    Optional<UserSecurityState> findSecurityStateById(@Param("id") UUID id);
+
+    /**
+     * Load only the monthly generation counters (no lock, no entity)
+     * Used for the quota pre-check before the resume generation pipeline
+     *
+     * @param id User ID
+     * @return Optional containing the counters if user exists
+     */
+    @Query("SELECT u.usageMonth AS usageMonth, u.resumeGenerationUsed AS resumeGenerationUsed, " +
+            "u.resumeGenerationLimit AS resumeGenerationLimit FROM User u WHERE u.id = :id")
+    Optional<ResumeGenerationUsage> findResumeGenerationUsageById(@Param("id") UUID id);
 
 }
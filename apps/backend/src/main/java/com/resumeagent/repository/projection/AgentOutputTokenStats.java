@@ -0,0 +1,13 @@
+package com.resumeagent.repository.projection;
+
+/**
+ * Output-size statistics per agent, read from resume_agent_logs.
+ */
+public interface AgentOutputTokenStats {
+
+    String getAgentName();
+
+    Long getSamples();
+
+    Double getPercentileTokens();
+}
@@ -0,0 +1,16 @@
+package com.resumeagent.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Monthly resume generation counters of a user (quota pre-check before the
+ * AI pipeline, read without a lock).
+ */
+public interface ResumeGenerationUsage {
+
+    LocalDate getUsageMonth();
+
+    int getResumeGenerationUsed();
+
+    int getResumeGenerationLimit();
+}
@@ -0,0 +1,20 @@
+package com.resumeagent.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Owner of a refresh token that was rotated in a single statement
+ * (RefreshTokenRepository.rotate). Carries only what a new access token needs.
+ */
+public interface RotatedRefreshToken {
+
+    UUID getUserId();
+
+    String getEmail();
+
+    String getUserRole();
+
+    String getPlan();
+
+    Integer getSecurityVersion();
+}
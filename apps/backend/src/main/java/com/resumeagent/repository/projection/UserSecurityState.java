@@ -0,0 +1,16 @@
+package com.resumeagent.repository.projection;
+
+import com.resumeagent.entity.enums.UserRole;
+
+/**
+ * Minimal user state needed to accept an access token (no password hash,
+ * no usage counters).
+ */
+public interface UserSecurityState {
+
+    int getSecurityVersion();
+
+    boolean isEmailActive();
+
+    UserRole getUserRole();
+}
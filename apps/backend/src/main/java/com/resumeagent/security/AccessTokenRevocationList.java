@@ -0,0 +1,214 @@
+package com.resumeagent.security;
+
+import com.resumeagent.cache.BloomFilter;
+import com.resumeagent.cache.BoundedTtlCache;
+import com.resumeagent.cache.InvalidationBus;
+import com.resumeagent.config.TokenRevocationProperties;
+import com.resumeagent.repository.RevokedAccessTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Revocation list for access tokens, keyed by jti
+ * HOT PATH (every authenticated request):
+ * - Bloom filter says "not revoked" -> accept, no query (almost every request)
+ * - Filter hit -> cached answer, or one primary-key lookup in
+ *   revoked_access_tokens (real revocation or a ~0.1% false positive)
+ * CONSISTENCY ACROSS NODES:
+ * - revoke() inserts the row; its trigger NOTIFYs 'access_token_revoked'
+ *   after commit, and every node (this one included) adds the jti to its
+ *   filter through the InvalidationBus
+ * - The filter is rebuilt from the table at startup, periodically and
+ *   after every (re)connect of the bus, so notifications missed while
+ *   disconnected are recovered
+ * - Adds and the filter swap are serialized by swapLock, so a jti added
+ *   while a rebuild runs always ends up in the filter that is swapped in
+ *   (the table query runs outside the lock)
+ * EXPIRY:
+ * Rows carry the token's exp. Expired jti values leave the filter at the
+ * next rebuild and the table at the next TokenPurgeJob run; an expired
+ * token is rejected by signature verification anyway.
+ * SECURITY NOTE:
+ * A failing database lookup on a filter hit throws, and the authentication
+ * filter fails closed (request unauthenticated).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccessTokenRevocationList {
+
+    static final String CHANNEL = "access_token_revoked";
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final TokenRevocationProperties properties;
+    private final InvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+
+    private volatile BloomFilter filter;
+
+    /**
+     * Filter being rebuilt; adds during a rebuild go to both filters.
+     * Guarded by swapLock (together with the assignment of filter).
+     */
+    private BloomFilter nextFilter;
+
+    private final ReentrantLock swapLock = new ReentrantLock();
+
+    /**
+     * One rebuild at a time (scheduled runs and bus reconnects may overlap);
+     * a second concurrent rebuild would replace nextFilter under the first.
+     */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private BoundedTtlCache<String, Boolean> lookups;
+    private Counter filterNegative;
+    private Counter filterHit;
+    private Counter falsePositive;
+
+    @PostConstruct
+    void init() {
+        filter = newFilter();
+        lookups = new BoundedTtlCache<>(
+                properties.getLookupCacheSize(), Duration.ofMillis(properties.getNegativeCacheTtlMs()));
+        filterNegative = meterRegistry.counter("token.revocation.filter", "result", "negative");
+        filterHit = meterRegistry.counter("token.revocation.filter", "result", "hit");
+        falsePositive = meterRegistry.counter("token.revocation.false.positive");
+
+        // Other nodes' revocations (and our own) arrive after commit; rebuild on every (re)connect
+        invalidationBus.subscribeChannel(CHANNEL, jti -> {
+            add(jti);
+            lookups.invalidate(jti);
+        }, this::rebuild);
+    }
+
+    /**
+     * Revoke an access token until its expiry
+     *
+     * @param jti       jti claim
+     * @param userId    owner (audit)
+     * @param expiresAt exp claim; the entry is dropped afterwards
+     */
+    public void revoke(String jti, UUID userId, Instant expiresAt) {
+        if (jti == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revokedAccessTokenRepository.revoke(jti, userId, expiresAt);
+        // Local effect is immediate; other nodes learn through NOTIFY
+        add(jti);
+        lookups.put(jti, Boolean.TRUE, Duration.between(Instant.now(), expiresAt));
+    }
+
+    /**
+     * Check a verified access token
+     *
+     * @param jti       jti claim (tokens without one cannot be revoked)
+     * @param expiresAt exp claim (bounds how long a positive answer is cached)
+     * @return true if the token was revoked
+     */
+    public boolean isRevoked(String jti, Instant expiresAt) {
+        if (jti == null) {
+            return false;
+        }
+        if (!filter.mightContain(jti)) {
+            filterNegative.increment();
+            return false;
+        }
+        filterHit.increment();
+
+        Boolean cached = lookups.get(jti);
+        if (cached != null) {
+            return cached;
+        }
+
+        boolean revoked = revokedAccessTokenRepository.isRevoked(jti, Instant.now());
+        if (revoked) {
+            lookups.put(jti, Boolean.TRUE, Duration.between(Instant.now(), expiresAt));
+        } else {
+            falsePositive.increment();
+            lookups.put(jti, Boolean.FALSE);
+        }
+        return revoked;
+    }
+
+    /**
+     * Rebuild the filter from the table (drops expired jti values)
+     */
+    @Scheduled(
+            initialDelayString = "${token-revocation.rebuild-initial-delay-ms:0}",
+            fixedDelayString = "${token-revocation.rebuild-interval-ms:300000}"
+    )
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildFilter();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildFilter() {
+        BloomFilter rebuilt = newFilter();
+        // From here on every add also reaches the new filter
+        swapLock.lock();
+        try {
+            nextFilter = rebuilt;
+        } finally {
+            swapLock.unlock();
+        }
+
+        List<String> active;
+        try {
+            active = revokedAccessTokenRepository.findActiveJtis(Instant.now());
+        } catch (Exception e) {
+            log.warn("Access token revocation filter rebuild failed: {}", e.getMessage());
+            swapLock.lock();
+            try {
+                nextFilter = null;
+            } finally {
+                swapLock.unlock();
+            }
+            return;
+        }
+        active.forEach(rebuilt::add);
+
+        swapLock.lock();
+        try {
+            filter = rebuilt;
+            nextFilter = null;
+        } finally {
+            swapLock.unlock();
+        }
+        log.debug("Access token revocation filter rebuilt with {} entries", active.size());
+    }
+
+    /**
+     * Under swapLock: an add either lands in the filter being built or
+     * happens after the swap, never on the old filter alone.
+     */
+    private void add(String jti) {
+        swapLock.lock();
+        try {
+            filter.add(jti);
+            if (nextFilter != null) {
+                nextFilter.add(jti);
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(properties.getExpectedRevocations(), properties.getFalsePositiveRate());
+    }
+}
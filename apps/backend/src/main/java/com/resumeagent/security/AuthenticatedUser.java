@@ -0,0 +1,53 @@
+package com.resumeagent.security;
+
+import com.resumeagent.entity.User;
+import com.resumeagent.entity.enums.UserPlan;
+import com.resumeagent.entity.enums.UserRole;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Authenticated principal built from verified access-token claims
+ * Placed in the SecurityContext by JwtAuthenticationFilter and injected into
+ * controllers with @AuthenticationPrincipal.
+ * WHY:
+ * Services receive the user ID directly instead of re-querying users by
+ * email on every request. getName() still returns the email, so
+ * Authentication.getName() keeps working.
+ *
+ * @param userId User ID (claim "uid")
+ * @param email  User email (claim "sub")
+ * @param role   User role (confirmed against UserStateCache)
+ * @param plan   Subscription plan (claim "plan")
+ */
+public record AuthenticatedUser(
+        UUID userId,
+        String email,
+        UserRole role,
+        UserPlan plan) implements AuthenticatedPrincipal, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getUserRole(), user.getPlan());
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    /**
+     * Spring Security authorities (ROLE_ prefix, as in UserDetailsServiceImpl).
+     */
+    public List<GrantedAuthority> authorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+}
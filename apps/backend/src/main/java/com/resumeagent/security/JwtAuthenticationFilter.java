@@ -4,18 +4,18 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.resumeagent.entity.enums.UserPlan;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * JWT Authentication Filter
@@ -26,7 +26,8 @@ import java.io.IOException;
  * SECURITY ARCHITECTURE:
  * - Access token extracted from HttpOnly cookie (not Authorization header)
  * - Token signature verified with RSA public key
- * - UserDetails loaded fresh from database (stateless, no caching)
+ * - Principal (AuthenticatedUser) built from the verified claims
+ * - Claims checked against UserStateCache (security_version, email status, role)
  * - SecurityContext populated for downstream authorization
  * NO SILENT FAILURES:
  * All validation errors are logged explicitly
@@ -35,7 +36,9 @@ import java.io.IOException;
  * THREAT MITIGATION:
  * - Token Tampering: RSA signature verification
  * - Expired Tokens: Expiry check before authentication
- * - User State Changes: Fresh UserDetails load on each request
+ * - Stolen Token After Logout: jti revocation list (all nodes via NOTIFY)
+ * - User State Changes: security_version mismatch rejects the token
+ *   (all instances once the change commits, via the InvalidationBus)
  * - Token Type Confusion: Validates token type is "access"
  */
 @Component
@@ -44,7 +47,8 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final UserStateCache userStateCache;
+    private final AccessTokenRevocationList accessTokenRevocationList;
     private final CookieUtil cookieUtil;
 
     /**
@@ -52,12 +56,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * FLOW:
      * 1. Extract access token from cookie
      * 2. If token exists:
-     * a. Validate signature and expiry
+     * a. Verify signature and expiry once -> VerifiedClaims (cached per token)
      * b. Validate token type is "access"
-     * c. Extract username
-     * d. Load UserDetails from database
-     * e. Create Authentication object
-     * f. Set SecurityContext
+     * c. Reject revoked tokens (Bloom filter; query only on a filter hit)
+     * d. Check uid/sv claims against UserStateCache (usually no query)
+     * e. Build AuthenticatedUser from the verified claims
+     * f. Create Authentication object
+     * g. Set SecurityContext
      * 3. If token missing/invalid:
      * - Continue filter chain without authentication
      * - Public endpoints work normally
@@ -82,29 +87,56 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             if (jwt != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                // Validate token signature and expiry
-                if (jwtTokenProvider.validateToken(jwt)) {
+                // Verify signature, expiry, issuer and audience ONCE (cached per token)
+                Optional<VerifiedClaims> verified = jwtTokenProvider.verify(jwt);
+
+                if (verified.isPresent()) {
+                    VerifiedClaims claims = verified.get();
 
                     // Validate token type (must be "access", not "refresh")
-                    if (!jwtTokenProvider.validateTokenType(jwt, "access")) {
+                    if (!claims.isAccessToken()) {
                         log.warn("Token type validation failed: expected 'access'");
                         // SECURITY: Don't authenticate with refresh token
                         filterChain.doFilter(request, response);
                         return;
                     }
 
-                    // Extract username from token
-                    String username = jwtTokenProvider.extractUsername(jwt);
+                    // Tokens issued before uid/sv claims existed must be refreshed
+                    if (claims.userId() == null || claims.securityVersion() == null) {
+                        log.debug("Access token without uid/sv claims rejected");
+                        filterChain.doFilter(request, response);
+                        return;
+                    }
+
+                    // Revoked by logout? Bloom filter answers "no" without a query
+                    if (accessTokenRevocationList.isRevoked(claims.tokenId(), claims.expiresAt())) {
+                        log.debug("Revoked access token rejected for user: {}", claims.userId());
+                        filterChain.doFilter(request, response);
+                        return;
+                    }
+
+                    // Token is stale if password/role/email state changed after it was issued
+                    Optional<UserStateCache.UserState> state = userStateCache.get(claims.userId());
+                    if (state.isEmpty()
+                            || !state.get().emailActive()
+                            || state.get().securityVersion() != claims.securityVersion()) {
+                        log.debug("Access token rejected by user state for user: {}", claims.userId());
+                        filterChain.doFilter(request, response);
+                        return;
+                    }
 
-                    // Load user details from database
-                    // FRESH LOAD: Ensures account status changes take effect immediately
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                    // Principal from claims; role from current state (defence in depth)
+                    AuthenticatedUser principal = new AuthenticatedUser(
+                            claims.userId(),
+                            claims.subject(),
+                            state.get().role(),
+                            UserPlan.valueOf(claims.plan()));
 
                     // Create authentication token
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
+                            principal,
                             null,
-                            userDetails.getAuthorities());
+                            principal.authorities());
 
                     // Set request details (IP, session, etc.)
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -112,7 +144,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     // Set SecurityContext for this request
                     SecurityContextHolder.getContext().setAuthentication(authToken);
 
-                    log.debug("JWT authentication successful for user: {}", username);
+                    log.debug("JWT authentication successful for user: {}", principal.email());
                 }
             }
 
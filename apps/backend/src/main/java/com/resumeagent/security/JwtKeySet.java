@@ -0,0 +1,201 @@
+package com.resumeagent.security;
+
+import com.resumeagent.config.JwtProperties;
+import com.resumeagent.config.JwtProperties.SigningAlgorithm;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Signing key and kid-indexed verification keys for JWTs
+ * KEY SET:
+ * - Active key: jwt.private-key-path / jwt.public-key-path, algorithm
+ *   jwt.signing-algorithm, published as kid jwt.signing-key-id
+ * - Previous keys: jwt.verification-keys.{kid}.* (public key only), kept
+ *   until every token they signed has expired
+ * KEY SELECTION (verification):
+ * - kid header present -> that key, and the header alg must equal the
+ *   key's configured algorithm (no algorithm confusion)
+ * - no kid (tokens issued before kid headers) -> the active key if its
+ *   algorithm matches, otherwise the first configured key with that algorithm
+ * SECURITY NOTE:
+ * Only keys from configuration are ever used; a token cannot introduce
+ * its own key or switch a key to another algorithm.
+ */
+final class JwtKeySet extends LocatorAdapter<Key> {
+
+    record VerificationKey(SigningAlgorithm algorithm, PublicKey publicKey) {
+    }
+
+    private final String signingKeyId;
+    private final SigningAlgorithm signingAlgorithm;
+    private final PrivateKey signingKey;
+    private final Map<String, VerificationKey> verificationKeys;
+
+    private JwtKeySet(String signingKeyId,
+                      SigningAlgorithm signingAlgorithm,
+                      PrivateKey signingKey,
+                      Map<String, VerificationKey> verificationKeys) {
+        this.signingKeyId = signingKeyId;
+        this.signingAlgorithm = signingAlgorithm;
+        this.signingKey = signingKey;
+        this.verificationKeys = verificationKeys;
+    }
+
+    /**
+     * Load the active key pair and all previous public keys
+     *
+     * @throws IllegalStateException if a key cannot be read or does not match its algorithm
+     */
+    static JwtKeySet load(JwtProperties properties, ResourceLoader resourceLoader) {
+        SigningAlgorithm algorithm = properties.getSigningAlgorithm();
+        Map<String, VerificationKey> keys = new LinkedHashMap<>();
+
+        try {
+            PrivateKey privateKey = loadPrivateKey(resourceLoader, properties.getPrivateKeyPath(), algorithm);
+            keys.put(properties.getSigningKeyId(), new VerificationKey(
+                    algorithm, loadPublicKey(resourceLoader, properties.getPublicKeyPath(), algorithm)));
+
+            for (Map.Entry<String, JwtProperties.VerificationKey> entry : properties.getVerificationKeys().entrySet()) {
+                if (keys.containsKey(entry.getKey())) {
+                    throw new IllegalStateException("Duplicate JWT key id: " + entry.getKey());
+                }
+                SigningAlgorithm keyAlgorithm = entry.getValue().getAlgorithm();
+                keys.put(entry.getKey(), new VerificationKey(
+                        keyAlgorithm, loadPublicKey(resourceLoader, entry.getValue().getPublicKeyPath(), keyAlgorithm)));
+            }
+
+            return new JwtKeySet(properties.getSigningKeyId(), algorithm, privateKey, Collections.unmodifiableMap(keys));
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot load JWT keys: " + e.getMessage(), e);
+        }
+    }
+
+    String signingKeyId() {
+        return signingKeyId;
+    }
+
+    PrivateKey signingKey() {
+        return signingKey;
+    }
+
+    SignatureAlgorithm jwsAlgorithm() {
+        return jwsAlgorithm(signingAlgorithm);
+    }
+
+    PublicKey activePublicKey() {
+        return verificationKeys.get(signingKeyId).publicKey();
+    }
+
+    Map<String, VerificationKey> verificationKeys() {
+        return verificationKeys;
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String algorithm = header.getAlgorithm();
+        String keyId = header.getKeyId();
+
+        if (keyId != null) {
+            VerificationKey key = verificationKeys.get(keyId);
+            if (key == null) {
+                throw new UnsupportedJwtException("Unknown JWT key id: " + keyId);
+            }
+            if (!jwsAlgorithm(key.algorithm()).getId().equals(algorithm)) {
+                throw new UnsupportedJwtException("JWT algorithm " + algorithm + " not allowed for key id " + keyId);
+            }
+            return key.publicKey();
+        }
+
+        // Legacy token without kid: active key first, then any key of the same algorithm
+        VerificationKey active = verificationKeys.get(signingKeyId);
+        if (jwsAlgorithm(active.algorithm()).getId().equals(algorithm)) {
+            return active.publicKey();
+        }
+        return verificationKeys.values().stream()
+                .filter(key -> jwsAlgorithm(key.algorithm()).getId().equals(algorithm))
+                .map(VerificationKey::publicKey)
+                .findFirst()
+                .orElseThrow(() -> new UnsupportedJwtException("No JWT key for algorithm " + algorithm));
+    }
+
+    static SignatureAlgorithm jwsAlgorithm(SigningAlgorithm algorithm) {
+        return switch (algorithm) {
+            case RS256 -> Jwts.SIG.RS256;
+            case ES256 -> Jwts.SIG.ES256;
+            case EdDSA -> Jwts.SIG.EdDSA;
+        };
+    }
+
+    // -------------------------------------------------------------------------
+    // PEM Loading Utilities
+    // -------------------------------------------------------------------------
+
+    /**
+     * JCA key factory for an algorithm (Ed25519 is built into Java 15+,
+     * no extra provider needed)
+     */
+    private static KeyFactory keyFactory(SigningAlgorithm algorithm) throws GeneralSecurityException {
+        return switch (algorithm) {
+            case RS256 -> KeyFactory.getInstance("RSA");
+            case ES256 -> KeyFactory.getInstance("EC");
+            case EdDSA -> KeyFactory.getInstance("Ed25519");
+        };
+    }
+
+    /**
+     * Load a PKCS#8 private key ("BEGIN PRIVATE KEY", as written by openssl genpkey)
+     */
+    private static PrivateKey loadPrivateKey(ResourceLoader resourceLoader, String keyPath, SigningAlgorithm algorithm)
+            throws IOException, GeneralSecurityException {
+        byte[] keyBytes = readPem(resourceLoader, keyPath);
+        return keyFactory(algorithm).generatePrivate(new PKCS8EncodedKeySpec(keyBytes));
+    }
+
+    /**
+     * Load an X.509 SubjectPublicKeyInfo public key ("BEGIN PUBLIC KEY")
+     */
+    private static PublicKey loadPublicKey(ResourceLoader resourceLoader, String keyPath, SigningAlgorithm algorithm)
+            throws IOException, GeneralSecurityException {
+        byte[] keyBytes = readPem(resourceLoader, keyPath);
+        return keyFactory(algorithm).generatePublic(new X509EncodedKeySpec(keyBytes));
+    }
+
+    /**
+     * Read a PEM file and return the DER bytes
+     * Uses the resource stream, so classpath keys also load from inside a jar.
+     */
+    private static byte[] readPem(ResourceLoader resourceLoader, String keyPath) throws IOException {
+        Resource resource = resourceLoader.getResource(keyPath);
+        String pem;
+        try (InputStream in = resource.getInputStream()) {
+            pem = new String(in.readAllBytes(), StandardCharsets.US_ASCII);
+        }
+
+        // Remove PEM headers and whitespace
+        String base64 = pem
+                .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                .replaceAll("\\s+", "");
+
+        return Base64.getDecoder().decode(base64);
+    }
+}
@@ -0,0 +1,109 @@
+package com.resumeagent.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeagent.config.RateLimitProperties;
+import com.resumeagent.dto.response.CommonResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Rate Limiting Filter
+ * Throttles the endpoints that burn BCrypt CPU, SMTP or LLM budget
+ * (rate-limit.rules.*) and answers 429 + Retry-After when a bucket is empty.
+ * FILTER ORDER:
+ * Runs right after JwtAuthenticationFilter, so USER rules can key on the
+ * authenticated principal (and its plan) taken from the token claims.
+ * NO DATABASE ACCESS:
+ * Keys come from the socket address and the SecurityContext only; buckets
+ * live in RateLimiter. Rejection happens before any controller or service code.
+ * CLIENT IP:
+ * request.getRemoteAddr(); behind a proxy enable
+ * server.forward-headers-strategy so it reflects the real client.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        String path = request.getServletPath();
+        for (Map.Entry<String, RateLimitProperties.Rule> entry : properties.getRules().entrySet()) {
+            RateLimitProperties.Rule rule = entry.getValue();
+            if (!rule.getPath().equals(path) || !rule.getMethod().equalsIgnoreCase(request.getMethod())) {
+                continue;
+            }
+
+            RateLimiter.Decision decision = acquire(entry.getKey(), rule, request);
+            if (!decision.allowed()) {
+                reject(entry.getKey(), decision, response);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimiter.Decision acquire(String ruleName, RateLimitProperties.Rule rule, HttpServletRequest request) {
+        if (rule.getKey() == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+                return rateLimiter.tryAcquire(
+                        ruleName,
+                        ruleName + ":user:" + principal.userId(),
+                        rule.capacityFor(principal.plan()),
+                        rule.getPeriodSeconds());
+            }
+            // Unauthenticated call to a USER rule: Spring Security rejects it anyway,
+            // but still limit by IP so it cannot be used for free probing
+        }
+        return rateLimiter.tryAcquire(
+                ruleName,
+                ruleName + ":ip:" + request.getRemoteAddr(),
+                rule.getCapacity(),
+                rule.getPeriodSeconds());
+    }
+
+    private void reject(String ruleName, RateLimiter.Decision decision, HttpServletResponse response)
+            throws IOException {
+        meterRegistry.counter("rate.limit.rejected", "rule", ruleName).increment();
+        log.debug("Rate limit exceeded for rule: {}", ruleName);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), CommonResponse.builder()
+                .message("Too many requests, please retry later")
+                .build());
+    }
+}
@@ -0,0 +1,130 @@
+package com.resumeagent.security;
+
+import com.resumeagent.config.RateLimitProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free in-memory token buckets
+ * ALGORITHM (token bucket in GCRA form):
+ * Each bucket is ONE AtomicLong: the "theoretical arrival time" (TAT) of the
+ * next request. A request at time now is allowed if
+ *   max(TAT, now) - now <= (capacity - 1) x interval
+ * and then advances TAT by one interval (interval = period / capacity).
+ * This is exactly a bucket of `capacity` tokens refilled one per interval,
+ * updated with a single CAS: no locks, no refill thread.
+ * MEMORY:
+ * - A bucket whose TAT is in the past is full, i.e. identical to a new one,
+ *   so it is evicted by the periodic sweep
+ * - Above rate-limit.max-buckets, new keys share one overflow bucket per
+ *   rule (still limited, never unbounded)
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    /**
+     * Result of an acquire attempt.
+     *
+     * @param allowed           true if the request may proceed
+     * @param retryAfterSeconds seconds until one token is available (0 if allowed)
+     */
+    public record Decision(boolean allowed, long retryAfterSeconds) {
+
+        static final Decision ALLOWED = new Decision(true, 0);
+    }
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock monotonic time in nanoseconds (tests pass a manual clock)
+     */
+    RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("rate.limit.buckets", buckets, Map::size)
+                .description("Live rate-limit buckets")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Take one token from the bucket identified by key.
+     *
+     * @param ruleName      Rule name (overflow bucket namespace)
+     * @param key           Bucket key (rule + IP or user)
+     * @param capacity      Burst size / requests per period
+     * @param periodSeconds Refill period
+     * @return Decision with Retry-After when rejected
+     */
+    public Decision tryAcquire(String ruleName, String key, int capacity, long periodSeconds) {
+        long now = nanoClock.getAsLong();
+        long interval = TimeUnit.SECONDS.toNanos(periodSeconds) / capacity;
+        long tolerance = interval * (capacity - 1);
+
+        AtomicLong tat = bucketFor(ruleName, key, now);
+        while (true) {
+            long current = tat.get();
+            long start = Math.max(current, now);
+            if (start - now > tolerance) {
+                long waitNanos = start - tolerance - now;
+                return new Decision(false, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+            }
+            if (tat.compareAndSet(current, start + interval)) {
+                return Decision.ALLOWED;
+            }
+        }
+    }
+
+    /**
+     * Drop full (idle) buckets.
+     * A request racing with eviction may update a just-removed bucket and
+     * start over with a fresh one: at most one extra request slips through.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = nanoClock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(tat -> tat.get() - now <= 0);
+        int evicted = before - buckets.size();
+        if (evicted > 0) {
+            log.debug("Evicted {} idle rate-limit bucket(s)", evicted);
+        }
+    }
+
+    private AtomicLong bucketFor(String ruleName, String key, long now) {
+        AtomicLong existing = buckets.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (buckets.size() >= properties.getMaxBuckets()) {
+            // Key spraying: share one bucket per rule instead of growing the map
+            return buckets.computeIfAbsent("overflow:" + ruleName, k -> new AtomicLong(now));
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+}
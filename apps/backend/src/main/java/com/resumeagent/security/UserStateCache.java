@@ -0,0 +1,72 @@
+package com.resumeagent.security;
+
+import com.resumeagent.cache.BoundedTtlCache;
+import com.resumeagent.cache.InvalidationBus;
+import com.resumeagent.cache.InvalidationTopic;
+import com.resumeagent.config.JwtProperties;
+import com.resumeagent.entity.enums.UserRole;
+import com.resumeagent.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * In-process cache of the user state an access token is checked against
+ * REPLACES:
+ * A users lookup by email on every authenticated request
+ * (UserDetailsServiceImpl.loadUserByUsername).
+ * VALIDITY:
+ * - A token is accepted only if its "sv" claim equals the cached securityVersion
+ * - Services publish InvalidationTopic.USER on every security-relevant
+ *   change; the InvalidationBus evicts the entry on this node (now and
+ *   after commit) and on every other node once the change commits
+ * - jwt.user-state-cache-ttl-ms remains as a safety net (e.g. manual SQL)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserStateCache {
+
+    /**
+     * Cached security state of one user.
+     */
+    public record UserState(int securityVersion, boolean emailActive, UserRole role) {
+    }
+
+    private final UserRepository userRepository;
+    private final JwtProperties jwtProperties;
+    private final InvalidationBus invalidationBus;
+
+    private BoundedTtlCache<UUID, UserState> states;
+
+    @PostConstruct
+    void init() {
+        states = new BoundedTtlCache<>(
+                jwtProperties.getUserStateCacheSize(),
+                Duration.ofMillis(jwtProperties.getUserStateCacheTtlMs()));
+        invalidationBus.subscribe(InvalidationTopic.USER, states::invalidate, states::invalidateAll);
+    }
+
+    /**
+     * Current state of a user (database on cache miss).
+     *
+     * @param userId User ID from the access token
+     * @return User state, empty if the user no longer exists
+     */
+    public Optional<UserState> get(UUID userId) {
+        UserState cached = states.get(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<UserState> loaded = userRepository.findSecurityStateById(userId)
+                .map(s -> new UserState(s.getSecurityVersion(), s.isEmailActive(), s.getUserRole()));
+        loaded.ifPresent(state -> states.put(userId, state));
+        return loaded;
+    }
+}
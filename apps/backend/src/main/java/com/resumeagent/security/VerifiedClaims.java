@@ -0,0 +1,43 @@
+package com.resumeagent.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Immutable result of ONE signature verification + parse of a JWT.
+ * Only produced by JwtTokenProvider.verify, so holding an instance means
+ * signature, issuer, audience and expiry have already been checked.
+ *
+ * @param tokenId         jti claim (null for tokens issued before jti existed)
+ * @param subject         sub claim (user email)
+ * @param tokenType       type claim ("access" or "refresh")
+ * @param role            role claim (e.g. ROLE_USER)
+ * @param userId          uid claim (access tokens only)
+ * @param plan            plan claim (access tokens only)
+ * @param securityVersion sv claim (access tokens only)
+ * @param issuedAt        iat claim
+ * @param expiresAt       exp claim
+ */
+public record VerifiedClaims(
+        String tokenId,
+        String subject,
+        String tokenType,
+        String role,
+        UUID userId,
+        String plan,
+        Integer securityVersion,
+        Instant issuedAt,
+        Instant expiresAt) {
+
+    public boolean isAccessToken() {
+        return "access".equals(tokenType);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(tokenType);
+    }
+
+    public boolean isExpired() {
+        return !Instant.now().isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,76 @@
+package com.resumeagent.service;
+
+import com.resumeagent.dto.response.AdminMasterResumeMatchResponse;
+import com.resumeagent.dto.response.AdminMasterResumeSearchResponse;
+import com.resumeagent.exception.InvalidCursorException;
+import com.resumeagent.repository.MasterResumeSkillSearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * AdminResumeSearchService
+ * Finds users by the skills and organizations in their master resume
+ * (see MasterResumeSkillSearchRepository for the index-backed query shape).
+ * PAGINATION:
+ * Keyset on master_resumes.user_id with limit + 1 rows; the cursor is the
+ * last user ID of the page. The total is counted on the first page only,
+ * later pages skip the second index pass.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminResumeSearchService {
+
+    /**
+     * Upper bound for one result page.
+     */
+    static final int MAX_PAGE_SIZE = 200;
+
+    private final MasterResumeSkillSearchRepository skillSearchRepository;
+
+    /**
+     * @param skills        skills that must all be present (exact, case-sensitive)
+     * @param organizations organizations that must all be present (exact, case-sensitive)
+     * @param cursor        nextCursor of the previous page (null for the first page)
+     * @param limit         page size, clamped to 1..MAX_PAGE_SIZE
+     */
+    public AdminMasterResumeSearchResponse search(List<String> skills, List<String> organizations,
+                                                  String cursor, int limit) {
+
+        MasterResumeSkillSearchRepository.Criteria criteria =
+                new MasterResumeSkillSearchRepository.Criteria(skills, organizations);
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        boolean firstPage = cursor == null || cursor.isBlank();
+
+        List<AdminMasterResumeMatchResponse> rows =
+                skillSearchRepository.find(criteria, firstPage ? null : decodeCursor(cursor), pageSize + 1);
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = rows.get(pageSize - 1).getUserId().toString();
+        }
+
+        Long total = null;
+        if (firstPage) {
+            // A single page already holds every match: no need to count
+            total = nextCursor == null ? (long) rows.size() : skillSearchRepository.count(criteria);
+        }
+
+        return AdminMasterResumeSearchResponse.builder()
+                .total(total)
+                .items(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private static UUID decodeCursor(String cursor) {
+        try {
+            return UUID.fromString(cursor);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+}
@@ -11,14 +11,11 @@ import com.resumeagent.exception.DuplicateResourceException;
 import com.resumeagent.repository.EmailVerificationTokenRepository;
 import com.resumeagent.repository.PasswordHistoryRepository;
 import com.resumeagent.repository.UserRepository;
-import jakarta.mail.MessagingException;
-import jakarta.transaction.Transactional;
 import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Objects;
@@ -42,10 +39,11 @@ import java.util.UUID;
 public class AdminService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
     private final EmailVerificationTokenRepository emailVerificationTokenRepository;
     private final PasswordHistoryRepository passwordHistoryRepository;
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
 
     /**
      * Registers a new admin user.
@@ -54,11 +52,12 @@ public class AdminService {
      * - Password history save
      * - Email verification token save
      * must all succeed or all fail together.
+     * The password is hashed on the hashing pool BEFORE the transaction
+     * starts, so no connection is held during BCrypt.
      *
      * @param request registration request data
      * @return success response
      */
-    @Transactional
     public CommonResponse registerAdmin(RegisterAdminAndUserRequest request) {
 
         // Normalize email to avoid duplicates caused by case or spaces
@@ -76,49 +75,50 @@ public class AdminService {
             throw new ValidationException("Passwords do not match");
         }
 
-        // Create and save the admin user
-        // Password is always stored as a secure hash
-        User admin = User.builder()
-                .fullName(request.getFullName())
-                .email(email)
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
-                .userRole(UserRole.ADMIN)
-                .plan(UserPlan.FREE)
-                .resumeGenerationLimit(5)
-                .resumeGenerationUsed(0)
-                .usageMonth(LocalDate.now().withDayOfMonth(1))
-                .emailActive(false) // or true if verified immediately
-                .build();
-
-        userRepository.save(admin);
-
-        // Save password history
-        // This helps enforce password reuse policies in the future
-        PasswordHistory passwordHistory = PasswordHistory.builder()
-                .user(admin)
-                .passwordHash(admin.getPasswordHash())
-                .build();
-
-        passwordHistoryRepository.save(passwordHistory);
-
-        // Generate email verification token
-        // Token expires after 1 hour
-        String token = UUID.randomUUID().toString();
-
-        EmailVerificationToken emailVerificationToken = EmailVerificationToken.builder()
-                .user(admin)
-                .token(token)
-                .expiresAt(Instant.now().plusSeconds(3600))
-                .build();
-
-        emailVerificationTokenRepository.save(emailVerificationToken);
-
-        // Sending Verification
-        try {
-            emailService.sendVerificationEmail(admin.getEmail(), admin.getFullName(), token);
-        } catch (IOException | MessagingException e) {
-            throw new RuntimeException(e);
-        }
+        // Hash outside the transaction (CPU-bound, bounded pool)
+        String passwordHash = passwordHashingService.encode(request.getPassword());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // Create and save the admin user
+            // Password is always stored as a secure hash
+            User admin = User.builder()
+                    .fullName(request.getFullName())
+                    .email(email)
+                    .passwordHash(passwordHash)
+                    .userRole(UserRole.ADMIN)
+                    .plan(UserPlan.FREE)
+                    .resumeGenerationLimit(5)
+                    .resumeGenerationUsed(0)
+                    .usageMonth(LocalDate.now().withDayOfMonth(1))
+                    .emailActive(false) // or true if verified immediately
+                    .build();
+
+            userRepository.save(admin);
+
+            // Save password history
+            // This helps enforce password reuse policies in the future
+            PasswordHistory passwordHistory = PasswordHistory.builder()
+                    .user(admin)
+                    .passwordHash(admin.getPasswordHash())
+                    .build();
+
+            passwordHistoryRepository.save(passwordHistory);
+
+            // Generate email verification token
+            // Token expires after 1 hour
+            String token = UUID.randomUUID().toString();
+
+            EmailVerificationToken emailVerificationToken = EmailVerificationToken.builder()
+                    .user(admin)
+                    .token(token)
+                    .expiresAt(Instant.now().plusSeconds(3600))
+                    .build();
+
+            emailVerificationTokenRepository.save(emailVerificationToken);
+
+            // Queue verification email; committed atomically with the admin and token
+            emailOutboxService.enqueueVerificationEmail(admin.getEmail(), admin.getFullName(), token);
+        });
 
         // Return success response
         // Email verification is required before login
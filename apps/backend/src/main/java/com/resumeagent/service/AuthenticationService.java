@@ -1,17 +1,25 @@
 package com.resumeagent.service;
 
+import com.resumeagent.cache.InvalidationBus;
+import com.resumeagent.cache.InvalidationTopic;
+import com.resumeagent.cache.UserSnapshotCache;
 import com.resumeagent.dto.request.LoginRequest;
 import com.resumeagent.dto.response.CommonResponse;
 import com.resumeagent.dto.response.LoginResponse;
 import com.resumeagent.dto.response.UserInfoResponse;
 import com.resumeagent.entity.EmailVerificationToken;
 import com.resumeagent.entity.User;
+import com.resumeagent.entity.enums.UserPlan;
 import com.resumeagent.entity.enums.UserRole;
 import com.resumeagent.exception.ValueNotFoundException;
 import com.resumeagent.repository.EmailVerificationTokenRepository;
 import com.resumeagent.repository.UserRepository;
+import com.resumeagent.repository.projection.RotatedRefreshToken;
+import com.resumeagent.security.AccessTokenRevocationList;
+import com.resumeagent.security.AuthenticatedUser;
 import com.resumeagent.security.CookieUtil;
 import com.resumeagent.security.JwtTokenProvider;
+import com.resumeagent.security.VerifiedClaims;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -20,10 +28,8 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -47,11 +53,14 @@ import java.time.Instant;
 public class AuthenticationService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
     private final CookieUtil cookieUtil;
     private final EmailVerificationTokenRepository emailVerificationTokenRepository;
+    private final InvalidationBus invalidationBus;
+    private final UserSnapshotCache userSnapshotCache;
+    private final AccessTokenRevocationList accessTokenRevocationList;
 
     /**
      * Authenticate user and issue tokens
@@ -64,7 +73,10 @@ public class AuthenticationService {
      * 6. Set tokens as HttpOnly Secure cookies
      * 7. Return success response
      * SECURITY ENFORCEMENT:
-     * - Password compared using BCrypt (slow, rate-limited)
+     * - Password compared using BCrypt on the bounded hashing pool
+     *   (503 + Retry-After when saturated, other endpoints keep their threads)
+     * - No transaction around the BCrypt check: the user read and the refresh
+     *   token insert are separate short transactions
      * - Email must be verified (emailActive = true)
      * - Generic error messages (don't reveal if email exists)
      * - Failed attempts should be logged for rate limiting (future)
@@ -80,7 +92,6 @@ public class AuthenticationService {
      * @throws BadCredentialsException if credentials invalid or account not
      *                                 verified
      */
-    @Transactional
     public LoginResponse login(LoginRequest request, HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
         log.info("Login attempt for email: {}", request.getEmail());
 
@@ -93,7 +104,7 @@ public class AuthenticationService {
                 });
 
         // Verify password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPasswordHash())) {
             log.warn("Login failed: invalid password for email: {}", request.getEmail());
             // SECURITY: Same error message as user not found
             throw new BadCredentialsException("Invalid email or password");
@@ -118,8 +129,9 @@ public class AuthenticationService {
                 .roles(user.getUserRole().name())
                 .build();
 
-        // Generate access token (short-lived)
-        String accessToken = jwtTokenProvider.generateAccessToken(userDetails);
+        // Generate access token (short-lived, carries uid/plan/security version)
+        String accessToken = jwtTokenProvider.generateAccessToken(
+                AuthenticatedUser.from(user), user.getSecurityVersion());
 
         // Generate refresh token (long-lived)
         String refreshToken = jwtTokenProvider.generateRefreshToken(userDetails);
@@ -144,15 +156,16 @@ public class AuthenticationService {
     }
 
     /**
-     * Logout user (revoke refresh token, clear cookies)
+     * Logout user (revoke refresh and access token, clear cookies)
      * LOGOUT FLOW:
      * 1. Extract refresh token from cookie
      * 2. If exists, delete from database
-     * 3. Clear both access and refresh cookies
-     * 4. Access token expires naturally (no server-side revocation)
+     * 3. Revoke the access token's jti until its exp (AccessTokenRevocationList)
+     * 4. Clear both access and refresh cookies
      * STATELESS DESIGN:
      * - No session invalidation (backend is stateless)
-     * - Access tokens cannot be revoked (short expiry mitigates this)
+     * - A copied access token is rejected on every node after logout
+     *   (revocation list + NOTIFY), not only once it expires
      * - Refresh token deletion prevents obtaining new access tokens
      * 
      * @param request  HTTP request
@@ -168,6 +181,13 @@ public class AuthenticationService {
             log.info("Logout: deleted refresh token for user: {}", token.getUser().getEmail());
         });
 
+        // Revoke the access token for the rest of its lifetime
+        cookieUtil.getAccessToken(request)
+                .flatMap(jwtTokenProvider::verify)
+                .filter(VerifiedClaims::isAccessToken)
+                .ifPresent(claims -> accessTokenRevocationList.revoke(
+                        claims.tokenId(), claims.userId(), claims.expiresAt()));
+
         // Clear cookies (works even if token not found)
         response.addCookie(cookieUtil.deleteAccessTokenCookie());
         response.addCookie(cookieUtil.deleteRefreshTokenCookie());
@@ -175,6 +195,59 @@ public class AuthenticationService {
         log.debug("Logout: cookies cleared");
     }
 
+    /**
+     * Refresh session using the refresh token cookie
+     * REFRESH FLOW:
+     * 1. Verify refresh JWT (signature, issuer, audience, expiry, type = refresh)
+     * 2. Generate successor refresh token from the verified claims
+     * 3. Rotate in one statement: revoke presented token, store successor
+     *    (only for verified emails, so a rejected refresh consumes nothing)
+     * 4. Generate access token from the CURRENT user row (role changes apply)
+     * 5. Set both cookies (same flags as login)
+     * PERFORMANCE:
+     * No password check and no BCrypt: the refresh token already proves the
+     * session, so this path costs two RSA signatures and one short transaction.
+     *
+     * @param httpRequest  HTTP request carrying the refresh cookie
+     * @param httpResponse HTTP response for setting cookies
+     * @return Response with the refreshed user's email
+     * @throws BadCredentialsException if the refresh token is missing, invalid or reused
+     */
+    public LoginResponse refresh(HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+        String rawRefreshToken = cookieUtil.getRefreshToken(httpRequest)
+                .orElseThrow(() -> new BadCredentialsException("Refresh token missing"));
+
+        VerifiedClaims claims = jwtTokenProvider.verify(rawRefreshToken)
+                .filter(VerifiedClaims::isRefreshToken)
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+
+        UserDetails tokenOwner = org.springframework.security.core.userdetails.User.builder()
+                .username(claims.subject())
+                .password("")
+                .authorities(claims.role())
+                .build();
+        String newRefreshToken = jwtTokenProvider.generateRefreshToken(tokenOwner);
+
+        RotatedRefreshToken rotated = refreshTokenService
+                .rotateRefreshToken(rawRefreshToken, newRefreshToken, httpRequest)
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+
+        AuthenticatedUser principal = new AuthenticatedUser(
+                rotated.getUserId(),
+                rotated.getEmail(),
+                UserRole.valueOf(rotated.getUserRole()),
+                UserPlan.valueOf(rotated.getPlan()));
+        String accessToken = jwtTokenProvider.generateAccessToken(principal, rotated.getSecurityVersion());
+
+        cookieUtil.addCookieWithSameSite(httpResponse, cookieUtil.createAccessTokenCookie(accessToken), "Lax");
+        cookieUtil.addCookieWithSameSite(httpResponse, cookieUtil.createRefreshTokenCookie(newRefreshToken), "Strict");
+
+        return LoginResponse.builder()
+                .message("Token refreshed")
+                .email(rotated.getEmail())
+                .build();
+    }
+
     /**
      * Get current authenticated user information
      * Used by GET /auth/me endpoint
@@ -182,26 +255,24 @@ public class AuthenticationService {
      * This method assumes user is already authenticated
      * Spring Security has validated JWT and populated SecurityContext
      * 
-     * @param authentication Spring Security Authentication object
+     * @param principal Authenticated user (from access-token claims)
      * @return User information DTO
      * @throws UsernameNotFoundException if user not found (should never happen)
      */
-    @Transactional(readOnly = true)
-    public UserInfoResponse getCurrentUser(Authentication authentication) {
-        String email = authentication.getName();
-
-        User user = userRepository.findByEmail(email)
+    public UserInfoResponse getCurrentUser(AuthenticatedUser principal) {
+        // Usage counters are not part of the token; snapshot cache avoids the users query
+        UserSnapshotCache.UserSnapshot user = userSnapshotCache.get(principal.userId())
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
         return UserInfoResponse.builder()
-                .id(user.getId())
-                .email(user.getEmail())
-                .fullName(user.getFullName())
-                .role(user.getUserRole())
-                .emailActive(user.isEmailActive())
-                .plan(user.getPlan().name())
-                .resumeGenerationLimit(user.getResumeGenerationLimit())
-                .resumeGenerationUsed(user.getResumeGenerationUsed())
+                .id(user.id())
+                .email(user.email())
+                .fullName(user.fullName())
+                .role(user.role())
+                .emailActive(user.emailActive())
+                .plan(user.plan().name())
+                .resumeGenerationLimit(user.resumeGenerationLimit())
+                .resumeGenerationUsed(user.resumeGenerationUsed())
                 .build();
     }
 
@@ -240,9 +311,13 @@ public class AuthenticationService {
         }
 
         // Activate user's email
+        // Bump security version so a cached "not active" state is never trusted
         User user = verificationToken.getUser();
         user.setEmailActive(true);
+        user.bumpSecurityVersion();
         userRepository.save(user);
+        invalidationBus.publish(InvalidationTopic.USER, user.getId());
+        userSnapshotCache.putAfterCommit(user);
 
         // Mark token as used after successful verification
         verificationToken.setUsed(true);
@@ -0,0 +1,204 @@
+package com.resumeagent.service;
+
+import com.resumeagent.config.EmailOutboxProperties;
+import com.resumeagent.entity.EmailOutbox;
+import com.resumeagent.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Delivers queued emails from email_outbox.
+ * FLOW (per poll):
+ * 1. Claim up to email-outbox.batch-size due rows (lease, SKIP LOCKED)
+ * 2. Build all MIME messages
+ * 3. Send the batch over ONE SMTP connection
+ * 4. Mark delivered rows SENT in one statement; failed rows are retried
+ *    with exponential backoff + jitter, or marked FAILED
+ * Repeats while full batches are claimed, so a backlog drains without
+ * waiting for the next poll.
+ * DELIVERY GUARANTEE:
+ * At-least-once. A crash between SMTP acceptance and markSent re-sends the
+ * email after the lease expires; verification/reset links stay valid, so a
+ * duplicate is harmless.
+ * METRICS (Micrometer):
+ * - email.outbox.sent / retried / failed {type}
+ * - email.outbox.delivery.latency {type}: enqueue -> SMTP accepted
+ * - email.outbox.batch.send: SMTP time per batch
+ */
+@Component
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final EmailOutboxProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer batchSendTimer;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository,
+                                 EmailService emailService,
+                                 EmailOutboxProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailService = emailService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.batchSendTimer = Timer.builder("email.outbox.batch.send")
+                .description("SMTP time per outbox batch (one connection)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${email-outbox.poll-initial-delay-ms:5000}",
+            fixedDelayString = "${email-outbox.poll-interval-ms:1000}"
+    )
+    public void poll() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            int claimed;
+            do {
+                claimed = dispatchBatch();
+            } while (claimed == properties.getBatchSize());
+        } catch (Exception e) {
+            // Claimed rows keep their lease and are retried once it expires
+            log.warn("Email outbox dispatch failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Claim and deliver one batch.
+     *
+     * @return number of rows claimed
+     */
+    int dispatchBatch() {
+        Instant now = Instant.now();
+        List<EmailOutbox> batch = emailOutboxRepository.claimDue(
+                now, now.plusMillis(properties.getLeaseMs()), properties.getBatchSize());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // MimeMessage has identity equality; map each message back to its row
+        Map<MimeMessage, EmailOutbox> messages = new IdentityHashMap<>();
+        for (EmailOutbox email : batch) {
+            try {
+                messages.put(emailService.buildMessage(email), email);
+            } catch (Exception e) {
+                // Template or address problems do not fix themselves
+                fail(email, "Cannot build message: " + e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return batch.size();
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        try {
+            batchSendTimer.record(() -> emailService.send(messages.keySet().toArray(MimeMessage[]::new)));
+        } catch (MailSendException e) {
+            // Per-message failures; a connect failure lists every message
+            failures = e.getFailedMessages();
+        } catch (MailException e) {
+            // Authentication or other connection-level failure: nothing was sent
+            failures = new IdentityHashMap<>();
+            for (MimeMessage message : messages.keySet()) {
+                failures.put(message, e);
+            }
+        }
+
+        Instant sentAt = Instant.now();
+        List<UUID> sentIds = new ArrayList<>(messages.size());
+        for (Map.Entry<MimeMessage, EmailOutbox> entry : messages.entrySet()) {
+            EmailOutbox email = entry.getValue();
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                sentIds.add(email.getId());
+                counter("email.outbox.sent", email).increment();
+                if (email.getCreatedAt() != null) {
+                    Timer.builder("email.outbox.delivery.latency")
+                            .description("Time from enqueue to SMTP acceptance")
+                            .tag("type", email.getEmailType().name())
+                            .register(meterRegistry)
+                            .record(Duration.between(email.getCreatedAt(), sentAt));
+                }
+            } else if (isPermanent(failure) || email.getAttempts() >= properties.getMaxAttempts()) {
+                fail(email, failure.getMessage());
+            } else {
+                retry(email, failure.getMessage());
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            emailOutboxRepository.markSent(sentIds, sentAt);
+        }
+        return batch.size();
+    }
+
+    private void retry(EmailOutbox email, String error) {
+        Instant nextAttemptAt = Instant.now().plusMillis(backoffMs(email.getAttempts()));
+        emailOutboxRepository.markRetry(email.getId(), nextAttemptAt, truncate(error));
+        counter("email.outbox.retried", email).increment();
+        log.info("Email {} ({}) attempt {} failed, retrying at {}: {}",
+                email.getId(), email.getEmailType(), email.getAttempts(), nextAttemptAt, error);
+    }
+
+    private void fail(EmailOutbox email, String error) {
+        emailOutboxRepository.markFailed(email.getId(), truncate(error));
+        counter("email.outbox.failed", email).increment();
+        log.error("Email {} ({}) to {} failed permanently after {} attempt(s): {}",
+                email.getId(), email.getEmailType(), email.getRecipientEmail(), email.getAttempts(), error);
+    }
+
+    /**
+     * Exponential backoff with up to 20% jitter so retries of one outage
+     * do not hit the SMTP server in lockstep.
+     *
+     * @param attempts attempts made so far (1 after the first failure)
+     */
+    long backoffMs(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        long delay = Math.min(properties.getBackoffMaxMs(), properties.getBackoffInitialMs() << exponent);
+        return delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+    }
+
+    /**
+     * Rejected recipients (5xx) will be rejected again; do not retry.
+     */
+    private boolean isPermanent(Exception failure) {
+        return failure instanceof SendFailedException sendFailed
+                && sendFailed.getInvalidAddresses() != null
+                && sendFailed.getInvalidAddresses().length > 0;
+    }
+
+    private Counter counter(String name, EmailOutbox email) {
+        return meterRegistry.counter(name, "type", email.getEmailType().name());
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
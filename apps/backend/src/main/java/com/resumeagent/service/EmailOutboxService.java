@@ -0,0 +1,59 @@
+package com.resumeagent.service;
+
+import com.resumeagent.entity.EmailOutbox;
+import com.resumeagent.entity.enums.EmailType;
+import com.resumeagent.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Email Outbox Service
+ * Queues application emails in email_outbox INSIDE the caller's transaction:
+ * - the email exists if and only if the user/token rows were committed
+ * - the request returns without waiting for SMTP
+ * EmailOutboxDispatcher delivers the rows asynchronously.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    /**
+     * Queue an email verification message.
+     *
+     * @param recipientEmail email address of the user
+     * @param recipientName  display name of the user
+     * @param token          verification token for the link
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueVerificationEmail(String recipientEmail, String recipientName, String token) {
+        enqueue(EmailType.VERIFICATION, recipientEmail, recipientName, token);
+    }
+
+    /**
+     * Queue a password reset message.
+     *
+     * @param recipientEmail email address of the user
+     * @param recipientName  display name of the user
+     * @param token          reset token for the link
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueuePasswordResetEmail(String recipientEmail, String recipientName, String token) {
+        enqueue(EmailType.PASSWORD_RESET, recipientEmail, recipientName, token);
+    }
+
+    private void enqueue(EmailType type, String recipientEmail, String recipientName, String token) {
+        emailOutboxRepository.save(EmailOutbox.builder()
+                .emailType(type)
+                .recipientEmail(recipientEmail)
+                .recipientName(recipientName)
+                .actionToken(token)
+                .build());
+        log.debug("Queued {} email for {}", type, recipientEmail);
+    }
+}
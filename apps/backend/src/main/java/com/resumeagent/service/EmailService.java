@@ -1,139 +1,157 @@
 package com.resumeagent.service;
 
+import com.resumeagent.entity.EmailOutbox;
+import com.resumeagent.entity.enums.EmailType;
+import jakarta.mail.Message;
 import jakarta.mail.MessagingException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
-import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.ClassPathResource;
+import jakarta.mail.internet.MimeUtility;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
+import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.time.Year;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * EmailService
- * Responsible for sending application emails.
+ * Responsible for building and sending application emails.
  * This service focuses only on email construction and delivery.
  * Responsibilities:
- * - Load and process email templates
- * - Inject dynamic values (name, links, year)
- * - Send emails using JavaMail
+ * - Render precompiled email templates (name, links, year)
+ * - Send emails using JavaMail (batched over one SMTP connection)
+ * PERFORMANCE:
+ * - Templates are read and compiled ONCE at startup (EmailTemplate) and
+ *   rendered in a single pass; no classpath I/O per email
+ * - A template referencing a variable buildMessage does not supply fails
+ *   startup (it would otherwise render as an empty string in every email)
+ * - Static MIME parts are built once and reused: the From address is parsed
+ *   once and each subject is RFC 2047-encoded and folded once
+ * - Messages are single-part text/html (no multipart wrapper)
  * IMPORTANT:
  * - This service should NOT contain business logic
- * - It should be reusable for other email types in the future
+ * - Business flows never call it directly: they queue an email_outbox row
+ *   (EmailOutboxService) and EmailOutboxDispatcher delivers it
  */
 @Service
-@RequiredArgsConstructor
 public class EmailService {
 
+    private static final String FROM = "ResumeAgent <yunus.bagewadi32@gmail.com>";
+
+    // In production, these base URLs should come from configuration
+    private static final String VERIFICATION_LINK = "http://localhost:3000/verify-email/";
+    private static final String RESET_LINK = "http://localhost:3000/reset-password?token=";
+
+    // Variables supplied by buildMessage; templates may not reference others
+    private static final String RECIPIENT_NAME = "recipient_name";
+    private static final String VERIFICATION_LINK_VARIABLE = "verification_link";
+    private static final String YEAR = "year";
+    private static final Set<String> TEMPLATE_VARIABLES = Set.of(RECIPIENT_NAME, VERIFICATION_LINK_VARIABLE, YEAR);
+
     private final JavaMailSender mailSender;
+    private final InternetAddress from;
+    private final Map<EmailType, CompiledEmail> emails = new EnumMap<>(EmailType.class);
+
+    /**
+     * Static parts of one email type, prepared at startup.
+     *
+     * @param template       compiled HTML body
+     * @param encodedSubject RFC 2047-encoded, folded Subject header value
+     * @param linkPrefix     action link without the token
+     */
+    private record CompiledEmail(EmailTemplate template, String encodedSubject, String linkPrefix) {
+    }
+
+    public EmailService(JavaMailSender mailSender) {
+        this.mailSender = mailSender;
+        try {
+            this.from = new InternetAddress(FROM, true);
+            emails.put(EmailType.VERIFICATION, compile(
+                    "templates/email/email_verification.html",
+                    "Verification Email for ResumeAgent",
+                    VERIFICATION_LINK));
+            emails.put(EmailType.PASSWORD_RESET, compile(
+                    "templates/email/reset_password.html",
+                    "Reset your ResumeAgent password",
+                    RESET_LINK));
+        } catch (AddressException | UnsupportedEncodingException e) {
+            throw new IllegalStateException("Invalid static email configuration: " + e.getMessage(), e);
+        }
+    }
 
     /**
-     * Sends an email verification message to the user.
+     * Build the MIME message for a queued email.
      * Flow:
-     * - Build verification link using the provided token
-     * - Load HTML email template from classpath
-     * - Replace template placeholders with dynamic values
-     * - Send email as HTML using MimeMessage
+     * - Build action link from the stored token
+     * - Render the precompiled template (values HTML-escaped)
+     * - Attach the pre-built From address and Subject header
      * SECURITY NOTES:
      * - Token is sent only via email link
      * - Token itself is not logged or returned
      *
-     * @param recipientEmail email address of the user
-     * @param recipientName  display name of the user
-     * @param token          unique verification token
-     *
-     * @throws IOException         if email template cannot be loaded
-     * @throws MessagingException  if email sending fails
+     * @param email outbox row
+     * @return ready-to-send message
+     * @throws MessagingException if the message cannot be built (e.g. invalid recipient address)
      */
-    public void sendVerificationEmail(
-            String recipientEmail, String recipientName, String token) throws IOException, MessagingException {
-
-        // Build verification link that user will click
-        // In production, this base URL should come from configuration
-        String verificationLink = "http://localhost:3000/verify-email/" + token;
-
-        // Load HTML email template from classpath
-        String htmlTemplate = loadTemplate("templates/email/email_verification.html");
-
-        // Email subject line
-        String subject = "Verification Email for ResumeAgent";
+    public MimeMessage buildMessage(EmailOutbox email) throws MessagingException {
+        CompiledEmail compiled = emails.get(email.getEmailType());
 
-        // Replace placeholders in the HTML template
-        String html = htmlTemplate
-                .replace("{{recipient_name}}", recipientName)
-                .replace("{{verification_link}}", verificationLink)
-                .replace("{{year}}", String.valueOf(Year.now().getValue()));
+        // Both templates use the verification_link placeholder for the action link
+        String html = compiled.template().render(Map.of(
+                RECIPIENT_NAME, email.getRecipientName() != null ? email.getRecipientName() : "",
+                VERIFICATION_LINK_VARIABLE, compiled.linkPrefix() + email.getActionToken(),
+                YEAR, String.valueOf(Year.now().getValue())));
 
-        // Create MIME email message (supports HTML content)
         MimeMessage message = mailSender.createMimeMessage();
-        // Helper simplifies setting recipients, subject, and body
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, StandardCharsets.UTF_8.name());
+        message.setFrom(from);
+        message.setRecipient(Message.RecipientType.TO, new InternetAddress(email.getRecipientEmail(), true));
+        // Already encoded and folded; set verbatim instead of re-encoding per message
+        message.setHeader("Subject", compiled.encodedSubject());
+        message.setText(html, StandardCharsets.UTF_8.name(), "html");
 
-        helper.setFrom("ResumeAgent <yunus.bagewadi32@gmail.com>");
-        helper.setTo(recipientEmail);
-        helper.setSubject(subject);
-
-        // Set email content as HTML
-        helper.setText(html, true);
-
-        // Send the email
-        mailSender.send(message);
+        return message;
     }
 
     /**
-     * Sends a password reset email to the user.
+     * Send several messages over ONE SMTP connection.
+     * JavaMailSenderImpl connects once per call, so a batch pays the TCP +
+     * STARTTLS + AUTH handshake once instead of once per email.
      *
-     * @param recipientEmail email address of the user
-     * @param recipientName  display name of the user
-     * @param token          unique password reset token
-     * @throws IOException        if template cannot be loaded
-     * @throws MessagingException if sending fails
+     * @param messages messages to send
+     * @throws org.springframework.mail.MailSendException with the per-message
+     *         failures if some messages could not be sent
      */
-    public void sendPasswordResetEmail(String recipientEmail, String recipientName, String token)
-            throws IOException, MessagingException {
-
-        // Build reset link using frontend path (match verification style)
-        String resetLink = "http://localhost:3000/reset-password?token=" + token;
-
-        // Load reset HTML template
-        String htmlTemplate = loadTemplate("templates/email/reset_password.html");
-
-        String subject = "Reset your ResumeAgent password";
-
-        String html = htmlTemplate
-                .replace("{{recipient_name}}", recipientName)
-                .replace("{{verification_link}}", resetLink) // template uses verification_link placeholder
-                .replace("{{year}}", String.valueOf(java.time.Year.now().getValue()));
-
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, java.nio.charset.StandardCharsets.UTF_8.name());
-
-        helper.setFrom("ResumeAgent <yunus.bagewadi32@gmail.com>");
-        helper.setTo(recipientEmail);
-        helper.setSubject(subject);
-        helper.setText(html, true);
-
-        mailSender.send(message);
+    public void send(MimeMessage... messages) {
+        mailSender.send(messages);
     }
 
+    private static CompiledEmail compile(String templatePath, String subject, String linkPrefix)
+            throws UnsupportedEncodingException {
+        String encodedSubject = MimeUtility.fold(9,
+                MimeUtility.encodeText(subject, StandardCharsets.UTF_8.name(), null));
+        return new CompiledEmail(validated(EmailTemplate.load(templatePath), templatePath), encodedSubject, linkPrefix);
+    }
 
     /**
-     * Loads an email template file from the classpath.
+     * Fail fast on placeholders buildMessage never fills (typos, renamed variables).
      *
-     * @param path relative path to the template file
-     * @return template content as a String
-     * @throws IOException if file cannot be read
+     * @throws IllegalStateException if the template references an unknown variable
      */
-    private String loadTemplate(String path) throws IOException {
-
-        ClassPathResource resource = new ClassPathResource(path);
-
-        // Read template file as UTF-8 text
-        byte[] bytes = resource.getInputStream().readAllBytes();
-
-        return new String(bytes, StandardCharsets.UTF_8);
+    static EmailTemplate validated(EmailTemplate template, String templatePath) {
+        List<String> unknown = template.placeholders().stream()
+                .filter(placeholder -> !TEMPLATE_VARIABLES.contains(placeholder))
+                .distinct()
+                .toList();
+        if (!unknown.isEmpty()) {
+            throw new IllegalStateException(
+                    "Email template " + templatePath + " references unknown variables: " + unknown);
+        }
+        return template;
     }
 }
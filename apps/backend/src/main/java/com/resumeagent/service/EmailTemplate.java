@@ -0,0 +1,134 @@
+package com.resumeagent.service;
+
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precompiled email template.
+ * The HTML is parsed ONCE into alternating literal / placeholder segments:
+ *   "<p>Hello <strong>" {{recipient_name}} "</strong>,</p>..."
+ * Rendering walks the segments and appends into one pre-sized builder, so a
+ * render is a single pass with no template I/O and no intermediate copies
+ * (the old chained String.replace copied the whole page per placeholder).
+ * SECURITY NOTE:
+ * Every value is HTML-escaped (text and quoted attribute safe), so a user
+ * display name cannot inject markup into the email.
+ * Instances are immutable and thread-safe.
+ */
+public final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    /**
+     * Literal segments; placeholder i sits between literals[i] and literals[i + 1].
+     */
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalLength;
+
+    private EmailTemplate(String[] literals, String[] placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compile template source.
+     *
+     * @param source template text with {{name}} placeholders
+     * @return compiled template
+     * @throws IllegalArgumentException if a placeholder is not closed
+     */
+    public static EmailTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, position)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at offset " + open);
+            }
+            literals.add(source.substring(position, open));
+            placeholders.add(source.substring(open + OPEN.length(), close).trim());
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+
+        return new EmailTemplate(literals.toArray(String[]::new), placeholders.toArray(String[]::new));
+    }
+
+    /**
+     * Load and compile a classpath template (UTF-8).
+     *
+     * @param path classpath location, e.g. templates/email/email_verification.html
+     * @throws UncheckedIOException if the template cannot be read
+     */
+    public static EmailTemplate load(String path) {
+        try (InputStream in = new ClassPathResource(path).getInputStream()) {
+            return compile(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load email template " + path, e);
+        }
+    }
+
+    /**
+     * Render with HTML-escaped values.
+     * Unknown placeholders render as empty strings.
+     *
+     * @param values placeholder name -> raw (unescaped) value
+     * @return rendered HTML
+     */
+    public String render(Map<String, String> values) {
+        // Headroom for values and escapes; avoids builder regrowth in the common case
+        StringBuilder out = new StringBuilder(literalLength + 256);
+        out.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = values.get(placeholders[i]);
+            if (value != null) {
+                appendEscaped(out, value);
+            }
+            out.append(literals[i + 1]);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Placeholder names in template order (EmailService validates them at startup).
+     */
+    public List<String> placeholders() {
+        return List.of(placeholders);
+    }
+
+    private static void appendEscaped(StringBuilder out, String value) {
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String replacement = switch (value.charAt(i)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (replacement != null) {
+                out.append(value, start, i).append(replacement);
+                start = i + 1;
+            }
+        }
+        out.append(value, start, value.length());
+    }
+}
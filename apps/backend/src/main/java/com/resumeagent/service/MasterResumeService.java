@@ -1,21 +1,31 @@
 package com.resumeagent.service;
 
 import com.resumeagent.ai.agents.ResumeParserAgent;
+import com.resumeagent.cache.InvalidationBus;
+import com.resumeagent.cache.MasterResumeCache;
+import com.resumeagent.cache.InvalidationTopic;
 import com.resumeagent.dto.request.CreateAndUpdateMasterResume;
 import com.resumeagent.dto.response.CommonResponse;
-import com.resumeagent.dto.response.MasterResumeResponse;
 import com.resumeagent.entity.MasterResume;
 import com.resumeagent.entity.User;
 import com.resumeagent.entity.model.MasterResumeJson;
+import com.resumeagent.entity.model.MasterResumeSection;
 import com.resumeagent.exception.DuplicateResourceException;
+import com.resumeagent.exception.InvalidSectionValueException;
 import com.resumeagent.repository.MasterResumeRepository;
 import com.resumeagent.repository.UserRepository;
+import com.resumeagent.security.AuthenticatedUser;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -26,6 +36,9 @@ public class MasterResumeService {
     private final MasterResumeRepository masterResumeRepository;
     private final ObjectMapper objectMapper;
     private final ResumeParserAgent resumeParserAgent;
+    private final InvalidationBus invalidationBus;
+    private final MasterResumeCache masterResumeCache;
+    private final MasterResumeVersionService masterResumeVersionService;
 
     /**
      * Creates a Master Resume for the authenticated user.
@@ -34,12 +47,10 @@ public class MasterResumeService {
      * and we want full rollback if anything fails.
      */
     @Transactional
-    public CommonResponse createMasterResume(CreateAndUpdateMasterResume request, String email) {
+    public CommonResponse createMasterResume(CreateAndUpdateMasterResume request, AuthenticatedUser principal) {
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
-
-        UUID userId = user.getId();
+        UUID userId = principal.userId();
+        String email = principal.email();
 
         // Prevent duplicate master resume creation
         if (masterResumeRepository.existsByUserId(userId)) {
@@ -49,18 +60,24 @@ public class MasterResumeService {
         // Convert request DTO -> Model (stored as JSONB)
         MasterResumeJson resumeJson = convertToModel(request);
 
+        // Reference only: the FK is all the insert needs (no users SELECT)
         MasterResume masterResume = MasterResume.builder()
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .resumeJson(resumeJson)
                 .active(true)
                 .build();
 
         try {
-            masterResumeRepository.save(masterResume);
+            // Flush now: the unique violation must surface here, and version 1
+            // snapshots the inserted row
+            masterResumeRepository.saveAndFlush(masterResume);
         } catch (DataIntegrityViolationException ex) {
             // This handles race conditions if two requests come together
             throw new DuplicateResourceException("Master resume already exists for this user");
         }
+        masterResume.setCurrentVersion(masterResumeVersionService.recordVersion(userId, null));
+        invalidationBus.publish(InvalidationTopic.MASTER_RESUME, userId);
+        masterResumeCache.putAfterCommit(userId, masterResume);
 
         return CommonResponse.builder()
                 .message("Master resume created successfully")
@@ -69,12 +86,10 @@ public class MasterResumeService {
     }
 
     @Transactional
-    public CommonResponse createMasterResumeFromText(String resumeText, String email) {
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
+    public CommonResponse createMasterResumeFromText(String resumeText, AuthenticatedUser principal) {
 
-        UUID userId = user.getId();
+        UUID userId = principal.userId();
+        String email = principal.email();
 
         // Prevent duplicate master resume creation
         if (masterResumeRepository.existsByUserId(userId)) {
@@ -83,18 +98,24 @@ public class MasterResumeService {
 
         MasterResumeJson parsedResume = resumeParserAgent.run(resumeText);
 
+        // Reference only: the FK is all the insert needs (no users SELECT)
         MasterResume masterResume = MasterResume.builder()
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .resumeJson(parsedResume)
                 .active(true)
                 .build();
 
         try {
-            masterResumeRepository.save(masterResume);
+            // Flush now: the unique violation must surface here, and version 1
+            // snapshots the inserted row
+            masterResumeRepository.saveAndFlush(masterResume);
         } catch (DataIntegrityViolationException ex) {
             // This handles race conditions if two requests come together
             throw new DuplicateResourceException("Master resume already exists for this user");
         }
+        masterResume.setCurrentVersion(masterResumeVersionService.recordVersion(userId, null));
+        invalidationBus.publish(InvalidationTopic.MASTER_RESUME, userId);
+        masterResumeCache.putAfterCommit(userId, masterResume);
 
         return CommonResponse.builder()
                 .message("Master resume created from text successfully \n \n" + parsedResume)
@@ -107,15 +128,18 @@ public class MasterResumeService {
      * Only if master resume exist then update happens.
      * Transactional because we insert a new master resume row,
      * and we want full rollback if anything fails.
+     * CONCURRENCY:
+     * The row is read with FOR UPDATE: the version delta is diffed against
+     * this document, so a concurrent full update or section patch must not
+     * commit between the read and recordVersion (its delta would otherwise
+     * be stored against a base that is not the previous version).
      */
     @Transactional
-    public CommonResponse updateMasterResume(CreateAndUpdateMasterResume request, String email) {
+    public CommonResponse updateMasterResume(CreateAndUpdateMasterResume request, AuthenticatedUser principal) {
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() ->
-                        new IllegalStateException("Authenticated user not found"));
+        String email = principal.email();
 
-        MasterResume masterResume = masterResumeRepository.findByUser(user)
+        MasterResume masterResume = masterResumeRepository.findByUserIdForUpdate(principal.userId())
                 .orElseThrow(() ->
                         new IllegalStateException(
                                 "Master resume does not exist. Create one before updating."));
@@ -123,6 +147,9 @@ public class MasterResumeService {
         // Convert DTO → JSON model
         MasterResumeJson resumeJson = convertToModel(request);
 
+        // Delta for the version history (empty if nothing changed)
+        JsonNode patch = masterResumeVersionService.diff(masterResume.getResumeJson(), resumeJson);
+
         // Update canonical JSON
         masterResume.setResumeJson(resumeJson);
         // updatedAt handled by @PreUpdate
@@ -133,6 +160,11 @@ public class MasterResumeService {
             // This handles race conditions if two requests come together
             throw new DuplicateResourceException("Master resume does not exist. Create one before updating.");
         }
+        if (!patch.isEmpty()) {
+            masterResume.setCurrentVersion(masterResumeVersionService.recordVersion(principal.userId(), patch));
+        }
+        invalidationBus.publish(InvalidationTopic.MASTER_RESUME, principal.userId());
+        masterResumeCache.putAfterCommit(principal.userId(), masterResume);
 
         return CommonResponse.builder()
                 .message("Master resume updated successfully")
@@ -140,32 +172,129 @@ public class MasterResumeService {
                 .build();
     }
 
-    @Transactional(readOnly = true)
-    public MasterResumeResponse getMasterResume(String email) {
+    /**
+     * Returns the user's master resume as JSON text, exactly as stored.
+     * PERFORMANCE:
+     * The /view response is the stored document wrapped in an envelope, so
+     * the read is a single indexed query whose jsonb value is rendered by
+     * PostgreSQL and written straight to the response. Deserializing into
+     * MasterResumeJson and re-serializing it (or serving the graph from
+     * MasterResumeCache) allocates several times the document size per
+     * request; the cache stays reserved for generation, which needs the graph.
+     * No transaction: one auto-commit statement.
+     * NOTE:
+     * Stored documents match the DTO output only because every writer uses
+     * the application ObjectMapper (HibernateJsonConfig) and V12 rewrote the
+     * array dates of older rows to ISO strings.
+     */
+    public String getMasterResumeJson(AuthenticatedUser principal) {
 
-        User user = userRepository.findByEmail(email)
+        return masterResumeRepository.findResumeJsonTextByUserId(principal.userId())
                 .orElseThrow(() ->
-                        new IllegalStateException("Authenticated user not found"));
+                        new IllegalStateException("Master resume not found"));
+    }
 
-        MasterResume masterResume = masterResumeRepository.findByUser(user)
+    /**
+     * Returns one top-level section of the user's master resume as JSON text.
+     * Extracted by PostgreSQL (resume_json -> section): the response is the
+     * size of the section, not of the document.
+     */
+    public String getSectionJson(MasterResumeSection section, AuthenticatedUser principal) {
+
+        return masterResumeRepository.findSectionJsonText(principal.userId(), section.getKey())
                 .orElseThrow(() ->
                         new IllegalStateException("Master resume not found"));
+    }
+
+    /**
+     * Returns one element of a list section (e.g. a single experience entry).
+     *
+     * @return the element as JSON text, empty if the resume or the index does not exist
+     */
+    public Optional<String> getSectionItemJson(MasterResumeSection section, int index, AuthenticatedUser principal) {
+
+        if (!section.isList() || index < 0) {
+            return Optional.empty();
+        }
+        return masterResumeRepository.findSectionItemJsonText(principal.userId(), section.getKey(), index);
+    }
 
-        return MasterResumeResponse.builder()
-                .resumeJson(masterResume.getResumeJson())
+    /**
+     * Replaces one top-level section of the user's master resume.
+     * FLOW:
+     * - Body is bound to the section model (same validation as a full update)
+     *   and re-serialized, so unknown properties never reach the document
+     * - jsonb_set replaces the section in SQL; the document is not loaded,
+     *   deserialized or re-sent
+     * - A version is recorded whose delta is the single JSON Patch operation
+     *   "add /section" built from the same value (no document diff needed)
+     * - MASTER_RESUME is invalidated (the cached graph is reloaded lazily)
+     * PERFORMANCE:
+     * Payload, JSON work and network traffic scale with the section size.
+     * PostgreSQL still writes a new row version of the jsonb value (there is
+     * no in-place partial update of a jsonb datum).
+     */
+    @Transactional
+    public CommonResponse patchSection(MasterResumeSection section, JsonNode value, AuthenticatedUser principal) {
+
+        JavaType type = section.isList()
+                ? objectMapper.getTypeFactory().constructCollectionType(List.class, section.getItemType())
+                : objectMapper.getTypeFactory().constructType(section.getValueType());
+
+        JsonNode normalized = normalize(section, value, type);
+        int updated = masterResumeRepository.updateSection(
+                principal.userId(), section.getKey(), normalized.toString(), Instant.now());
+        if (updated == 0) {
+            throw new IllegalStateException("Master resume does not exist. Create one before updating.");
+        }
+        // "add" also covers sections missing from older documents (jsonb_set creates them)
+        masterResumeVersionService.recordVersion(principal.userId(),
+                masterResumeVersionService.operation("add", "/" + section.getKey(), normalized));
+        invalidationBus.publish(InvalidationTopic.MASTER_RESUME, principal.userId());
+
+        return CommonResponse.builder()
+                .message("Master resume section updated successfully")
+                .email(principal.email())
                 .build();
     }
 
+    /**
+     * Replaces one existing element of a list section (e.g. one experience entry).
+     *
+     * @return false if the resume or the element does not exist
+     */
     @Transactional
-    public CommonResponse deleteMasterResume(String email) {
+    public boolean patchSectionItem(MasterResumeSection section, int index, JsonNode value,
+                                    AuthenticatedUser principal) {
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
+        if (!section.isList() || index < 0) {
+            return false;
+        }
+
+        JavaType type = objectMapper.getTypeFactory().constructType(section.getItemType());
+        JsonNode normalized = normalize(section, value, type);
+        int updated = masterResumeRepository.updateSectionItem(
+                principal.userId(), section.getKey(), index, normalized.toString(), Instant.now());
+        if (updated == 0) {
+            return false;
+        }
+        masterResumeVersionService.recordVersion(principal.userId(),
+                masterResumeVersionService.operation("replace", "/" + section.getKey() + "/" + index, normalized));
+        invalidationBus.publish(InvalidationTopic.MASTER_RESUME, principal.userId());
+        return true;
+    }
+
+    @Transactional
+    public CommonResponse deleteMasterResume(AuthenticatedUser principal) {
+
+        String email = principal.email();
+        User user = userRepository.getReferenceById(principal.userId());
 
         MasterResume masterResume = masterResumeRepository.findByUser(user)
                 .orElseThrow(() -> new IllegalStateException("Master resume not found"));
 
         masterResumeRepository.delete(masterResume);
+        invalidationBus.publish(InvalidationTopic.MASTER_RESUME, principal.userId());
 
         return CommonResponse.builder()
                 .email(email)
@@ -174,6 +303,17 @@ public class MasterResumeService {
     }
 
 
+    /**
+     * Bind a section patch to its model type and convert it back to a tree.
+     */
+    private JsonNode normalize(MasterResumeSection section, JsonNode value, JavaType type) {
+        try {
+            return objectMapper.valueToTree(objectMapper.convertValue(value, type));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidSectionValueException("Invalid value for section " + section.getKey());
+        }
+    }
+
     /**
      * Simple manual conversion method.
      * This keeps the service clean and avoids tight coupling of DB model and API DTO.
@@ -0,0 +1,163 @@
+package com.resumeagent.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.flipkart.zjsonpatch.JsonDiff;
+import com.flipkart.zjsonpatch.JsonPatch;
+import com.resumeagent.config.MasterResumeVersionProperties;
+import com.resumeagent.dto.response.MasterResumeVersionResponse;
+import com.resumeagent.dto.response.MasterResumeVersionSummaryResponse;
+import com.resumeagent.entity.MasterResumeVersion;
+import com.resumeagent.repository.MasterResumeRepository;
+import com.resumeagent.repository.MasterResumeVersionRepository;
+import com.resumeagent.repository.ResumeRepository;
+import com.resumeagent.security.AuthenticatedUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * MasterResumeVersionService
+ * Version history of master resumes (see V11__master_resume_versions.sql).
+ * FLOW (write):
+ * - Full update: JSON Patch = diff(previous document, new document)
+ * - Section patch: JSON Patch = one add/replace operation built from the
+ *   section value, so the document is still never loaded
+ * - recordVersion appends the version in the caller's transaction; every
+ *   snapshot-interval-th version stores the full document instead
+ * FLOW (read):
+ * - Nearest snapshot at or below the version + the deltas after it,
+ *   fetched in one query and replayed in memory
+ * CONCURRENCY:
+ * A delta is only valid against the version before it. Every writer holds
+ * the master_resumes row lock from the moment its base is fixed until
+ * commit: full updates read the row FOR UPDATE before diffing, section
+ * patches lock it with their UPDATE (which sees the latest committed
+ * document), and recordVersion numbers versions under the same lock.
+ * PERFORMANCE:
+ * Reconstruction applies at most snapshot-interval - 1 patches; deltas are
+ * proportional to the edit, not to the document.
+ */
+@Service
+@RequiredArgsConstructor
+public class MasterResumeVersionService {
+
+    /**
+     * Upper bound for GET /api/master-resume/versions.
+     */
+    static final int MAX_LISTED_VERSIONS = 100;
+
+    private final MasterResumeVersionRepository versionRepository;
+    private final MasterResumeRepository masterResumeRepository;
+    private final ResumeRepository resumeRepository;
+    private final MasterResumeVersionProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Append the next version of the user's master resume.
+     * Must run in the transaction that changed the document.
+     *
+     * @param patch JSON Patch from the previous version (null for the first version)
+     * @return the new version number
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int recordVersion(UUID userId, JsonNode patch) {
+        String patchJson = patch == null ? "[]" : patch.toString();
+        int inserted = versionRepository.recordVersion(
+                userId, patchJson, properties.getSnapshotInterval(), Instant.now());
+        if (inserted == 0) {
+            throw new IllegalStateException("Master resume not found");
+        }
+        return masterResumeRepository.findCurrentVersionByUserId(userId)
+                .orElseThrow(() -> new IllegalStateException("Master resume not found"));
+    }
+
+    /**
+     * JSON Patch turning one resume model into another (empty array if equal).
+     */
+    public JsonNode diff(Object before, Object after) {
+        return JsonDiff.asJson(objectMapper.valueToTree(before), objectMapper.valueToTree(after));
+    }
+
+    /**
+     * Single-operation JSON Patch, e.g. ("add", "/coreSkills", {...}).
+     */
+    public JsonNode operation(String op, String path, JsonNode value) {
+        ArrayNode patch = objectMapper.createArrayNode();
+        patch.addObject()
+                .put("op", op)
+                .put("path", path)
+                .set("value", value);
+        return patch;
+    }
+
+    /**
+     * Latest versions of the user's master resume, newest first.
+     */
+    public List<MasterResumeVersionSummaryResponse> listVersions(AuthenticatedUser principal) {
+        return versionRepository.findSummariesByUserId(principal.userId(), Limit.of(MAX_LISTED_VERSIONS));
+    }
+
+    /**
+     * Rebuild one version of the user's master resume.
+     *
+     * @return empty if the user has no master resume or no such version
+     */
+    @Transactional(readOnly = true)
+    public Optional<MasterResumeVersionResponse> getVersion(int versionNumber, AuthenticatedUser principal) {
+        return masterResumeRepository.findIdByUserId(principal.userId())
+                .flatMap(masterResumeId -> reconstruct(masterResumeId, versionNumber));
+    }
+
+    /**
+     * Rebuild the master resume version a generated resume was produced from.
+     *
+     * @return empty if the resume does not belong to the user or predates versioning
+     */
+    @Transactional(readOnly = true)
+    public Optional<MasterResumeVersionResponse> getResumeSource(UUID resumeId, AuthenticatedUser principal) {
+        return resumeRepository.findMasterResumeVersion(resumeId, principal.userId())
+                .flatMap(version -> reconstruct(version.getMasterResume().getId(), version.getVersionNumber()));
+    }
+
+    private Optional<MasterResumeVersionResponse> reconstruct(UUID masterResumeId, int versionNumber) {
+        List<MasterResumeVersion> chain = versionRepository.findReconstructionChain(masterResumeId, versionNumber);
+        if (chain.isEmpty() || chain.getLast().getVersionNumber() != versionNumber) {
+            return Optional.empty();
+        }
+
+        MasterResumeVersion target = chain.getLast();
+        return Optional.of(MasterResumeVersionResponse.builder()
+                .id(target.getId())
+                .versionNumber(target.getVersionNumber())
+                .createdAt(target.getCreatedAt())
+                .resumeJson(replay(chain))
+                .build());
+    }
+
+    /**
+     * Apply a chain's deltas to its leading snapshot.
+     *
+     * @param chain snapshot first, then consecutive deltas in version order
+     */
+    static JsonNode replay(List<MasterResumeVersion> chain) {
+        MasterResumeVersion base = chain.getFirst();
+        if (!base.isSnapshot()) {
+            throw new IllegalStateException("Version chain does not start with a snapshot: " + base.getVersionNumber());
+        }
+
+        JsonNode document = base.getSnapshot();
+        for (MasterResumeVersion delta : chain.subList(1, chain.size())) {
+            document = JsonPatch.apply(delta.getPatch(), document);
+        }
+        return document;
+    }
+}
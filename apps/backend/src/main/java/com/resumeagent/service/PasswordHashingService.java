@@ -0,0 +1,229 @@
+package com.resumeagent.service;
+
+import com.resumeagent.config.PasswordHashingProperties;
+import com.resumeagent.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Password Hashing Service
+ * Runs every BCrypt encode/verify on a dedicated, CPU-sized pool.
+ * WHY:
+ * - BCrypt(12) is ~250 ms of pure CPU; on request threads a login storm
+ *   starves every other endpoint
+ * - Callers must hash OUTSIDE database transactions, so no connection is
+ *   held while the CPU works
+ * ADMISSION CONTROL:
+ * - Bounded queue: a full queue rejects immediately (503 + Retry-After)
+ * - Bounded wait: a caller that has waited max-wait-ms gives up (503) and
+ *   its job is cancelled if it has not started yet
+ * METRICS (Micrometer):
+ * - password.hashing.queue.wait: time a job waited for a worker
+ * - password.hashing.duration {operation=encode|matches}: hashing CPU time
+ * - password.hashing.rejected {reason=queue_full|timeout}
+ * - password.hashing.queue.size / password.hashing.active
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private ThreadPoolExecutor executor;
+    private Timer queueWaitTimer;
+    private Timer encodeTimer;
+    private Timer matchesTimer;
+    private Counter rejectedQueueFull;
+    private Counter rejectedTimeout;
+
+    @PostConstruct
+    void init() {
+        int threads = properties.effectiveThreads();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        queueWaitTimer = Timer.builder("password.hashing.queue.wait")
+                .description("Time a password hash job waited for a worker")
+                .register(meterRegistry);
+        encodeTimer = Timer.builder("password.hashing.duration")
+                .tag("operation", "encode")
+                .description("Password hashing CPU time")
+                .register(meterRegistry);
+        matchesTimer = Timer.builder("password.hashing.duration")
+                .tag("operation", "matches")
+                .description("Password hashing CPU time")
+                .register(meterRegistry);
+        rejectedQueueFull = Counter.builder("password.hashing.rejected")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        rejectedTimeout = Counter.builder("password.hashing.rejected")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+
+        log.info("Password hashing pool started with {} thread(s), queue capacity {}",
+                threads, properties.getQueueCapacity());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Hash a raw password.
+     *
+     * @throws ServiceBusyException if hashing capacity is exhausted
+     */
+    public String encode(String rawPassword) {
+        return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * Verify a raw password against a stored hash.
+     *
+     * @throws ServiceBusyException if hashing capacity is exhausted
+     */
+    public boolean matches(String rawPassword, String passwordHash) {
+        return submit(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, passwordHash)));
+    }
+
+    /**
+     * Verify a raw password against several stored hashes (password history).
+     * PARALLEL + EARLY EXIT:
+     * Each hash is its own job on the hashing pool, so N history entries
+     * cost ~one BCrypt latency instead of N. The first match cancels the
+     * remaining jobs. The whole check shares one max-wait-ms deadline.
+     *
+     * @throws ServiceBusyException if hashing capacity is exhausted
+     */
+    public boolean matchesAny(String rawPassword, List<String> passwordHashes) {
+        if (passwordHashes.isEmpty()) {
+            return false;
+        }
+        if (passwordHashes.size() == 1) {
+            return matches(rawPassword, passwordHashes.get(0));
+        }
+
+        long enqueuedAt = System.nanoTime();
+        long deadline = enqueuedAt + TimeUnit.MILLISECONDS.toNanos(properties.getMaxWaitMs());
+        CompletionService<Boolean> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Boolean>> futures = new ArrayList<>(passwordHashes.size());
+
+        try {
+            for (String passwordHash : passwordHashes) {
+                futures.add(completion.submit(() -> {
+                    queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                    return matchesTimer.record(() -> passwordEncoder.matches(rawPassword, passwordHash));
+                }));
+            }
+        } catch (RejectedExecutionException e) {
+            futures.forEach(future -> future.cancel(false));
+            rejectedQueueFull.increment();
+            throw new ServiceBusyException("Password hashing queue full", properties.getRetryAfterSeconds());
+        }
+
+        try {
+            for (int done = 0; done < futures.size(); done++) {
+                Future<Boolean> next = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    rejectedTimeout.increment();
+                    throw new ServiceBusyException("Password hashing timed out", properties.getRetryAfterSeconds());
+                }
+                if (next.get()) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            throw hashingFailure(e);
+        } finally {
+            // Early exit / failure: drop jobs that have not started yet
+            futures.forEach(future -> future.cancel(false));
+        }
+    }
+
+    private <T> T submit(Callable<T> job) {
+        long enqueuedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return job.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedQueueFull.increment();
+            throw new ServiceBusyException("Password hashing queue full", properties.getRetryAfterSeconds());
+        }
+
+        try {
+            return future.get(properties.getMaxWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            rejectedTimeout.increment();
+            throw new ServiceBusyException("Password hashing timed out", properties.getRetryAfterSeconds());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            throw hashingFailure(e);
+        }
+    }
+
+    /**
+     * One failure contract for every pool job: runtime exceptions from the
+     * encoder are rethrown as is, checked causes are wrapped.
+     */
+    private static RuntimeException hashingFailure(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new IllegalStateException("Password hashing failed", cause);
+    }
+}
@@ -0,0 +1,104 @@
+package com.resumeagent.service;
+
+import com.resumeagent.config.PasswordHistoryProperties;
+import com.resumeagent.repository.PasswordHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deletes password history rows outside the reuse-check window.
+ * FLOW:
+ * - pg_try_advisory_lock on a dedicated connection; if another node holds
+ *   it, skip this run (only one node prunes at a time)
+ * - Walk the users with more than window-size rows in user_id order
+ *   (keyset over idx_password_history_user_created, one pass per run)
+ * - Prune each batch of users with one short DELETE that reads only
+ *   those users' rows
+ * Never ranks the whole table and never holds long locks on
+ * password_history; failures are retried on the next run.
+ * NOTE:
+ * Same locking scheme as TokenPurgeJob (the lock connection is held for
+ * the whole run).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PasswordHistoryPruneJob {
+
+    /**
+     * Cluster-wide advisory lock key for this job ("PWHPRUNE" in ASCII).
+     */
+    static final long ADVISORY_LOCK_KEY = 0x5057485052554E45L;
+
+    /**
+     * Smallest uuid value (PostgreSQL compares uuids bytewise).
+     */
+    private static final UUID FIRST_USER_ID = new UUID(0L, 0L);
+
+    private final DataSource dataSource;
+    private final PasswordHistoryRepository passwordHistoryRepository;
+    private final PasswordHistoryProperties properties;
+
+    @Scheduled(
+            initialDelayString = "${password-history.prune-initial-delay-ms:60000}",
+            fixedDelayString = "${password-history.prune-interval-ms:21600000}"
+    )
+    public void prune() {
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!advisoryLock(lockConnection, "pg_try_advisory_lock")) {
+                log.debug("Password history prune skipped: another node holds the lock");
+                return;
+            }
+            try {
+                pruneAll();
+            } finally {
+                advisoryLock(lockConnection, "pg_advisory_unlock");
+            }
+        } catch (SQLException e) {
+            log.warn("Password history prune could not acquire its lock: {}", e.getMessage());
+        }
+    }
+
+    private void pruneAll() {
+        int keep = properties.getWindowSize();
+        int batchSize = properties.getPruneBatchSize();
+        int total = 0;
+        try {
+            UUID after = FIRST_USER_ID;
+            List<UUID> users;
+            do {
+                users = passwordHistoryRepository.findUsersOverWindow(keep, after, batchSize);
+                if (users.isEmpty()) {
+                    break;
+                }
+                total += passwordHistoryRepository.deleteOutsideWindow(users, keep);
+                after = users.getLast();
+            } while (users.size() == batchSize);
+        } catch (Exception e) {
+            log.warn("Password history prune failed after {} row(s): {}", total, e.getMessage());
+            return;
+        }
+        if (total > 0) {
+            log.info("Pruned {} password history row(s) outside the last {}", total, keep);
+        }
+    }
+
+    private static boolean advisoryLock(Connection connection, String function) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT " + function + "(?)")) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
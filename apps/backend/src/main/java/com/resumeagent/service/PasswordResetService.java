@@ -1,5 +1,8 @@
 package com.resumeagent.service;
 
+import com.resumeagent.cache.InvalidationBus;
+import com.resumeagent.cache.InvalidationTopic;
+import com.resumeagent.config.PasswordHistoryProperties;
 import com.resumeagent.entity.PasswordHistory;
 import com.resumeagent.entity.PasswordResetTokens;
 import com.resumeagent.entity.User;
@@ -7,16 +10,15 @@ import com.resumeagent.exception.ValueNotFoundException;
 import com.resumeagent.repository.PasswordHistoryRepository;
 import com.resumeagent.repository.PasswordResetTokensRepository;
 import com.resumeagent.repository.UserRepository;
-import jakarta.mail.MessagingException;
 import jakarta.transaction.Transactional;
 import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.naming.AuthenticationException;
-import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -33,15 +35,18 @@ public class PasswordResetService {
     private final UserRepository userRepository;
     private final PasswordResetTokensRepository passwordResetTokensRepository;
     private final PasswordHistoryRepository passwordHistoryRepository;
-    private final EmailService emailService;
-    private final PasswordEncoder passwordEncoder;
+    private final EmailOutboxService emailOutboxService;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordHistoryProperties passwordHistoryProperties;
+    private final InvalidationBus invalidationBus;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * Create a password reset token and send reset email (silent if email not found)
      */
     @Transactional
-    public void createAndSendPasswordResetToken(String email, jakarta.servlet.http.HttpServletRequest httpRequest)
-            throws IOException, MessagingException {
+    public void createAndSendPasswordResetToken(String email, jakarta.servlet.http.HttpServletRequest httpRequest) {
 
         Optional<User> optionalUser = userRepository.findByEmail(email);
 
@@ -75,16 +80,26 @@ public class PasswordResetService {
 
         passwordResetTokensRepository.save(resetToken);
 
-        // Send reset email (uses existing templating pipeline; method added below)
-        emailService.sendPasswordResetEmail(user.getEmail(), user.getFullName(), token);
+        // Queue reset email in the same transaction as the token (delivered by EmailOutboxDispatcher)
+        emailOutboxService.enqueuePasswordResetEmail(user.getEmail(), user.getFullName(), token);
 
         log.info("Password reset token created for user: {}", user.getEmail());
     }
 
     /**
      * Validate token and reset password
+     * FLOW:
+     * 1. Validate token (short read)
+     * 2. History check (newest password-history.window-size hashes) + hash
+     *    new password on the hashing pool, with NO transaction open (no
+     *    connection held during BCrypt)
+     * 3. Short write transaction: re-check token, update password, mark token
+     *    used, store history, delete every refresh token of the user
+     * SECURITY NOTE:
+     * bumpSecurityVersion only invalidates access tokens; refresh rotation
+     * reads the new security version, so a stolen refresh cookie would keep
+     * minting valid access tokens unless the refresh tokens go too.
      */
-    @Transactional
     public void resetPassword(String token, String newPassword) {
         PasswordResetTokens resetToken = passwordResetTokensRepository.findByToken(token)
                 .orElseThrow(() -> new ValueNotFoundException("Token not found"));
@@ -93,32 +108,46 @@ public class PasswordResetService {
             throw new ValidationException("Token is invalid or expired");
         }
 
-        User user = resetToken.getUser();
+        UUID userId = resetToken.getUser().getId();
 
-        // Check password history to prevent reuse
-        List<PasswordHistory> histories = passwordHistoryRepository.findByUserId(user.getId());
-        for (PasswordHistory ph : histories) {
-            if (passwordEncoder.matches(newPassword, ph.getPasswordHash())) {
-                throw new ValidationException("New password must not match previous passwords");
-            }
+        // Check the newest N hashes for reuse (parallel on the hashing pool, early exit)
+        List<String> previousHashes = passwordHistoryRepository.findRecentHashes(
+                userId, Limit.of(passwordHistoryProperties.getWindowSize()));
+        if (passwordHashingService.matchesAny(newPassword, previousHashes)) {
+            throw new ValidationException("New password must not match previous passwords");
         }
 
-        // Encode and save new password
-        String encoded = passwordEncoder.encode(newPassword);
-        user.setPasswordHash(encoded);
-        userRepository.save(user);
-
-        // Mark token used
-        resetToken.markUsed();
-        passwordResetTokensRepository.save(resetToken);
-
-        // Persist password history
-        PasswordHistory ph = PasswordHistory.builder()
-                .user(user)
-                .passwordHash(encoded)
-                .build();
-        passwordHistoryRepository.save(ph);
-
-        log.info("Password reset successful for user: {}", user.getEmail());
+        // Encode new password (outside any transaction)
+        String encoded = passwordHashingService.encode(newPassword);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // Re-read under lock: the token may have been used while we were hashing
+            PasswordResetTokens lockedToken = passwordResetTokensRepository.findByTokenForUpdate(token)
+                    .filter(PasswordResetTokens::isUsable)
+                    .orElseThrow(() -> new ValidationException("Token is invalid or expired"));
+
+            User user = lockedToken.getUser();
+            user.setPasswordHash(encoded);
+            // Invalidate access tokens issued before the reset
+            user.bumpSecurityVersion();
+            userRepository.save(user);
+            invalidationBus.publish(InvalidationTopic.USER, user.getId());
+
+            // End every session: refresh tokens issued before the reset must not survive it
+            refreshTokenService.revokeAllUserTokens(user);
+
+            // Mark token used
+            lockedToken.markUsed();
+            passwordResetTokensRepository.save(lockedToken);
+
+            // Persist password history
+            PasswordHistory ph = PasswordHistory.builder()
+                    .user(user)
+                    .passwordHash(encoded)
+                    .build();
+            passwordHistoryRepository.save(ph);
+
+            log.info("Password reset successful for user: {}", user.getEmail());
+        });
     }
 }
@@ -1,9 +1,12 @@
 package com.resumeagent.service;
 
+import com.resumeagent.cache.BoundedTtlCache;
 import com.resumeagent.config.JwtProperties;
 import com.resumeagent.entity.RefreshToken;
 import com.resumeagent.entity.User;
 import com.resumeagent.repository.RefreshTokenRepository;
+import com.resumeagent.repository.projection.RotatedRefreshToken;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,8 +14,10 @@ import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Service for managing refresh token lifecycle
@@ -35,6 +40,19 @@ public class RefreshTokenService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtProperties jwtProperties;
 
+    /**
+     * Hashes of tokens that are unknown, revoked or expired
+     * Absorbs garbage/replayed tokens without a database round trip.
+     */
+    private BoundedTtlCache<String, Boolean> unknownTokenHashes;
+
+    @PostConstruct
+    void initNegativeCache() {
+        unknownTokenHashes = new BoundedTtlCache<>(
+                jwtProperties.getRefreshTokenNegativeCacheSize(),
+                Duration.ofMillis(jwtProperties.getRefreshTokenNegativeCacheTtlMs()));
+    }
+
     /**
      * Create and store hashed refresh token
      * WHY HASH TOKENS?
@@ -80,9 +98,9 @@ public class RefreshTokenService {
      * Validate refresh token (hash matching)
      * VALIDATION PROCESS:
      * 1. Hash incoming raw token (SHA-256)
-     * 2. Query database for matching hash
-     * 3. Check expiration
-     * 4. Check revoked status
+     * 2. Reject hashes already known to be invalid (bounded negative cache)
+     * 3. Query database for matching hash (unique index on token_hash)
+     * 4. Expiration and revoked status checked in the same query
      * SECURITY NOTE:
      * Uses SHA-256 hashing (fast, no 72-byte limit)
      * This method compares the deterministic hash of the raw token
@@ -96,14 +114,92 @@ public class RefreshTokenService {
         // Compute SHA-256 of incoming token
         String incomingHash = DigestUtils.sha256Hex(rawToken);
 
-        // Query all tokens to check hash match
-        // NOTE: For security we still perform application-layer checks; the repository
-        // could expose a finder by tokenHash for efficiency if desired.
-        return refreshTokenRepository.findAll().stream()
-                .filter(token -> incomingHash.equals(token.getTokenHash()))
-                .filter(token -> !token.isExpired())
-                .filter(token -> !token.isRevoked())
-                .findFirst();
+        // Known-bad hash: answer without touching the database
+        if (unknownTokenHashes.contains(incomingHash)) {
+            return Optional.empty();
+        }
+
+        // Single unique-index lookup; expiry and revocation checked in the query
+        Optional<RefreshToken> token = refreshTokenRepository.findActiveByTokenHash(incomingHash, Instant.now());
+        if (token.isEmpty()) {
+            // Unknown, revoked or expired tokens never become valid again
+            unknownTokenHashes.put(incomingHash, Boolean.TRUE);
+        }
+        return token;
+    }
+
+    /**
+     * Rotate refresh token (single-use enforcement)
+     * ROTATION FLOW:
+     * 1. Hash presented and successor tokens (SHA-256, no BCrypt)
+     * 2. One UPDATE ... RETURNING + INSERT statement revokes the presented token,
+     *    links it to its successor (replacedByToken) and stores the successor
+     * 3. Nothing rotated -> check for reuse of an already-rotated token
+     * REUSE DETECTION:
+     * A revoked token presented again means two parties hold the same session
+     * (legitimate client and thief). All user sessions are terminated.
+     * Exception: a token rotated within jwt.refresh-token-reuse-grace-ms is
+     * the loser of a refresh race between tabs / parallel retries of the
+     * same client; it is rejected without revoking the other sessions (the
+     * winner's successor cookie is already on its way to the client).
+     * Active tokens of users with an unverified email are not rotated and
+     * stay usable once the email is verified.
+     *
+     * @param rawToken    Presented refresh token
+     * @param newRawToken Successor refresh token
+     * @param request     HTTP request for context (IP, user agent)
+     * @return Owner of the rotated token, empty if the token was not usable
+     */
+    @Transactional
+    public Optional<RotatedRefreshToken> rotateRefreshToken(
+            String rawToken, String newRawToken, HttpServletRequest request) {
+        String presentedHash = DigestUtils.sha256Hex(rawToken);
+        if (unknownTokenHashes.contains(presentedHash)) {
+            return Optional.empty();
+        }
+
+        Instant now = Instant.now();
+        Optional<RotatedRefreshToken> rotated = refreshTokenRepository.rotate(
+                presentedHash,
+                UUID.randomUUID(),
+                DigestUtils.sha256Hex(newRawToken),
+                now.plusMillis(jwtProperties.getRefreshTokenExpirationMs()),
+                extractClientIp(request),
+                request.getHeader("User-Agent"),
+                now);
+
+        if (rotated.isPresent()) {
+            log.info("Rotated refresh token for user: {}", rotated.get().getEmail());
+            return rotated;
+        }
+
+        // Slow path (rejections only): distinguish reuse from unknown/expired tokens
+        Optional<RefreshToken> stored = refreshTokenRepository.findByTokenHash(presentedHash);
+        if (stored.isPresent() && stored.get().isActive()) {
+            // Not rotated because the owner's email is not verified: not consumed, not cached
+            return Optional.empty();
+        }
+        stored.filter(RefreshToken::isRevoked).ifPresent(reused -> {
+            if (isConcurrentRotation(reused, now)) {
+                log.info("Refresh token already rotated by a concurrent request for user: {}",
+                        reused.getUser().getEmail());
+            } else {
+                log.warn("Refresh token reuse detected for user: {}", reused.getUser().getEmail());
+                revokeAllUserTokens(reused.getUser());
+            }
+        });
+
+        unknownTokenHashes.put(presentedHash, Boolean.TRUE);
+        return Optional.empty();
+    }
+
+    /**
+     * Rotated (not revoked by logout/security response) within the grace window
+     */
+    private boolean isConcurrentRotation(RefreshToken token, Instant now) {
+        return token.getReplacedByToken() != null
+                && token.getRevokedAt() != null
+                && !token.getRevokedAt().isBefore(now.minusMillis(jwtProperties.getRefreshTokenReuseGraceMs()));
     }
 
     /**
@@ -168,9 +264,9 @@ public class RefreshTokenService {
     }
 
     /**
-     * Cleanup expired tokens (scheduled maintenance)
-     * Should be called by scheduled job (e.g., daily at 2 AM)
-     * Prevents database bloat from old tokens
+     * Cleanup expired tokens (one unbounded DELETE)
+     * For manual/administrative use; the scheduled purge is TokenPurgeJob,
+     * which deletes in bounded batches under a cluster-wide lock
      *
      * @return Number of deleted tokens
      */
@@ -0,0 +1,41 @@
+package com.resumeagent.service;
+
+import com.resumeagent.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in a user's resume history: the (created_at, id) of the
+ * last row of the previous page.
+ * Serialized as base64url("epochSecond:nano:id") so clients treat it as an
+ * opaque token. It carries no user ID: the query is always scoped to the
+ * authenticated user, so a foreign cursor only changes the start position.
+ */
+record ResumeHistoryCursor(Instant createdAt, UUID id) {
+
+    String encode() {
+        String raw = createdAt.getEpochSecond() + ":" + createdAt.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @throws InvalidCursorException if the cursor was not produced by encode()
+     */
+    static ResumeHistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            String[] parts = raw.split(":", 3);
+            if (parts.length != 3) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new ResumeHistoryCursor(createdAt, UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.resumeagent.service;
+
+import com.resumeagent.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in ranked search results: the (rank, id) of the last hit
+ * of the previous page.
+ * The rank is carried as its exact float bits, so the next page compares
+ * against the same real value PostgreSQL returned (no decimal round trip).
+ * Serialized as base64url("rankBits:id"), opaque to clients.
+ */
+record ResumeSearchCursor(float rank, UUID id) {
+
+    String encode() {
+        String raw = Integer.toHexString(Float.floatToIntBits(rank)) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @throws InvalidCursorException if the cursor was not produced by encode()
+     */
+    static ResumeSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            String[] parts = raw.split(":", 2);
+            if (parts.length != 2) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            float rank = Float.intBitsToFloat(Integer.parseUnsignedInt(parts[0], 16));
+            return new ResumeSearchCursor(rank, UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.resumeagent.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Turns free-text search input into a to_tsquery expression
+ * Every whitespace-separated term becomes a quoted prefix operand and the
+ * operands are AND-ed: "back java spr" -> 'back':* & 'java':* & 'spr':*
+ * SECURITY NOTE:
+ * Terms are quoted lexemes (quotes and backslashes escaped), so tsquery
+ * operators typed by the user (&, |, !, <->, parentheses) are plain text and
+ * cannot produce a syntax error or an unbounded query. The value is still
+ * bound as a parameter, never concatenated into SQL.
+ */
+final class ResumeSearchQuery {
+
+    /**
+     * Upper bound on AND-ed terms (keeps GIN lookups bounded).
+     */
+    static final int MAX_TERMS = 8;
+
+    /**
+     * Longer terms are truncated; they still work as prefixes.
+     */
+    static final int MAX_TERM_LENGTH = 64;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern HAS_WORD_CHARACTER = Pattern.compile("[\\p{L}\\p{N}]");
+
+    private ResumeSearchQuery() {
+    }
+
+    /**
+     * @return tsquery text, or null if the input has no searchable term
+     */
+    static String toTsQuery(String input) {
+        if (input == null) {
+            return null;
+        }
+
+        List<String> operands = new ArrayList<>();
+        for (String term : WHITESPACE.split(input.strip())) {
+            if (operands.size() == MAX_TERMS) {
+                break;
+            }
+            if (!HAS_WORD_CHARACTER.matcher(term).find()) {
+                continue;
+            }
+            if (term.length() > MAX_TERM_LENGTH) {
+                term = term.substring(0, MAX_TERM_LENGTH);
+            }
+            String quoted = term.replace("\\", "\\\\").replace("'", "''");
+            operands.add("'" + quoted + "':*");
+        }
+        return operands.isEmpty() ? null : String.join(" & ", operands);
+    }
+}
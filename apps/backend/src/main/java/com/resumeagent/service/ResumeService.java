@@ -6,9 +6,16 @@ import com.resumeagent.ai.agents.ATSOptimizationAgent;
 import com.resumeagent.ai.agents.JobDescriptionAnalyzerAgent;
 import com.resumeagent.ai.agents.MatchingAgent;
 import com.resumeagent.ai.agents.ResumeRewriteAgent;
+import com.resumeagent.ai.llm.LlmAgent;
+import com.resumeagent.ai.llm.LlmCallContext;
 import com.resumeagent.ai.util.TokenCounter;
+import com.resumeagent.cache.InvalidationBus;
+import com.resumeagent.cache.InvalidationTopic;
+import com.resumeagent.cache.MasterResumeCache;
+import com.resumeagent.cache.UserSnapshotCache;
 import com.resumeagent.dto.response.CommonResponse;
-import com.resumeagent.entity.MasterResume;
+import com.resumeagent.dto.response.ResumeHistoryResponse;
+import com.resumeagent.dto.response.ResumeSummaryResponse;
 import com.resumeagent.entity.Resume;
 import com.resumeagent.entity.ResumeAgentLog;
 import com.resumeagent.entity.User;
@@ -18,28 +25,49 @@ import com.resumeagent.entity.enums.UserRole;
 import com.resumeagent.entity.model.JobDescriptionAnalyzerJson;
 import com.resumeagent.entity.model.MasterResumeJson;
 import com.resumeagent.entity.model.MatchingAgentJson;
+import com.resumeagent.exception.LlmUnavailableException;
 import com.resumeagent.repository.MasterResumeRepository;
+import com.resumeagent.repository.MasterResumeVersionRepository;
 import com.resumeagent.repository.ResumeAgentLogRepository;
 import com.resumeagent.repository.ResumeRepository;
 import com.resumeagent.repository.UserRepository;
+import com.resumeagent.repository.projection.ResumeGenerationUsage;
+import com.resumeagent.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ResumeService {
 
+    /**
+     * Upper bound for one history page.
+     */
+    static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     // Repositories
     private final UserRepository userRepository;
     private final MasterResumeRepository masterResumeRepository;
+    private final MasterResumeVersionRepository masterResumeVersionRepository;
+    private final MasterResumeCache masterResumeCache;
+    private final UserSnapshotCache userSnapshotCache;
+    private final InvalidationBus invalidationBus;
     private final ResumeAgentLogRepository agentLogRepository;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
     // AI Agents
     private final JobDescriptionAnalyzerAgent jobDescriptionAnalyzerAgent;
@@ -51,50 +79,57 @@ public class ResumeService {
     /**
      * Generates a tailored resume based on the provided job description
      * for the authenticated user.
+     * FLOW:
+     * 1. Quota pre-check (counters only, no lock, no transaction)
+     * 2. AI pipeline with NO transaction open: no users row lock and no
+     *    pooled connection held across the LLM calls. Each agent run is
+     *    logged in its own short transaction, so failed runs persist too
+     * 3. Short write transaction: re-check the quota under the users row
+     *    lock, save the resume, count the generation, link the agent logs
+     * NOTE:
+     * Concurrent requests of one user may both pass the pre-check; the
+     * locked re-check keeps the count within the limit and rejects the
+     * later one after its pipeline ran.
      *
      * @param jobDescription The job description to tailor the resume for.
-     * @param email          The email of the authenticated user.
+     * @param principal      The authenticated user (from access-token claims).
      * @return A CommonResponse indicating success or failure.
      * @throws JsonProcessingException If there is an error processing JSON.
      */
-    @Transactional
-    public CommonResponse generateResume(String jobDescription, String email) throws JsonProcessingException {
-
-        User user = userRepository.findByEmailForUpdate(email)
-                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
+    public CommonResponse generateResume(String jobDescription, AuthenticatedUser principal)
+            throws JsonProcessingException {
 
+        String email = principal.email();
+        UUID userId = principal.userId();
         LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
 
-        // Reset monthly usage if it's a new month
-        if (!user.getUsageMonth().equals(currentMonth)) {
-            user.setUsageMonth(currentMonth);
-            user.setResumeGenerationUsed(0);
-        }
-
-        // Enforce resume generation limits based on user role
-        if (user.getResumeGenerationUsed() >= user.getResumeGenerationLimit()) {
-            throw new IllegalStateException(
-                    "Monthly resume generation limit reached. Upgrade your plan to continue."
-            );
-        }
+        // Fail fast before spending LLM calls
+        ResumeGenerationUsage usage = userRepository.findResumeGenerationUsageById(userId)
+                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
+        int usedThisMonth = currentMonth.equals(usage.getUsageMonth()) ? usage.getResumeGenerationUsed() : 0;
+        checkGenerationLimit(usedThisMonth, usage.getResumeGenerationLimit());
 
+        // Fetch user's master resume (cached: no query / JSONB deserialization when unchanged)
+        MasterResumeCache.CachedMasterResume cachedMasterResume = masterResumeCache.get(userId)
+                .orElseThrow(() -> new IllegalStateException("Master resume not found"));
 
-        // Fetch user's master resume
-        MasterResume masterResume =  masterResumeRepository.findByUser(user).orElseThrow(
-                () -> new IllegalStateException("Master resume not found"));
+        // Version the pipeline reads (null only for histories that lack it)
+        UUID masterResumeVersionId = masterResumeVersionRepository
+                .findIdByMasterResumeIdAndVersionNumber(
+                        cachedMasterResume.masterResumeId(), cachedMasterResume.versionNumber())
+                .orElse(null);
 
-        // Extract master resume JSON model
-        MasterResumeJson masterResumeJson = masterResume.getResumeJson();
+        // Extract master resume JSON model (shared cached instance: read-only)
+        MasterResumeJson masterResumeJson = cachedMasterResume.resumeJson();
 
-        List<ResumeAgentLog> agentLogs = new ArrayList<>();
+        List<UUID> agentLogIds = new ArrayList<>();
 
         // Execute AI pipeline
         // Step 1: Job Description Analysis
         JobDescriptionAnalyzerJson jobDescriptionAnalyzerJson = executeAgentWithLog(
-                "JobDescriptionAnalyzerAgent",
-                user,
-                null,
-                agentLogs,
+                LlmAgent.JOB_DESCRIPTION_ANALYZER,
+                userId,
+                agentLogIds,
                 TokenCounter.countTokens(jobDescription),
                 this::writeJson,
                 () -> jobDescriptionAnalyzerAgent.executeJobDescriptionAnalyzerAgent(jobDescription)
@@ -103,10 +138,9 @@ public class ResumeService {
         System.out.println("Job Description Analysis JSON: " + jobDescriptionAnalyzerJson);
         // Step 2: Matching
         MatchingAgentJson matchingAgentJson = executeAgentWithLog(
-                "MatchingAgent",
-                user,
-                null,
-                agentLogs,
+                LlmAgent.MATCHING,
+                userId,
+                agentLogIds,
                 countTokensFromJson(masterResumeJson) + countTokensFromJson(jobDescriptionAnalyzerJson),
                 this::writeJson,
                 () -> matchingAgent.executeMatchingAgent(masterResumeJson, jobDescriptionAnalyzerJson)
@@ -114,10 +148,9 @@ public class ResumeService {
 
         // Step 3: Resume Rewriting
         MasterResumeJson rewrittenResume = executeAgentWithLog(
-                "ResumeRewriteAgent",
-                user,
-                null,
-                agentLogs,
+                LlmAgent.RESUME_REWRITE,
+                userId,
+                agentLogIds,
                 countTokensFromJson(masterResumeJson)
                         + countTokensFromJson(jobDescriptionAnalyzerJson)
                         + countTokensFromJson(matchingAgentJson),
@@ -128,10 +161,9 @@ public class ResumeService {
 
         // Step 4: ATS Optimization
         MasterResumeJson finalResume = executeAgentWithLog(
-                "ATSOptimizationAgent",
-                user,
-                null,
-                agentLogs,
+                LlmAgent.ATS_OPTIMIZATION,
+                userId,
+                agentLogIds,
                 countTokensFromJson(rewrittenResume),
                 this::writeJson,
                 () -> atsOptimizationAgent.executeATSOptimizationAgent(rewrittenResume)
@@ -141,36 +173,50 @@ public class ResumeService {
         String jobTitle = jobDescriptionAnalyzerJson.getJobIdentity().getJobTitle();
         String companyName = jobDescriptionAnalyzerJson.getJobIdentity().getCompanyName();
 
-        // Save the generated resume
-        Resume generatedResume = Resume.builder()
-                .user(user)
-                .masterResume(masterResume)
-                .jobTitleTargeted(jobTitle)
-                .jobDescriptionAnalyzerJson(jobDescriptionAnalyzerJson)
-                .companyTargeted(companyName)
-                .resumeJson(finalResume)
-                .status(ResumeStatus.ACTIVE)
-                .build();
-
-        user.setResumeGenerationUsed(user.getResumeGenerationUsed() + 1);
-
         // Handle potential data integrity issues
         try {
-            // Save generated resume
-            resumeRepository.save(generatedResume);
-
-            // Update user's resume generation count
-            userRepository.save(user);
+            transactionTemplate.executeWithoutResult(status -> {
+                // Authoritative quota check under lock: another request may have counted meanwhile
+                User user = userRepository.findByIdForUpdate(userId)
+                        .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
+
+                // Reset monthly usage if it's a new month
+                if (!user.getUsageMonth().equals(currentMonth)) {
+                    user.setUsageMonth(currentMonth);
+                    user.setResumeGenerationUsed(0);
+                }
+                checkGenerationLimit(user.getResumeGenerationUsed(), user.getResumeGenerationLimit());
+
+                // References only: the generated resume needs just the FKs
+                Resume generatedResume = Resume.builder()
+                        .user(user)
+                        .masterResume(masterResumeRepository.getReferenceById(cachedMasterResume.masterResumeId()))
+                        .masterResumeVersion(masterResumeVersionId != null
+                                ? masterResumeVersionRepository.getReferenceById(masterResumeVersionId)
+                                : null)
+                        .jobTitleTargeted(jobTitle)
+                        .jobDescriptionAnalyzerJson(jobDescriptionAnalyzerJson)
+                        .companyTargeted(companyName)
+                        .resumeJson(finalResume)
+                        .status(ResumeStatus.ACTIVE)
+                        .build();
+
+                // Save generated resume
+                resumeRepository.save(generatedResume);
+
+                // Update user's resume generation count
+                user.setResumeGenerationUsed(user.getResumeGenerationUsed() + 1);
+                userRepository.save(user);
+                invalidationBus.publish(InvalidationTopic.USER, user.getId());
+                userSnapshotCache.putAfterCommit(user);
+
+                agentLogRepository.linkToResume(agentLogIds, generatedResume);
+            });
         } catch (DataIntegrityViolationException ex) {
             // This handles race conditions or other integrity issues
             throw new RuntimeException("Failed to save generated resume", ex);
         }
 
-        if (!agentLogs.isEmpty()) {
-            agentLogs.forEach(log -> log.setResume(generatedResume));
-            agentLogRepository.saveAll(agentLogs);
-        }
-
         // Return success response
         return CommonResponse.builder()
                 .message("Resume generated successfully")
@@ -178,6 +224,121 @@ public class ResumeService {
                 .build();
     }
 
+    private static void checkGenerationLimit(int used, int limit) {
+        // Enforce resume generation limits based on user role
+        if (used >= limit) {
+            throw new IllegalStateException(
+                    "Monthly resume generation limit reached. Upgrade your plan to continue."
+            );
+        }
+    }
+
+    /**
+     * Returns one of the user's generated resumes as JSON text, exactly as stored.
+     * Passthrough read: the jsonb value is never turned into an object graph
+     * (see MasterResumeService.getMasterResumeJson).
+     *
+     * @param resumeId  resumes.id
+     * @param principal The authenticated user (from access-token claims).
+     * @return resume_json, empty if the resume does not exist or belongs to another user
+     */
+    public Optional<String> getResumeJson(UUID resumeId, AuthenticatedUser principal) {
+        return resumeRepository.findResumeJsonTextByIdAndUserId(resumeId, principal.userId());
+    }
+
+    /**
+     * Returns one page of the user's generated resumes, newest first.
+     * PAGINATION:
+     * Keyset (seek) on (created_at, id): each page is an index range scan
+     * of limit + 1 rows, so latency does not grow with the page number or
+     * the size of the history. The extra row only tells whether a next
+     * page exists.
+     *
+     * @param cursor    nextCursor of the previous page (null for the first page)
+     * @param limit     page size, clamped to 1..MAX_HISTORY_PAGE_SIZE
+     * @param principal The authenticated user (from access-token claims).
+     */
+    public ResumeHistoryResponse getHistory(String cursor, int limit, AuthenticatedUser principal) {
+
+        int pageSize = Math.clamp(limit, 1, MAX_HISTORY_PAGE_SIZE);
+        Limit fetch = Limit.of(pageSize + 1);
+
+        List<ResumeSummaryResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = resumeRepository.findHistory(principal.userId(), fetch);
+        } else {
+            ResumeHistoryCursor after = ResumeHistoryCursor.decode(cursor);
+            rows = resumeRepository.findHistoryAfter(principal.userId(), after.createdAt(), after.id(), fetch);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            ResumeSummaryResponse last = rows.get(pageSize - 1);
+            nextCursor = new ResumeHistoryCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return ResumeHistoryResponse.builder()
+                .items(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Full-text search over the user's resumes, best match first.
+     * FLOW:
+     * - Input -> prefix tsquery (ResumeSearchQuery); no searchable term -> empty page
+     * - Ranked (id, rank) page from the generated search_vector column
+     * - Summaries for those IDs (no JSONB columns), returned in rank order
+     * PAGINATION:
+     * Keyset on (rank, id) with limit + 1 rows, like getHistory.
+     *
+     * @param query     free-text search input
+     * @param cursor    nextCursor of the previous page (null for the first page)
+     * @param limit     page size, clamped to 1..MAX_HISTORY_PAGE_SIZE
+     * @param principal The authenticated user (from access-token claims).
+     */
+    public ResumeHistoryResponse search(String query, String cursor, int limit, AuthenticatedUser principal) {
+
+        int pageSize = Math.clamp(limit, 1, MAX_HISTORY_PAGE_SIZE);
+        String tsQuery = ResumeSearchQuery.toTsQuery(query);
+        if (tsQuery == null) {
+            return ResumeHistoryResponse.builder()
+                    .items(List.of())
+                    .build();
+        }
+
+        List<Object[]> hits;
+        if (cursor == null || cursor.isBlank()) {
+            hits = resumeRepository.searchRanked(principal.userId(), tsQuery, pageSize + 1);
+        } else {
+            ResumeSearchCursor after = ResumeSearchCursor.decode(cursor);
+            hits = resumeRepository.searchRankedAfter(
+                    principal.userId(), tsQuery, after.rank(), after.id(), pageSize + 1);
+        }
+
+        String nextCursor = null;
+        if (hits.size() > pageSize) {
+            hits = hits.subList(0, pageSize);
+            Object[] last = hits.get(pageSize - 1);
+            nextCursor = new ResumeSearchCursor(((Number) last[1]).floatValue(), (UUID) last[0]).encode();
+        }
+
+        List<UUID> ids = hits.stream()
+                .map(hit -> (UUID) hit[0])
+                .toList();
+        Map<UUID, ResumeSummaryResponse> summaries = resumeRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(ResumeSummaryResponse::getId, Function.identity()));
+
+        return ResumeHistoryResponse.builder()
+                .items(ids.stream()
+                        .map(summaries::get)
+                        .filter(Objects::nonNull)
+                        .toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     private interface AgentCall<T> {
         T call() throws Exception;
     }
@@ -186,23 +347,30 @@ public class ResumeService {
         String serialize(T output) throws JsonProcessingException;
     }
 
+    /**
+     * Run one agent and log the run (SUCCESS or FAILURE) in its own short
+     * transaction: the log survives a failing pipeline.
+     */
     private <T> T executeAgentWithLog(
-            String agentName,
-            User user,
-            Resume resume,
-            List<ResumeAgentLog> agentLogs,
+            LlmAgent agent,
+            UUID userId,
+            List<UUID> agentLogIds,
             int tokensInput,
             AgentOutputSerializer<T> outputSerializer,
             AgentCall<T> action
     ) throws JsonProcessingException {
         long start = System.nanoTime();
+        LlmCallContext.clear();
         try {
             T result = action.call();
-            int tokensOutput = TokenCounter.countTokens(outputSerializer.serialize(result));
-            agentLogs.add(saveAgentLog(
-                    agentName,
-                    user,
-                    resume,
+            // Raw completion size (what max-tokens bounds); parsed output only if unknown
+            Integer completionTokens = completionTokens();
+            int tokensOutput = completionTokens != null
+                    ? completionTokens
+                    : TokenCounter.countTokens(outputSerializer.serialize(result));
+            agentLogIds.add(saveAgentLog(
+                    agent,
+                    userId,
                     AgentExecutionStatus.SUCCESS,
                     null,
                     tokensInput,
@@ -212,27 +380,39 @@ public class ResumeService {
             return result;
         } catch (Exception ex) {
             String errorMessage = ex.getMessage();
-            agentLogs.add(saveAgentLog(
-                    agentName,
-                    user,
-                    resume,
+            saveAgentLog(
+                    agent,
+                    userId,
                     AgentExecutionStatus.FAILURE,
                     errorMessage,
                     tokensInput,
-                    0,
+                    // Truncated / unparsable completions still count; null if none arrived
+                    completionTokens(),
                     start
-            ));
+            );
             if (ex instanceof JsonProcessingException jsonProcessingException) {
                 throw jsonProcessingException;
             }
-            throw new RuntimeException("Agent execution failed: " + agentName, ex);
+            // Unwrapped: GlobalExceptionHandler answers 503 + Retry-After
+            if (ex instanceof LlmUnavailableException llmUnavailableException) {
+                throw llmUnavailableException;
+            }
+            throw new RuntimeException("Agent execution failed: " + agent.getLogName(), ex);
+        } finally {
+            LlmCallContext.clear();
         }
     }
 
-    private ResumeAgentLog saveAgentLog(
-            String agentName,
-            User user,
-            Resume resume,
+    private static Integer completionTokens() {
+        return LlmCallContext.current().map(LlmCallContext.ServedBy::completionTokens).orElse(null);
+    }
+
+    /**
+     * @return resume_agent_logs.id of the saved run
+     */
+    private UUID saveAgentLog(
+            LlmAgent agent,
+            UUID userId,
             AgentExecutionStatus status,
             String errorMessage,
             Integer tokensInput,
@@ -242,18 +422,24 @@ public class ResumeService {
         long elapsedMs = (System.nanoTime() - startNanoTime) / 1_000_000L;
         int executionTimeMs = elapsedMs > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) elapsedMs;
 
-        ResumeAgentLog agentLog = ResumeAgentLog.builder()
-                .agentName(agentName)
-                .user(user)
-                .resume(resume)
-                .status(status)
-                .executionTimeMs(executionTimeMs)
-                .errorMessage(errorMessage)
-                .tokensInput(tokensInput)
-                .tokensOutput(tokensOutput)
-                .build();
-
-        return agentLogRepository.save(agentLog);
+        // Model that served the call (or last model attempted on failure)
+        LlmCallContext.ServedBy servedBy = LlmCallContext.current().orElse(null);
+
+        return transactionTemplate.execute(txStatus -> {
+            ResumeAgentLog agentLog = ResumeAgentLog.builder()
+                    .agentName(agent.getLogName())
+                    .model(servedBy != null ? servedBy.model() : null)
+                    .fallbackDepth(servedBy != null ? servedBy.fallbackDepth() : null)
+                    .user(userRepository.getReferenceById(userId))
+                    .status(status)
+                    .executionTimeMs(executionTimeMs)
+                    .errorMessage(errorMessage)
+                    .tokensInput(tokensInput)
+                    .tokensOutput(tokensOutput)
+                    .build();
+
+            return agentLogRepository.save(agentLog).getId();
+        });
     }
 
     private int countTokensFromJson(Object value) throws JsonProcessingException {
@@ -0,0 +1,147 @@
+package com.resumeagent.service;
+
+import com.resumeagent.config.TokenPurgeProperties;
+import com.resumeagent.repository.EmailOutboxRepository;
+import com.resumeagent.repository.EmailVerificationTokenRepository;
+import com.resumeagent.repository.PasswordResetTokensRepository;
+import com.resumeagent.repository.RefreshTokenRepository;
+import com.resumeagent.repository.RevokedAccessTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.function.IntSupplier;
+
+/**
+ * Deletes expired and used rows from the token tables.
+ * FLOW (per run):
+ * 1. pg_try_advisory_lock on a dedicated connection; if another node holds
+ *    it, skip this run (only one node purges at a time)
+ * 2. Per table, delete bounded batches (ctid TID-scan deletes, one short
+ *    transaction each) until a batch comes back short
+ * 3. Unlock and record metrics
+ * Bounded batches keep row locks, WAL bursts and replication lag small,
+ * unlike one DELETE over months of rows.
+ * METRICS (Micrometer):
+ * - token.purge.deleted {table}: rows deleted
+ * - token.purge.duration: run time (lock held)
+ * - token.purge.skipped: runs skipped because another node held the lock
+ * NOTE:
+ * A session-level advisory lock is tied to the connection that took it, so
+ * the lock connection is held for the whole run (one extra pool connection).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenPurgeJob {
+
+    /**
+     * Cluster-wide advisory lock key for this job ("TOKPURGE" in ASCII).
+     */
+    static final long ADVISORY_LOCK_KEY = 0x544F4B5055524745L;
+
+    private final DataSource dataSource;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final EmailVerificationTokenRepository emailVerificationTokenRepository;
+    private final PasswordResetTokensRepository passwordResetTokensRepository;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final TokenPurgeProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(
+            initialDelayString = "${token-purge.initial-delay-ms:120000}",
+            fixedDelayString = "${token-purge.interval-ms:900000}"
+    )
+    public void purge() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!advisoryLock(lockConnection, "pg_try_advisory_lock")) {
+                meterRegistry.counter("token.purge.skipped").increment();
+                log.debug("Token purge skipped: another node holds the lock");
+                return;
+            }
+            try {
+                Timer.builder("token.purge.duration")
+                        .description("Token purge run time")
+                        .register(meterRegistry)
+                        .record(this::purgeAll);
+            } finally {
+                advisoryLock(lockConnection, "pg_advisory_unlock");
+            }
+        } catch (SQLException e) {
+            log.warn("Token purge could not acquire its lock: {}", e.getMessage());
+        }
+    }
+
+    private void purgeAll() {
+        Instant now = Instant.now();
+        Instant usedBefore = now.minusMillis(properties.getUsedTokenRetentionMs());
+        Instant outboxBefore = now.minusMillis(properties.getOutboxRetentionMs());
+        int batchSize = properties.getBatchSize();
+
+        long refresh = purgeTable("refresh_tokens",
+                () -> refreshTokenRepository.deleteExpiredBatch(now, batchSize));
+        long verification = purgeTable("email_verification_tokens",
+                () -> emailVerificationTokenRepository.deleteExpiredOrUsedBatch(now, usedBefore, batchSize));
+        long reset = purgeTable("password_reset_tokens",
+                () -> passwordResetTokensRepository.deleteExpiredOrUsedBatch(now, usedBefore, batchSize));
+        long outbox = purgeTable("email_outbox",
+                () -> emailOutboxRepository.deleteFinishedBatch(outboxBefore, batchSize));
+        long revoked = purgeTable("revoked_access_tokens",
+                () -> revokedAccessTokenRepository.deleteExpiredBatch(now, batchSize));
+
+        if (refresh + verification + reset + outbox + revoked > 0) {
+            log.info("Token purge deleted refresh={}, verification={}, reset={}, outbox={}, revoked={}",
+                    refresh, verification, reset, outbox, revoked);
+        }
+    }
+
+    /**
+     * Delete batches from one table until a short batch or the per-run cap.
+     * A failing table is logged and left for the next run; other tables
+     * are still purged.
+     */
+    private long purgeTable(String table, IntSupplier deleteBatch) {
+        long total = 0;
+        try {
+            for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+                int deleted = deleteBatch.getAsInt();
+                total += deleted;
+                if (deleted < properties.getBatchSize()) {
+                    break;
+                }
+                if (properties.getBatchPauseMs() > 0) {
+                    Thread.sleep(properties.getBatchPauseMs());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Token purge of {} failed after {} row(s): {}", table, total, e.getMessage());
+        }
+        meterRegistry.counter("token.purge.deleted", "table", table).increment(total);
+        return total;
+    }
+
+    private static boolean advisoryLock(Connection connection, String function) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT " + function + "(?)")) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
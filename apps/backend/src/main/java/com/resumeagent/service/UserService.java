@@ -11,14 +11,11 @@ import com.resumeagent.exception.DuplicateResourceException;
 import com.resumeagent.repository.EmailVerificationTokenRepository;
 import com.resumeagent.repository.PasswordHistoryRepository;
 import com.resumeagent.repository.UserRepository;
-import jakarta.mail.MessagingException;
-import jakarta.transaction.Transactional;
 import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.IOException;
 import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
@@ -33,18 +30,20 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
     private final EmailVerificationTokenRepository emailVerificationTokenRepository;
     private final PasswordHistoryRepository passwordHistoryRepository;
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
 
     /**
      * Registers a new USER account and sends an email verification.
+     * The password is hashed on the hashing pool BEFORE the transaction
+     * starts, so no connection is held during BCrypt.
      *
      * @param request registration DTO
      * @return CommonResponse with message and registered email
      */
-    @Transactional
     public CommonResponse registerUser(RegisterAdminAndUserRequest request) {
 
         // Normalize email to avoid duplicates caused by case or spaces
@@ -60,43 +59,43 @@ public class UserService {
             throw new ValidationException("Passwords do not match");
         }
 
-        // Build and save the user entity (emailActive defaults to false)
-        User user = User.builder()
-                .fullName(request.getFullName())
-                .email(email)
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
-                .userRole(UserRole.USER)
-                .plan(UserPlan.FREE)
-                .resumeGenerationLimit(5) // Free users get 5 resume generations per month
-                .build();
-
-        userRepository.save(user);
-
-        // Save password history (for future reuse checks)
-        PasswordHistory passwordHistory = PasswordHistory.builder()
-                .user(user)
-                .passwordHash(user.getPasswordHash())
-                .build();
-        passwordHistoryRepository.save(passwordHistory);
-
-        // Generate verification token (plain UUID saved in DB like admin flow)
-        String token = UUID.randomUUID().toString();
-
-        EmailVerificationToken emailVerificationToken = EmailVerificationToken.builder()
-                .user(user)
-                .token(token)
-                .expiresAt(Instant.now().plusSeconds(3600)) // 1 hour expiry, same as admin
-                .build();
-
-        emailVerificationTokenRepository.save(emailVerificationToken);
-
-        // Send verification email using existing EmailService
-        try {
-            emailService.sendVerificationEmail(user.getEmail(), user.getFullName(), token);
-        } catch (IOException | MessagingException e) {
-            // Mirror AdminService behavior: bubble up as runtime for controller to handle
-            throw new RuntimeException(e);
-        }
+        // Hash outside the transaction (CPU-bound, bounded pool)
+        String passwordHash = passwordHashingService.encode(request.getPassword());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // Build and save the user entity (emailActive defaults to false)
+            User user = User.builder()
+                    .fullName(request.getFullName())
+                    .email(email)
+                    .passwordHash(passwordHash)
+                    .userRole(UserRole.USER)
+                    .plan(UserPlan.FREE)
+                    .resumeGenerationLimit(5) // Free users get 5 resume generations per month
+                    .build();
+
+            userRepository.save(user);
+
+            // Save password history (for future reuse checks)
+            PasswordHistory passwordHistory = PasswordHistory.builder()
+                    .user(user)
+                    .passwordHash(user.getPasswordHash())
+                    .build();
+            passwordHistoryRepository.save(passwordHistory);
+
+            // Generate verification token (plain UUID saved in DB like admin flow)
+            String token = UUID.randomUUID().toString();
+
+            EmailVerificationToken emailVerificationToken = EmailVerificationToken.builder()
+                    .user(user)
+                    .token(token)
+                    .expiresAt(Instant.now().plusSeconds(3600)) // 1 hour expiry, same as admin
+                    .build();
+
+            emailVerificationTokenRepository.save(emailVerificationToken);
+
+            // Queue verification email; committed atomically with the user and token
+            emailOutboxService.enqueueVerificationEmail(user.getEmail(), user.getFullName(), token);
+        });
 
         // Response mirrors AdminService message
         return CommonResponse.builder()
@@ -0,0 +1,54 @@
+-- ============================================================================
+-- Flyway Migration V11: Master resume version history
+-- ============================================================================
+-- Description: Every change to a master resume creates a numbered version.
+--              Generated resumes reference the exact version they were
+--              produced from (resumes.master_resume_version_id).
+-- STORAGE:
+--   Versions 1, 1 + N, 1 + 2N, ... hold a full snapshot of resume_json;
+--   every other version holds only the RFC 6902 JSON Patch from the
+--   previous version (N = master-resume-versions.snapshot-interval).
+--   A typical edit patch is a few hundred bytes instead of a full copy.
+-- RECONSTRUCTION:
+--   version v = nearest snapshot <= v, then the patches after it in order
+--   (at most N - 1 patches, read with one range scan of the unique index).
+-- VERSION NUMBERS:
+--   master_resumes.current_version is incremented in the same statement
+--   that inserts the version row, under the master_resumes row lock, so
+--   concurrent edits of one resume get consecutive numbers.
+-- ============================================================================
+
+ALTER TABLE master_resumes
+    ADD COLUMN current_version INT NOT NULL DEFAULT 0;
+
+CREATE TABLE master_resume_versions (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    master_resume_id UUID NOT NULL REFERENCES master_resumes(id) ON DELETE CASCADE,
+    version_number INT NOT NULL,
+    -- Full document (snapshot versions only)
+    snapshot JSONB,
+    -- JSON Patch from version_number - 1 (delta versions only)
+    patch JSONB,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uq_master_resume_versions_number UNIQUE (master_resume_id, version_number),
+    CONSTRAINT chk_master_resume_versions_payload CHECK ((snapshot IS NULL) <> (patch IS NULL))
+);
+
+COMMENT ON TABLE master_resume_versions IS
+'Master resume revisions: periodic full snapshots plus JSON Patch deltas in between';
+
+-- Existing master resumes start their history with a snapshot of the current content
+INSERT INTO master_resume_versions (master_resume_id, version_number, snapshot, created_at)
+SELECT id, 1, resume_json, updated_at
+FROM master_resumes;
+
+UPDATE master_resumes SET current_version = 1;
+
+-- Resumes generated from now on point at their source version
+-- (NULL for resumes generated before versioning existed)
+ALTER TABLE resumes
+    ADD COLUMN master_resume_version_id UUID REFERENCES master_resume_versions(id) ON DELETE SET NULL;
+
+CREATE INDEX idx_resumes_master_resume_version_id
+    ON resumes(master_resume_version_id);
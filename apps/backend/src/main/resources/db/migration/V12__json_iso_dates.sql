@@ -0,0 +1,70 @@
+-- ============================================================================
+-- Flyway Migration V12: ISO dates in stored resume JSON
+-- ============================================================================
+-- Description: Before HibernateJsonConfig, Hibernate serialized JSON columns
+--              with its own ObjectMapper, which writes LocalDate as
+--              [yyyy, m, d]. Passthrough reads return resume_json exactly
+--              as stored, so those rows would answer with array dates
+--              where the DTO path (and every newer row) has "yyyy-mm-dd".
+--              Rewrites the date fields of the stored documents:
+--                resume_json: experience[], education[],
+--                  volunteerExperience[] startDate/endDate,
+--                  certifications[].validUntil
+--                analyzed_job_description: jobMetadata.postingDate
+-- NOTE:
+--   Representation only: same dates, no new master resume version and no
+--   updated_at bump (the timestamp triggers are disabled for the rewrite).
+--   jsonb_iso_dates stays available for V13 (version snapshots).
+-- ============================================================================
+
+-- Replace [yyyy, m, d] under the LocalDate keys of the resume models, at any depth
+CREATE FUNCTION jsonb_iso_dates(doc JSONB) RETURNS JSONB
+    LANGUAGE plpgsql IMMUTABLE AS $$
+DECLARE
+    result JSONB;
+BEGIN
+    CASE jsonb_typeof(doc)
+        WHEN 'object' THEN
+            SELECT coalesce(jsonb_object_agg(key,
+                       CASE
+                           WHEN key IN ('startDate', 'endDate', 'validUntil', 'postingDate')
+                                AND jsonb_typeof(value) = 'array'
+                                AND jsonb_array_length(value) = 3
+                                AND jsonb_typeof(value -> 0) = 'number'
+                               THEN to_jsonb(to_char(make_date((value ->> 0)::INT,
+                                                               (value ->> 1)::INT,
+                                                               (value ->> 2)::INT), 'YYYY-MM-DD'))
+                           ELSE jsonb_iso_dates(value)
+                       END), '{}'::JSONB)
+            INTO result
+            FROM jsonb_each(doc);
+            RETURN result;
+        WHEN 'array' THEN
+            SELECT coalesce(jsonb_agg(jsonb_iso_dates(value) ORDER BY ordinality), '[]'::JSONB)
+            INTO result
+            FROM jsonb_array_elements(doc) WITH ORDINALITY;
+            RETURN result;
+        ELSE
+            RETURN doc;
+    END CASE;
+END;
+$$;
+
+ALTER TABLE master_resumes DISABLE TRIGGER update_master_resumes_updated_at;
+ALTER TABLE resumes DISABLE TRIGGER update_resumes_updated_at;
+
+-- The text filter only selects rows that can contain an array date
+UPDATE master_resumes
+SET resume_json = jsonb_iso_dates(resume_json)
+WHERE resume_json::TEXT ~ '"(startDate|endDate|validUntil)": \[';
+
+UPDATE resumes
+SET resume_json = jsonb_iso_dates(resume_json)
+WHERE resume_json::TEXT ~ '"(startDate|endDate|validUntil)": \[';
+
+UPDATE resumes
+SET analyzed_job_description = jsonb_iso_dates(analyzed_job_description)
+WHERE analyzed_job_description::TEXT ~ '"postingDate": \[';
+
+ALTER TABLE master_resumes ENABLE TRIGGER update_master_resumes_updated_at;
+ALTER TABLE resumes ENABLE TRIGGER update_resumes_updated_at;
@@ -0,0 +1,21 @@
+-- ============================================================================
+-- Flyway Migration V13: ISO dates in master resume version snapshots
+-- ============================================================================
+-- Description: V11 copied every existing master resume into its version 1
+--              snapshot as stored, legacy [yyyy, m, d] dates included, while
+--              all later deltas were computed from ISO-date trees
+--              (HibernateJsonConfig). Rewrites the snapshots with the V12
+--              function so a rebuilt version matches the document stored
+--              for it (V12 already rewrote master_resumes.resume_json).
+-- NOTE:
+--   Deltas never address the inside of a date (they replace the whole
+--   value), so they apply unchanged to the rewritten snapshots.
+-- ============================================================================
+
+UPDATE master_resume_versions
+SET snapshot = jsonb_iso_dates(snapshot)
+WHERE snapshot IS NOT NULL
+  AND snapshot::TEXT ~ '"(startDate|endDate|validUntil)": \[';
+
+-- One-off helper: every stored document is normalized now
+DROP FUNCTION jsonb_iso_dates(JSONB);
@@ -0,0 +1,16 @@
+-- ============================================================================
+-- Flyway Migration V2: Record serving LLM model on agent logs
+-- ============================================================================
+-- Description: Adds the model that served each agent run and its position in
+--              the fallback ladder, so failover behavior and its latency
+--              impact can be analysed from resume_agent_logs.
+-- ============================================================================
+
+ALTER TABLE resume_agent_logs
+    ADD COLUMN model VARCHAR(150),
+    ADD COLUMN fallback_depth INT;
+
+CREATE INDEX idx_agent_logs_model ON resume_agent_logs(model);
+
+COMMENT ON COLUMN resume_agent_logs.model IS 'LLM model that served the run (last attempted model on failure)';
+COMMENT ON COLUMN resume_agent_logs.fallback_depth IS 'Fallback ladder position of the serving model (0 = primary)';
@@ -0,0 +1,16 @@
+-- ============================================================================
+-- Flyway Migration V3: Refresh token rotation chain
+-- ============================================================================
+-- Description: /auth/refresh links every rotated token to its successor via
+--              replaced_by_token_id. Deleting the successor (logout, cleanup)
+--              must not fail on that link, so the reference is cleared
+--              instead. The rotated token stays revoked, which is what reuse
+--              detection relies on.
+-- ============================================================================
+
+ALTER TABLE refresh_tokens
+    DROP CONSTRAINT IF EXISTS refresh_tokens_replaced_by_token_id_fkey;
+
+ALTER TABLE refresh_tokens
+    ADD CONSTRAINT refresh_tokens_replaced_by_token_id_fkey
+        FOREIGN KEY (replaced_by_token_id) REFERENCES refresh_tokens(id) ON DELETE SET NULL;
@@ -0,0 +1,13 @@
+-- ============================================================================
+-- Flyway Migration V4: User security version
+-- ============================================================================
+-- Description: Access tokens carry the user's security version (claim "sv").
+--              Bumping the column (password reset, email verification, role
+--              change) invalidates every access token issued before, without
+--              a per-request user lookup by email.
+-- ============================================================================
+
+ALTER TABLE users
+    ADD COLUMN security_version INT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN users.security_version IS 'Incremented when previously issued access tokens must stop working';
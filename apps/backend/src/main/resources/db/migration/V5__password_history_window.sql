@@ -0,0 +1,13 @@
+-- ============================================================================
+-- Flyway Migration V5: Password history window index
+-- ============================================================================
+-- Description: The reuse check reads only the newest N hashes of one user
+--              (ORDER BY created_at DESC LIMIT N). A composite index serves
+--              that as a short index range scan; it also covers every lookup
+--              the single-column user_id index served, which is dropped.
+-- ============================================================================
+
+CREATE INDEX IF NOT EXISTS idx_password_history_user_created
+    ON password_history (user_id, created_at DESC);
+
+DROP INDEX IF EXISTS idx_password_history_user_id;
@@ -0,0 +1,37 @@
+-- ============================================================================
+-- Flyway Migration V6: Email outbox
+-- ============================================================================
+-- Description: Transactional outbox for application emails. Registration and
+--              password-reset flows insert a row in their own transaction;
+--              EmailOutboxDispatcher claims due rows with a lease
+--              (FOR UPDATE SKIP LOCKED), sends them in batches and records the
+--              outcome. SMTP latency never holds a request or a connection.
+-- LIFECYCLE:
+--   PENDING -> SENDING (claimed, next_attempt_at = lease expiry)
+--           -> SENT | PENDING (retry with backoff) | FAILED (attempts exhausted)
+--   A SENDING row whose lease expired (crashed dispatcher) is claimed again.
+-- ============================================================================
+
+CREATE TABLE email_outbox (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    email_type VARCHAR(30) NOT NULL,
+    recipient_email VARCHAR(255) NOT NULL,
+    recipient_name VARCHAR(255),
+    -- Verification / reset token embedded in the email link
+    action_token VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP,
+    CONSTRAINT chk_email_outbox_type CHECK (email_type IN ('VERIFICATION', 'PASSWORD_RESET')),
+    CONSTRAINT chk_email_outbox_status CHECK (status IN ('PENDING', 'SENDING', 'SENT', 'FAILED'))
+);
+
+-- Claim query: due rows only (SENT/FAILED rows never enter the index)
+CREATE INDEX idx_email_outbox_due
+    ON email_outbox (next_attempt_at)
+    WHERE status IN ('PENDING', 'SENDING');
+
+COMMENT ON TABLE email_outbox IS 'Transactional outbox for emails, delivered asynchronously by EmailOutboxDispatcher';
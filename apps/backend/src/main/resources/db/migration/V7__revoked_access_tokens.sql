@@ -0,0 +1,35 @@
+-- ============================================================================
+-- Flyway Migration V7: Access token revocation list
+-- ============================================================================
+-- Description: Access tokens are stateless JWTs; logout now records the
+--              token's jti here so it is rejected before its exp. Rows are
+--              only needed until the token expires (TokenPurgeJob deletes
+--              them afterwards), so the table stays small.
+-- NOTIFY:
+--   Every insert publishes the jti on channel 'access_token_revoked'.
+--   NOTIFY is transactional: listeners hear about a revocation only after
+--   it has committed. Each node adds the jti to its in-memory Bloom filter.
+-- ============================================================================
+
+CREATE TABLE revoked_access_tokens (
+    jti VARCHAR(64) PRIMARY KEY,
+    user_id UUID,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Filter rebuild (expires_at > now) and purge (expires_at < now)
+CREATE INDEX idx_revoked_access_tokens_expires ON revoked_access_tokens (expires_at);
+
+CREATE OR REPLACE FUNCTION notify_access_token_revoked() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify('access_token_revoked', NEW.jti);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_revoked_access_tokens_notify
+    AFTER INSERT ON revoked_access_tokens
+    FOR EACH ROW EXECUTE FUNCTION notify_access_token_revoked();
+
+COMMENT ON TABLE revoked_access_tokens IS 'Access token jti values revoked before exp (logout); rows expire with the token';
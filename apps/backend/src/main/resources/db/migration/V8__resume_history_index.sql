@@ -0,0 +1,22 @@
+-- ============================================================================
+-- Flyway Migration V8: Resume history keyset index
+-- ============================================================================
+-- Description: GET /api/resume/history pages through a user's resumes newest
+--              first with a keyset (seek) predicate:
+--                WHERE user_id = ? AND (created_at, id) < (?, ?)
+--                ORDER BY created_at DESC, id DESC LIMIT n
+--              The composite index serves the filter, the row comparison and
+--              the ordering, so every page is an index range scan of n rows
+--              regardless of how many resumes the user has.
+-- COVERING:
+--   The list projection only needs the INCLUDE columns, so pages can be
+--   answered by index-only scans and the JSONB columns (TOASTed, often
+--   tens of kB) are never read.
+-- ============================================================================
+
+CREATE INDEX idx_resumes_user_created_id
+    ON resumes (user_id, created_at DESC, id DESC)
+    INCLUDE (job_title_targeted, company_targeted, status, updated_at);
+
+-- user_id alone is a prefix of the new index (still serves the FK cascade)
+DROP INDEX IF EXISTS idx_resumes_user_id;
@@ -0,0 +1,47 @@
+-- ============================================================================
+-- Flyway Migration V9: Full-text search over generated resumes
+-- ============================================================================
+-- Description: GET /api/resume/search matches a user's resumes by targeted
+--              job title, company and the key fields of the analyzed job
+--              description. The tsvector is a STORED generated column, so it
+--              is computed once per insert/update instead of per query and
+--              can never drift from the source columns.
+-- WEIGHTS (ts_rank_cd):
+--   A  job_title_targeted, company_targeted
+--   B  analyzed job title, company, role category, industry, seniority
+--   C  mandatory skills / tools / technologies / certifications
+--   D  preferred skills / tools / technologies / certifications
+-- CONFIG:
+--   'simple' (lowercase, no stemming, no stop words): job posts come in
+--   several languages and tech terms (C#, Node.js, Go) must not be stemmed.
+--   Prefix queries (term:*) cover plural/inflected forms.
+-- INDEX:
+--   btree_gin lets one GIN index hold user_id and search_vector, so
+--   "user_id = ? AND search_vector @@ query" is answered from the index
+--   without touching other users' postings.
+-- NOTE:
+--   Adding a STORED generated column rewrites the resumes table once.
+-- ============================================================================
+
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+ALTER TABLE resumes
+    ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple',
+            coalesce(job_title_targeted, '') || ' ' || coalesce(company_targeted, '')), 'A')
+        || setweight(to_tsvector('simple',
+            coalesce(analyzed_job_description #>> '{jobIdentity,jobTitle}', '') || ' ' ||
+            coalesce(analyzed_job_description #>> '{jobIdentity,companyName}', '') || ' ' ||
+            coalesce(analyzed_job_description #>> '{jobIdentity,roleCategory}', '') || ' ' ||
+            coalesce(analyzed_job_description #>> '{jobIdentity,industry}', '') || ' ' ||
+            coalesce(analyzed_job_description #>> '{jobIdentity,seniorityLevel}', '')), 'B')
+        || setweight(jsonb_to_tsvector('simple',
+            coalesce(analyzed_job_description #> '{requirements,mandatory}', '{}'::jsonb), '["string"]'), 'C')
+        || setweight(jsonb_to_tsvector('simple',
+            coalesce(analyzed_job_description #> '{requirements,preferred}', '{}'::jsonb), '["string"]'), 'D')
+    ) STORED;
+
+CREATE INDEX idx_resumes_user_search
+    ON resumes USING GIN (user_id, search_vector);
+
+COMMENT ON COLUMN resumes.search_vector IS 'Generated full-text document for /api/resume/search (see V9)';
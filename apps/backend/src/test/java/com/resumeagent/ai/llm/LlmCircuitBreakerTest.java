@@ -0,0 +1,127 @@
+package com.resumeagent.ai.llm;
+
+import com.resumeagent.config.LlmProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LlmCircuitBreakerTest {
+
+    private static final String MODEL = "provider/model";
+    private static final long OPEN_DURATION_MS = 30_000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private LlmCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        LlmProperties properties = new LlmProperties();
+        properties.getCircuitBreaker().setFailureThreshold(3);
+        properties.getCircuitBreaker().setOpenDurationMs(OPEN_DURATION_MS);
+        breaker = new LlmCircuitBreaker(properties, now::get);
+    }
+
+    @Test
+    void opensAfterConsecutiveFailuresAndRejectsCalls() {
+        breaker.onFailure(MODEL);
+        breaker.onFailure(MODEL);
+        assertEquals(LlmCircuitBreaker.State.CLOSED, breaker.stateOf(MODEL));
+        assertTrue(breaker.tryAcquire(MODEL));
+
+        breaker.onFailure(MODEL);
+
+        assertEquals(LlmCircuitBreaker.State.OPEN, breaker.stateOf(MODEL));
+        assertFalse(breaker.tryAcquire(MODEL));
+        assertEquals(OPEN_DURATION_MS, breaker.millisUntilTrial(MODEL));
+        // Other models are not affected
+        assertTrue(breaker.tryAcquire("other/model"));
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        breaker.onFailure(MODEL);
+        breaker.onFailure(MODEL);
+        breaker.onSuccess(MODEL);
+        breaker.onFailure(MODEL);
+        breaker.onFailure(MODEL);
+
+        assertEquals(LlmCircuitBreaker.State.CLOSED, breaker.stateOf(MODEL));
+    }
+
+    @Test
+    void halfOpenAllowsExactlyOneTrial() {
+        open();
+        now.addAndGet(OPEN_DURATION_MS);
+
+        assertEquals(LlmCircuitBreaker.State.HALF_OPEN, breaker.stateOf(MODEL));
+        assertEquals(0L, breaker.millisUntilTrial(MODEL));
+        assertTrue(breaker.tryAcquire(MODEL));
+        assertFalse(breaker.tryAcquire(MODEL));
+    }
+
+    @Test
+    void successfulTrialCloses() {
+        open();
+        now.addAndGet(OPEN_DURATION_MS);
+        assertTrue(breaker.tryAcquire(MODEL));
+
+        breaker.onSuccess(MODEL);
+
+        assertEquals(LlmCircuitBreaker.State.CLOSED, breaker.stateOf(MODEL));
+        assertTrue(breaker.tryAcquire(MODEL));
+        assertTrue(breaker.tryAcquire(MODEL));
+    }
+
+    @Test
+    void failedTrialReopensForAnotherFullPeriod() {
+        open();
+        now.addAndGet(OPEN_DURATION_MS);
+        assertTrue(breaker.tryAcquire(MODEL));
+
+        breaker.onFailure(MODEL);
+
+        assertEquals(LlmCircuitBreaker.State.OPEN, breaker.stateOf(MODEL));
+        assertFalse(breaker.tryAcquire(MODEL));
+        now.addAndGet(OPEN_DURATION_MS - 1);
+        assertFalse(breaker.tryAcquire(MODEL));
+        now.addAndGet(1);
+        assertTrue(breaker.tryAcquire(MODEL));
+    }
+
+    @Test
+    void releasedTrialLetsTheNextCallerProbe() {
+        open();
+        now.addAndGet(OPEN_DURATION_MS);
+        assertTrue(breaker.tryAcquire(MODEL));
+        assertFalse(breaker.tryAcquire(MODEL));
+
+        breaker.releaseTrial(MODEL);
+
+        assertEquals(LlmCircuitBreaker.State.HALF_OPEN, breaker.stateOf(MODEL));
+        assertTrue(breaker.tryAcquire(MODEL));
+        assertFalse(breaker.tryAcquire(MODEL));
+    }
+
+    @Test
+    void releaseWithoutTrialHasNoEffect() {
+        breaker.releaseTrial(MODEL);
+        assertTrue(breaker.tryAcquire(MODEL));
+
+        open();
+        breaker.releaseTrial(MODEL);
+
+        assertEquals(LlmCircuitBreaker.State.OPEN, breaker.stateOf(MODEL));
+        assertFalse(breaker.tryAcquire(MODEL));
+    }
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure(MODEL);
+        }
+    }
+}
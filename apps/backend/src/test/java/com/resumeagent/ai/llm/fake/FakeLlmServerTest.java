@@ -0,0 +1,115 @@
+package com.resumeagent.ai.llm.fake;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FakeLlmServerTest {
+
+    private static final String REQUEST = """
+            {"model":"fake-model","stream":%s,"messages":[{"role":"user","content":"Analyze this job"}]}
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @TempDir
+    Path recordingsDir;
+
+    private FakeLlmProperties properties;
+    private FakeLlmServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.writeString(
+                recordingsDir.resolve(FakeLlmServer.promptKey("Analyze this job") + ".json"),
+                "{\"model\":\"recorded-model\",\"content\":\"{\\\"jobTitle\\\":\\\"Engineer\\\"}\"}");
+
+        properties = new FakeLlmProperties();
+        properties.setPort(0);
+        properties.setRecordingsDir(recordingsDir.toString());
+        properties.setStreamChunkChars(4);
+        properties.setStreamChunkDelayMs(0);
+
+        server = new FakeLlmServer(properties, objectMapper);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void replaysRecordedCompletion() throws Exception {
+        HttpResponse<String> response = post(REQUEST.formatted(false));
+
+        assertEquals(200, response.statusCode());
+        JsonNode body = objectMapper.readTree(response.body());
+        assertEquals("{\"jobTitle\":\"Engineer\"}", body.at("/choices/0/message/content").asText());
+        assertTrue(body.at("/usage/completion_tokens").asInt() > 0);
+    }
+
+    @Test
+    void streamsCompletionAsServerSentEvents() throws Exception {
+        HttpResponse<String> response = post(REQUEST.formatted(true));
+
+        assertEquals(200, response.statusCode());
+        StringBuilder content = new StringBuilder();
+        for (String line : response.body().split("\n")) {
+            if (line.startsWith("data: {")) {
+                content.append(objectMapper.readTree(line.substring(6)).at("/choices/0/delta/content").asText(""));
+            }
+        }
+        assertEquals("{\"jobTitle\":\"Engineer\"}", content.toString());
+        assertTrue(response.body().contains("data: [DONE]"));
+    }
+
+    @Test
+    void answersRateLimitWhenInjected() throws Exception {
+        properties.setRateLimitProbability(1.0);
+
+        HttpResponse<String> response = post(REQUEST.formatted(false));
+
+        assertEquals(429, response.statusCode());
+        assertTrue(response.headers().firstValue("Retry-After").isPresent());
+    }
+
+    @Test
+    void answersNotFoundForUnknownPrompt() throws Exception {
+        HttpResponse<String> response = post(
+                "{\"model\":\"fake-model\",\"messages\":[{\"role\":\"user\",\"content\":\"unknown\"}]}");
+
+        assertEquals(404, response.statusCode());
+    }
+
+    @Test
+    void answersServerErrorForUnreadableRequest() throws Exception {
+        HttpResponse<String> response = post("{not json");
+
+        assertEquals(500, response.statusCode());
+        assertEquals("fake_llm_error", objectMapper.readTree(response.body()).at("/error/type").asText());
+    }
+
+    private HttpResponse<String> post(String json) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + server.getPort() + "/chat/completions"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
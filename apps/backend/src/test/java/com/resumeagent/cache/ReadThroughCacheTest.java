@@ -0,0 +1,58 @@
+package com.resumeagent.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReadThroughCacheTest {
+
+    private record Snapshot(String value, Instant updatedAt) {
+    }
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReadThroughCache<String, Snapshot> cache = new ReadThroughCache<>(
+            "test", 100, Duration.ofMinutes(1), Snapshot::updatedAt, meterRegistry);
+
+    @Test
+    void loadsOnceThenServesHits() {
+        AtomicInteger loads = new AtomicInteger();
+        Snapshot snapshot = new Snapshot("v1", Instant.now());
+
+        for (int i = 0; i < 3; i++) {
+            cache.get("k", key -> {
+                loads.incrementAndGet();
+                return Optional.of(snapshot);
+            });
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(2.0, meterRegistry.counter("entity.cache.requests", "cache", "test", "result", "hit").count());
+    }
+
+    @Test
+    void loadRacingAnInvalidationIsNotCached() {
+        cache.get("k", key -> {
+            // Writer commits and invalidates while this (stale) load is in flight
+            cache.invalidate("k");
+            return Optional.of(new Snapshot("stale", Instant.now()));
+        });
+
+        Optional<Snapshot> reloaded = cache.get("k", key -> Optional.of(new Snapshot("fresh", Instant.now())));
+        assertEquals("fresh", reloaded.orElseThrow().value());
+    }
+
+    @Test
+    void writeThroughNeverReplacesNewerVersion() {
+        Instant now = Instant.now();
+        cache.putAfterCommit("k", () -> new Snapshot("new", now));
+        cache.putAfterCommit("k", () -> new Snapshot("old", now.minusSeconds(5)));
+
+        assertEquals("new", cache.get("k", key -> Optional.empty()).orElseThrow().value());
+    }
+}
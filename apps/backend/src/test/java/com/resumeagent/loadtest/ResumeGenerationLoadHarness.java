@@ -0,0 +1,207 @@
+package com.resumeagent.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end load harness for POST /api/resume/generate.
+ * Not a JUnit test: run it against an application started with the fake-llm
+ * profile so agent calls hit recordings instead of OpenRouter.
+ * SETUP:
+ * - Start: SPRING_PROFILES_ACTIVE=fake-llm ./mvnw spring-boot:run
+ * - The load user needs a master resume and enough quota, e.g.
+ *   UPDATE users SET resume_generation_limit = 100000 WHERE email = '...';
+ * RUN:
+ *   ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.resumeagent.loadtest.ResumeGenerationLoadHarness \
+ *     -DbaseUrl=http://localhost:8080 -Demail=load@example.com -Dpassword=... \
+ *     -Dconcurrency=20 -DdurationSeconds=120 -DjobDescriptionFile=jd.txt
+ * REPORT:
+ * - throughput (successful generations / second)
+ * - latency p50 / p90 / p99 / max
+ * - error count by HTTP status
+ * - DB pool saturation sampled from /actuator/metrics (hikaricp.connections.*)
+ */
+public final class ResumeGenerationLoadHarness {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String baseUrl;
+    private final HttpClient client;
+
+    private final List<Long> latenciesMs = Collections.synchronizedList(new ArrayList<>());
+    private final Map<Integer, AtomicInteger> errorsByStatus = new ConcurrentHashMap<>();
+    private final AtomicInteger maxPending = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private final AtomicLong poolMax = new AtomicLong();
+
+    private ResumeGenerationLoadHarness(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("baseUrl", "http://localhost:8080");
+        String email = required("email");
+        String password = required("password");
+        int concurrency = Integer.getInteger("concurrency", 10);
+        int durationSeconds = Integer.getInteger("durationSeconds", 60);
+        String jobDescription = Files.readString(Path.of(required("jobDescriptionFile")));
+
+        ResumeGenerationLoadHarness harness = new ResumeGenerationLoadHarness(baseUrl);
+        harness.login(email, password);
+        harness.run(concurrency, Duration.ofSeconds(durationSeconds), jobDescription);
+    }
+
+    private void login(String email, String password) throws Exception {
+        String body = MAPPER.writeValueAsString(Map.of("email", email, "password", password));
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed: " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    private void run(int concurrency, Duration duration, String jobDescription) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        long start = System.nanoTime();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            workers.submit(() -> samplePool(deadline));
+            for (int i = 0; i < concurrency; i++) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        generate(jobDescription);
+                    }
+                    return null;
+                });
+            }
+        }
+
+        report(Duration.ofNanos(System.nanoTime() - start), concurrency);
+    }
+
+    private void generate(String jobDescription) {
+        String boundary = "----loadtest" + UUID.randomUUID();
+        String multipart = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"jobDescription\"\r\n"
+                + "Content-Type: text/plain; charset=UTF-8\r\n\r\n"
+                + jobDescription + "\r\n"
+                + "--" + boundary + "--\r\n";
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/resume/generate"))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .timeout(Duration.ofMinutes(5))
+                .POST(HttpRequest.BodyPublishers.ofString(multipart, StandardCharsets.UTF_8))
+                .build();
+
+        long started = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() == 200) {
+                latenciesMs.add((System.nanoTime() - started) / 1_000_000);
+            } else {
+                errorsByStatus.computeIfAbsent(response.statusCode(), s -> new AtomicInteger()).incrementAndGet();
+            }
+        } catch (Exception e) {
+            errorsByStatus.computeIfAbsent(-1, s -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    /**
+     * Sample Hikari pool gauges once per second and keep the peaks.
+     */
+    private Void samplePool(long deadline) throws InterruptedException {
+        while (System.nanoTime() < deadline) {
+            metric("hikaricp.connections.pending").ifPresent(v -> maxPending.accumulateAndGet(v.intValue(), Math::max));
+            metric("hikaricp.connections.active").ifPresent(v -> maxActive.accumulateAndGet(v.intValue(), Math::max));
+            metric("hikaricp.connections.max").ifPresent(v -> poolMax.set(v.longValue()));
+            Thread.sleep(1000);
+        }
+        return null;
+    }
+
+    private Optional<Double> metric(String name) {
+        try {
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + name)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return Optional.empty();
+            }
+            JsonNode measurements = MAPPER.readTree(response.body()).path("measurements");
+            return Optional.of(measurements.path(0).path("value").asDouble());
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    private void report(Duration elapsed, int concurrency) {
+        List<Long> sorted;
+        synchronized (latenciesMs) {
+            sorted = new ArrayList<>(latenciesMs);
+        }
+        Collections.sort(sorted);
+
+        int errors = errorsByStatus.values().stream().mapToInt(AtomicInteger::get).sum();
+        double seconds = elapsed.toMillis() / 1000.0;
+
+        System.out.printf("%n=== /api/resume/generate load test ===%n");
+        System.out.printf("concurrency        : %d%n", concurrency);
+        System.out.printf("duration           : %.1f s%n", seconds);
+        System.out.printf("successful         : %d%n", sorted.size());
+        System.out.printf("errors             : %d %s%n", errors, errorsByStatus);
+        System.out.printf("throughput         : %.2f req/s%n", sorted.size() / seconds);
+        System.out.printf("latency p50/p90/p99: %d / %d / %d ms%n",
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99));
+        System.out.printf("latency max        : %d ms%n", sorted.isEmpty() ? 0 : sorted.getLast());
+        System.out.printf("db pool active max : %d / %d%n", maxActive.get(), poolMax.get());
+        System.out.printf("db pool pending max: %d%s%n", maxPending.get(),
+                maxPending.get() > 0 ? "  (pool saturated: requests waited for a connection)" : "");
+    }
+
+    private static long percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    private static String required(String name) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing -D" + name);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,146 @@
+package com.resumeagent.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeagent.dto.response.AdminMasterResumeMatchResponse;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the admin skill search against PostgreSQL with the real migrations.
+ * The plan test checks the query shape, not the planner's cost choice:
+ * with sequential scans disabled, a shape the jsonb_path_ops index cannot
+ * serve would still show a Seq Scan on master_resumes.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MasterResumeSkillSearchRepositoryTest {
+
+    private static final int USERS = 20_000;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static SingleConnectionDataSource dataSource;
+    private static NamedParameterJdbcTemplate jdbcTemplate;
+    private static MasterResumeSkillSearchRepository repository;
+    private static UUID kafkaAtAcmeUser;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword(), true);
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        repository = new MasterResumeSkillSearchRepository(jdbcTemplate, new ObjectMapper());
+
+        jdbcTemplate.getJdbcTemplate().update("""
+                INSERT INTO users (full_name, email, password_hash)
+                SELECT 'User ' || i, 'user' || i || '@example.com', 'x'
+                FROM generate_series(1, ?) AS i
+                """, USERS);
+        // Every user knows Java; SkillN is shared by USERS / 500 users
+        jdbcTemplate.getJdbcTemplate().update("""
+                INSERT INTO master_resumes (user_id, resume_json)
+                SELECT id, jsonb_build_object(
+                    'coreSkills', jsonb_build_object(
+                        'technical', jsonb_build_array('Java', 'Skill' || (n % 500))),
+                    'experience', jsonb_build_array(jsonb_build_object(
+                        'organization', 'Org' || (n % 100),
+                        'skillsUsed', jsonb_build_array('SQL'))))
+                FROM (SELECT id, row_number() OVER (ORDER BY email) AS n FROM users) numbered
+                """);
+
+        kafkaAtAcmeUser = jdbcTemplate.getJdbcTemplate().queryForObject("""
+                INSERT INTO users (full_name, email, password_hash)
+                VALUES ('Kafka Expert', 'kafka@example.com', 'x')
+                RETURNING id
+                """, UUID.class);
+        jdbcTemplate.getJdbcTemplate().update("""
+                INSERT INTO master_resumes (user_id, resume_json)
+                VALUES (?, '{"experience": [{"organization": "Acme", "skillsUsed": ["Kafka", "Go"]}]}')
+                """, kafkaAtAcmeUser);
+
+        jdbcTemplate.getJdbcTemplate().execute("ANALYZE users");
+        jdbcTemplate.getJdbcTemplate().execute("ANALYZE master_resumes");
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void matchesSkillsInAnySectionAndOrganizations() {
+        List<AdminMasterResumeMatchResponse> matches = repository.find(
+                new MasterResumeSkillSearchRepository.Criteria(List.of("Kafka"), List.of("Acme")), null, 10);
+
+        assertEquals(1, matches.size());
+        assertEquals(kafkaAtAcmeUser, matches.getFirst().getUserId());
+        assertEquals("kafka@example.com", matches.getFirst().getEmail());
+
+        // Every requested term must match
+        assertTrue(repository.find(
+                new MasterResumeSkillSearchRepository.Criteria(List.of("Kafka", "Java"), List.of()), null, 10).isEmpty());
+    }
+
+    @Test
+    void countsAndPagesWithoutGapsOrDuplicates() {
+        MasterResumeSkillSearchRepository.Criteria criteria =
+                new MasterResumeSkillSearchRepository.Criteria(List.of("Skill42", "Java"), List.of());
+
+        assertEquals(USERS / 500, repository.count(criteria));
+
+        List<UUID> seen = new ArrayList<>();
+        UUID after = null;
+        List<AdminMasterResumeMatchResponse> page;
+        do {
+            page = repository.find(criteria, after, 15);
+            page.forEach(match -> seen.add(match.getUserId()));
+            after = page.isEmpty() ? after : page.getLast().getUserId();
+        } while (page.size() == 15);
+
+        Set<UUID> unique = new HashSet<>(seen);
+        assertEquals(USERS / 500, seen.size());
+        assertEquals(seen.size(), unique.size());
+    }
+
+    @Test
+    void planUsesJsonbPathOpsIndex() {
+        // The count shares the predicate with find but has no ORDER BY/LIMIT that
+        // could make an ordered scan of the user_id index attractive
+        MasterResumeSkillSearchRepository.SqlQuery query = repository.countQuery(
+                new MasterResumeSkillSearchRepository.Criteria(List.of("Skill7", "SQL"), List.of("Org3")));
+
+        jdbcTemplate.getJdbcTemplate().execute("SET enable_seqscan = off");
+        try {
+            String plan = String.join("\n", jdbcTemplate.queryForList(
+                    "EXPLAIN " + query.sql(), query.params(), String.class));
+
+            assertTrue(plan.contains("Bitmap Index Scan on idx_master_resumes_resume_json"), plan);
+            assertFalse(plan.contains("Seq Scan on master_resumes"), plan);
+        } finally {
+            jdbcTemplate.getJdbcTemplate().execute("RESET enable_seqscan");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.resumeagent.security;
+
+import com.resumeagent.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTest {
+
+    private static final String RULE = "login";
+
+    // 5 requests per minute: one token every 12 seconds
+    private static final int CAPACITY = 5;
+    private static final long PERIOD_SECONDS = 60;
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private final RateLimitProperties properties = new RateLimitProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimiter rateLimiter = new RateLimiter(properties, meterRegistry, now::get);
+
+    @Test
+    void allowsBurstUpToCapacity() {
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(acquire("login:10.0.0.1").allowed(), "request " + (i + 1));
+        }
+
+        RateLimiter.Decision rejected = acquire("login:10.0.0.1");
+
+        assertFalse(rejected.allowed());
+        assertEquals(12, rejected.retryAfterSeconds());
+        // Keys are independent
+        assertTrue(acquire("login:10.0.0.2").allowed());
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        exhaust("login:10.0.0.1");
+
+        advanceSeconds(12);
+        assertTrue(acquire("login:10.0.0.1").allowed());
+        assertFalse(acquire("login:10.0.0.1").allowed());
+
+        // Steady state: one request per interval is always allowed
+        for (int i = 0; i < 10; i++) {
+            advanceSeconds(12);
+            assertTrue(acquire("login:10.0.0.1").allowed(), "interval " + i);
+        }
+
+        // A full period idle refills the whole burst, never more
+        advanceSeconds(PERIOD_SECONDS * 3);
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(acquire("login:10.0.0.1").allowed());
+        }
+        assertFalse(acquire("login:10.0.0.1").allowed());
+    }
+
+    @Test
+    void retryAfterRoundsUpToWholeSeconds() {
+        exhaust("login:10.0.0.1");
+
+        advanceSeconds(5);
+        assertEquals(7, acquire("login:10.0.0.1").retryAfterSeconds());
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(6_500));
+        assertEquals(1, acquire("login:10.0.0.1").retryAfterSeconds());
+
+        // Rejected requests do not take tokens
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertTrue(acquire("login:10.0.0.1").allowed());
+    }
+
+    @Test
+    void keysAboveMaxBucketsShareOneOverflowBucketPerRule() {
+        properties.setMaxBuckets(2);
+        assertTrue(acquire("login:10.0.0.1").allowed());
+        assertTrue(acquire("login:10.0.0.2").allowed());
+
+        // New keys from now on drain the same overflow bucket
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(acquire("login:10.1.0." + i).allowed(), "sprayed key " + i);
+        }
+        RateLimiter.Decision rejected = acquire("login:10.2.0.1");
+        assertFalse(rejected.allowed());
+        assertEquals(12, rejected.retryAfterSeconds());
+
+        // Other rules get their own overflow bucket; existing keys keep theirs
+        assertTrue(rateLimiter.tryAcquire("register", "register:10.2.0.1", CAPACITY, PERIOD_SECONDS).allowed());
+        assertTrue(acquire("login:10.0.0.1").allowed());
+    }
+
+    @Test
+    void evictsOnlyFullBuckets() {
+        rateLimiter.registerMetrics();
+        exhaust("login:10.0.0.1");
+        acquire("login:10.0.0.2");
+
+        // Neither bucket has refilled completely yet
+        advanceSeconds(6);
+        rateLimiter.evictIdleBuckets();
+        assertEquals(2.0, meterRegistry.get("rate.limit.buckets").gauge().value());
+
+        advanceSeconds(PERIOD_SECONDS);
+        rateLimiter.evictIdleBuckets();
+        assertEquals(0.0, meterRegistry.get("rate.limit.buckets").gauge().value());
+    }
+
+    private RateLimiter.Decision acquire(String key) {
+        return rateLimiter.tryAcquire(RULE, key, CAPACITY, PERIOD_SECONDS);
+    }
+
+    private void exhaust(String key) {
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(acquire(key).allowed());
+        }
+        assertFalse(acquire(key).allowed());
+    }
+
+    private void advanceSeconds(long seconds) {
+        now.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+}
@@ -0,0 +1,122 @@
+package com.resumeagent.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.resumeagent.config.EmailOutboxProperties;
+import com.resumeagent.entity.EmailOutbox;
+import com.resumeagent.entity.enums.EmailType;
+import com.resumeagent.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final EmailOutboxRepository repository = mock(EmailOutboxRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+
+    private EmailOutboxProperties properties;
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        properties = new EmailOutboxProperties();
+        properties.setBatchSize(10);
+        properties.setMaxAttempts(3);
+        properties.setBackoffInitialMs(1000);
+        properties.setBackoffMaxMs(8000);
+
+        dispatcher = new EmailOutboxDispatcher(repository, new EmailService(mailSender), properties, meterRegistry);
+    }
+
+    @Test
+    void sendsClaimedBatchAndMarksRowsSent() throws Exception {
+        EmailOutbox verification = email(EmailType.VERIFICATION, "ada@example.com", 1);
+        EmailOutbox reset = email(EmailType.PASSWORD_RESET, "alan@example.com", 1);
+        when(repository.claimDue(any(), any(), anyInt())).thenReturn(List.of(verification, reset));
+
+        assertEquals(2, dispatcher.dispatchBatch());
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+        verify(repository).markSent(
+                argThat((Collection<UUID> ids) -> ids.containsAll(List.of(verification.getId(), reset.getId()))),
+                any(Instant.class));
+        verify(repository, never()).markRetry(any(), any(), anyString());
+        assertEquals(1.0, meterRegistry.counter("email.outbox.sent", "type", "VERIFICATION").count());
+    }
+
+    @Test
+    void retriesWhenSmtpIsUnavailable() {
+        mailSender.setPort(1);
+        EmailOutbox email = email(EmailType.VERIFICATION, "ada@example.com", 1);
+        when(repository.claimDue(any(), any(), anyInt())).thenReturn(List.of(email));
+
+        dispatcher.dispatchBatch();
+
+        verify(repository).markRetry(eq(email.getId()), any(Instant.class), any());
+        verify(repository, never()).markSent(any(), any());
+    }
+
+    @Test
+    void failsAfterMaxAttempts() {
+        mailSender.setPort(1);
+        EmailOutbox email = email(EmailType.PASSWORD_RESET, "ada@example.com", properties.getMaxAttempts());
+        when(repository.claimDue(any(), any(), anyInt())).thenReturn(List.of(email));
+
+        dispatcher.dispatchBatch();
+
+        verify(repository).markFailed(eq(email.getId()), any());
+        verify(repository, never()).markRetry(any(), any(), any());
+    }
+
+    @Test
+    void backoffGrowsExponentiallyUpToMax() {
+        long first = dispatcher.backoffMs(1);
+        long third = dispatcher.backoffMs(3);
+        long capped = dispatcher.backoffMs(20);
+
+        assertTrue(first >= 1000 && first <= 1200, "first retry: " + first);
+        assertTrue(third >= 4000 && third <= 4800, "third retry: " + third);
+        assertTrue(capped >= 8000 && capped <= 9600, "capped retry: " + capped);
+    }
+
+    private static EmailOutbox email(EmailType type, String recipient, int attempts) {
+        return EmailOutbox.builder()
+                .id(UUID.randomUUID())
+                .emailType(type)
+                .recipientEmail(recipient)
+                .recipientName("Test User")
+                .actionToken(UUID.randomUUID().toString())
+                .attempts(attempts)
+                .createdAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.resumeagent.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmailTemplateTest {
+
+    @Test
+    void rendersPlaceholdersInOnePass() {
+        EmailTemplate template = EmailTemplate.compile("<p>Hi {{name}}</p><a href=\"{{ link }}\">go</a>{{name}}");
+
+        assertEquals(List.of("name", "link", "name"), template.placeholders());
+        assertEquals("<p>Hi Ada</p><a href=\"https://x/1\">go</a>Ada",
+                template.render(Map.of("name", "Ada", "link", "https://x/1")));
+    }
+
+    @Test
+    void escapesValues() {
+        EmailTemplate template = EmailTemplate.compile("<a title=\"{{name}}\">{{name}}</a>");
+
+        String html = template.render(Map.of("name", "<b>\"Tom\" & 'Jerry'</b>"));
+
+        assertEquals("<a title=\"&lt;b&gt;&quot;Tom&quot; &amp; &#39;Jerry&#39;&lt;/b&gt;\">"
+                + "&lt;b&gt;&quot;Tom&quot; &amp; &#39;Jerry&#39;&lt;/b&gt;</a>", html);
+    }
+
+    @Test
+    void missingValuesRenderEmptyAndUnclosedPlaceholdersFail() {
+        assertEquals("ab", EmailTemplate.compile("a{{missing}}b").render(Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("a{{broken"));
+    }
+
+    @Test
+    void loadsClasspathTemplates() {
+        EmailTemplate template = EmailTemplate.load("templates/email/email_verification.html");
+
+        assertTrue(template.placeholders().containsAll(List.of("recipient_name", "verification_link", "year")));
+    }
+
+    @Test
+    void startupValidationRejectsUnknownVariables() {
+        EmailTemplate valid = EmailTemplate.load("templates/email/reset_password.html");
+        assertEquals(valid, EmailService.validated(valid, "reset_password.html"));
+
+        EmailTemplate typo = EmailTemplate.compile("<p>Hi {{recipient_nmae}}</p>");
+        assertThrows(IllegalStateException.class, () -> EmailService.validated(typo, "typo.html"));
+    }
+}
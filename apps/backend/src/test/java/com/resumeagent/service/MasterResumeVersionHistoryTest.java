@@ -0,0 +1,216 @@
+package com.resumeagent.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeagent.ai.agents.ResumeParserAgent;
+import com.resumeagent.cache.InvalidationBus;
+import com.resumeagent.cache.MasterResumeCache;
+import com.resumeagent.config.HibernateJsonConfig;
+import com.resumeagent.config.MasterResumeVersionProperties;
+import com.resumeagent.dto.request.CreateAndUpdateMasterResume;
+import com.resumeagent.dto.response.MasterResumeVersionSummaryResponse;
+import com.resumeagent.entity.enums.UserPlan;
+import com.resumeagent.entity.enums.UserRole;
+import com.resumeagent.entity.model.MasterResumeSection;
+import com.resumeagent.repository.MasterResumeRepository;
+import com.resumeagent.security.AuthenticatedUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs master resume edits through the real services and migrations and
+ * checks that every version rebuilt from snapshots + JSON Patch deltas is
+ * exactly the resume_json stored when that version was recorded.
+ * Mixes full updates (diff deltas) with section and item patches (single
+ * add/replace operations next to jsonb_set) across several snapshot
+ * boundaries (snapshot-interval = 3: snapshots at 1, 4, 7).
+ * Each edit is flushed and the persistence context cleared afterwards, as
+ * separate requests would see it.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({MasterResumeService.class, MasterResumeVersionService.class,
+        MasterResumeVersionProperties.class, HibernateJsonConfig.class})
+@TestPropertySource(properties = "master-resume-versions.snapshot-interval=3")
+@Testcontainers(disabledWithoutDocker = true)
+class MasterResumeVersionHistoryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @MockitoBean
+    ResumeParserAgent resumeParserAgent;
+    @MockitoBean
+    InvalidationBus invalidationBus;
+    @MockitoBean
+    MasterResumeCache masterResumeCache;
+
+    @Autowired
+    MasterResumeService masterResumeService;
+    @Autowired
+    MasterResumeVersionService masterResumeVersionService;
+    @Autowired
+    MasterResumeRepository masterResumeRepository;
+    @Autowired
+    TestEntityManager entityManager;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private AuthenticatedUser principal;
+
+    /**
+     * resume_json as stored after each recorded version.
+     */
+    private final Map<Integer, JsonNode> storedByVersion = new LinkedHashMap<>();
+
+    @BeforeEach
+    void createUser() {
+        UUID userId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (full_name, email, password_hash)
+                VALUES ('Version Test', 'versions@example.com', 'x')
+                RETURNING id
+                """, UUID.class);
+        principal = new AuthenticatedUser(userId, "versions@example.com", UserRole.USER, UserPlan.FREE);
+    }
+
+    @Test
+    void everyVersionRebuildsToTheStoredDocument() throws Exception {
+        // v1 (snapshot)
+        masterResumeService.createMasterResume(request("""
+                {"header": {"fullName": "Ada Lovelace", "email": "ada@example.com"},
+                 "summary": "Java developer",
+                 "experience": [{"role": "Developer", "organization": "Acme", "startDate": "2019-03-01",
+                                 "responsibilities": ["APIs"]}]}"""), principal);
+        recorded();
+
+        // v2: full update adding an experience entry
+        masterResumeService.updateMasterResume(request("""
+                {"header": {"fullName": "Ada Lovelace", "email": "ada@example.com"},
+                 "summary": "Java developer",
+                 "experience": [{"role": "Developer", "organization": "Acme", "startDate": "2019-03-01",
+                                 "responsibilities": ["APIs"]},
+                                {"role": "Senior Developer", "organization": "Initech", "startDate": "2022-01-15",
+                                 "responsibilities": ["Payments", "Mentoring"]}]}"""), principal);
+        recorded();
+
+        // v3: section patch
+        masterResumeService.patchSection(MasterResumeSection.SUMMARY, json("\"Backend engineer\""), principal);
+        recorded();
+
+        // v4 (snapshot): item patch
+        assertTrue(masterResumeService.patchSectionItem(MasterResumeSection.EXPERIENCE, 1, json("""
+                {"role": "Staff Engineer", "organization": "Initech", "startDate": "2022-01-15",
+                 "achievements": ["Cut p99 latency by 40%"]}"""), principal));
+        recorded();
+
+        // v5: section patch of a section the document did not have yet
+        masterResumeService.patchSection(MasterResumeSection.CORE_SKILLS, json("""
+                {"technical": ["Java", "PostgreSQL"], "tools": ["Docker"]}"""), principal);
+        recorded();
+
+        // v6: full update on top of patched state (removes the first entry)
+        CreateAndUpdateMasterResume latest = request("""
+                {"header": {"fullName": "Ada King", "email": "ada@example.com"},
+                 "summary": "Backend engineer",
+                 "coreSkills": {"technical": ["Java", "PostgreSQL", "Kafka"], "tools": ["Docker"]},
+                 "experience": [{"role": "Staff Engineer", "organization": "Initech", "startDate": "2022-01-15",
+                                 "achievements": ["Cut p99 latency by 40%"]}]}""");
+        masterResumeService.updateMasterResume(latest, principal);
+        recorded();
+
+        // Unchanged document: no version
+        masterResumeService.updateMasterResume(latest, principal);
+        flushAndClear();
+        assertEquals(6, currentVersion());
+
+        // v7 (snapshot), v8, v9
+        assertTrue(masterResumeService.patchSectionItem(MasterResumeSection.EXPERIENCE, 0, json("""
+                {"role": "Principal Engineer", "organization": "Initech", "startDate": "2022-01-15"}"""), principal));
+        recorded();
+        masterResumeService.patchSection(MasterResumeSection.LANGUAGES, json("""
+                [{"language": "English", "proficiency": "Native"}]"""), principal);
+        recorded();
+        masterResumeService.updateMasterResume(request("""
+                {"header": {"fullName": "Ada King"},
+                 "summary": "Principal engineer",
+                 "experience": []}"""), principal);
+        recorded();
+
+        assertEquals(9, storedByVersion.size());
+        for (Map.Entry<Integer, JsonNode> stored : storedByVersion.entrySet()) {
+            JsonNode rebuilt = masterResumeVersionService.getVersion(stored.getKey(), principal)
+                    .orElseThrow()
+                    .getResumeJson();
+            assertEquals(stored.getValue(), rebuilt, "version " + stored.getKey());
+        }
+
+        List<MasterResumeVersionSummaryResponse> versions = masterResumeVersionService.listVersions(principal);
+        assertEquals(9, versions.size());
+        for (MasterResumeVersionSummaryResponse version : versions) {
+            assertEquals((version.getVersionNumber() - 1) % 3 == 0, version.isSnapshot(),
+                    "snapshot flag of version " + version.getVersionNumber());
+        }
+        assertTrue(masterResumeVersionService.getVersion(10, principal).isEmpty());
+    }
+
+    /**
+     * Remember the stored document under the version the edit just recorded.
+     */
+    private void recorded() throws Exception {
+        flushAndClear();
+        int version = currentVersion();
+        assertEquals(storedByVersion.size() + 1, version);
+        storedByVersion.put(version, objectMapper.readTree(
+                masterResumeRepository.findResumeJsonTextByUserId(principal.userId()).orElseThrow()));
+    }
+
+    private int currentVersion() {
+        return masterResumeRepository.findCurrentVersionByUserId(principal.userId()).orElseThrow();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private CreateAndUpdateMasterResume request(String json) throws Exception {
+        return objectMapper.readValue(json, CreateAndUpdateMasterResume.class);
+    }
+
+    private JsonNode json(String json) throws Exception {
+        return objectMapper.readTree(json);
+    }
+}
@@ -0,0 +1,46 @@
+package com.resumeagent.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flipkart.zjsonpatch.JsonDiff;
+import com.resumeagent.entity.MasterResumeVersion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MasterResumeVersionServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void replaysDeltasOntoSnapshot() throws Exception {
+        JsonNode v1 = objectMapper.readTree("""
+                {"summary": "Java developer", "experience": [{"organization": "Acme"}]}""");
+        JsonNode v2 = objectMapper.readTree("""
+                {"summary": "Java developer", "experience": [{"organization": "Acme"}, {"organization": "Initech"}]}""");
+        JsonNode v3 = objectMapper.readTree("""
+                {"summary": "Backend engineer", "experience": [{"organization": "Initech"}]}""");
+
+        List<MasterResumeVersion> chain = List.of(
+                MasterResumeVersion.builder().versionNumber(1).snapshot(v1).build(),
+                MasterResumeVersion.builder().versionNumber(2).patch(JsonDiff.asJson(v1, v2)).build(),
+                MasterResumeVersion.builder().versionNumber(3).patch(JsonDiff.asJson(v2, v3)).build());
+
+        assertEquals(v3, MasterResumeVersionService.replay(chain));
+        assertEquals(v2, MasterResumeVersionService.replay(chain.subList(0, 2)));
+        // The stored snapshot is not modified by replaying
+        assertEquals(objectMapper.readTree("""
+                {"summary": "Java developer", "experience": [{"organization": "Acme"}]}"""), v1);
+    }
+
+    @Test
+    void rejectsChainWithoutLeadingSnapshot() throws Exception {
+        List<MasterResumeVersion> chain = List.of(
+                MasterResumeVersion.builder().versionNumber(2).patch(objectMapper.readTree("[]")).build());
+
+        assertThrows(IllegalStateException.class, () -> MasterResumeVersionService.replay(chain));
+    }
+}
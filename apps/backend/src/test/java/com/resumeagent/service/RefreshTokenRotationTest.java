@@ -0,0 +1,159 @@
+package com.resumeagent.service;
+
+import com.resumeagent.config.JwtProperties;
+import com.resumeagent.entity.User;
+import com.resumeagent.repository.projection.RotatedRefreshToken;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs refresh token rotation against the real rotate statement: single
+ * use, the concurrent-rotation grace window, reuse detection and the
+ * verified-email condition.
+ * Each step is flushed and the persistence context cleared, as separate
+ * requests would see it.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({RefreshTokenService.class, JwtProperties.class})
+@Testcontainers(disabledWithoutDocker = true)
+class RefreshTokenRotationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    RefreshTokenService refreshTokenService;
+    @Autowired
+    TestEntityManager entityManager;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    @Test
+    void rotationRevokesThePresentedTokenAndStoresItsSuccessor() {
+        UUID userId = user("rotate@example.com", true);
+        session(userId, "token-1");
+
+        Optional<RotatedRefreshToken> rotated = rotate("token-1", "token-2");
+
+        assertTrue(rotated.isPresent());
+        assertEquals(userId, rotated.get().getUserId());
+        assertFalse(isActive("token-1"));
+        assertTrue(isActive("token-2"));
+        assertEquals(tokenId("token-2"), jdbcTemplate.queryForObject(
+                "SELECT replaced_by_token_id FROM refresh_tokens WHERE token_hash = ?",
+                UUID.class, DigestUtils.sha256Hex("token-1")));
+    }
+
+    @Test
+    void secondUseWithinGraceWindowKeepsTheSessions() {
+        UUID userId = user("race@example.com", true);
+        session(userId, "token-1");
+        session(userId, "other-device");
+        rotate("token-1", "token-2");
+
+        // Losing tab of a refresh race presents the already rotated token
+        assertTrue(rotate("token-1", "token-3").isEmpty());
+
+        assertTrue(isActive("token-2"));
+        assertTrue(isActive("other-device"));
+        assertEquals(0, tokenCount("token-3"));
+    }
+
+    @Test
+    void reuseAfterGraceWindowRevokesEveryTokenOfTheUser() {
+        UUID userId = user("reuse@example.com", true);
+        session(userId, "token-1");
+        session(userId, "other-device");
+        rotate("token-1", "token-2");
+        jdbcTemplate.update("UPDATE refresh_tokens SET revoked_at = revoked_at - INTERVAL '1 minute' " +
+                "WHERE token_hash = ?", DigestUtils.sha256Hex("token-1"));
+
+        assertTrue(rotate("token-1", "token-3").isEmpty());
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_tokens WHERE user_id = ?", Integer.class, userId));
+    }
+
+    @Test
+    void tokenOfUnverifiedEmailIsRejectedButNotConsumed() {
+        UUID userId = user("unverified@example.com", false);
+        session(userId, "token-1");
+
+        assertTrue(rotate("token-1", "token-2").isEmpty());
+        assertTrue(isActive("token-1"));
+        assertEquals(0, tokenCount("token-2"));
+
+        // Not cached as invalid: usable once the email is verified
+        jdbcTemplate.update("UPDATE users SET is_email_active = TRUE WHERE id = ?", userId);
+        assertTrue(rotate("token-1", "token-2").isPresent());
+    }
+
+    private UUID user(String email, boolean emailActive) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO users (full_name, email, password_hash, is_email_active)
+                VALUES ('Rotation Test', ?, 'x', ?)
+                RETURNING id
+                """, UUID.class, email, emailActive);
+    }
+
+    private void session(UUID userId, String rawToken) {
+        refreshTokenService.createRefreshToken(entityManager.find(User.class, userId), rawToken, request);
+        flushAndClear();
+    }
+
+    private Optional<RotatedRefreshToken> rotate(String rawToken, String newRawToken) {
+        Optional<RotatedRefreshToken> rotated = refreshTokenService.rotateRefreshToken(rawToken, newRawToken, request);
+        flushAndClear();
+        return rotated;
+    }
+
+    private boolean isActive(String rawToken) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT NOT revoked AND expires_at > now() FROM refresh_tokens WHERE token_hash = ?",
+                Boolean.class, DigestUtils.sha256Hex(rawToken)));
+    }
+
+    private UUID tokenId(String rawToken) {
+        return jdbcTemplate.queryForObject("SELECT id FROM refresh_tokens WHERE token_hash = ?",
+                UUID.class, DigestUtils.sha256Hex(rawToken));
+    }
+
+    private int tokenCount(String rawToken) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_tokens WHERE token_hash = ?",
+                Integer.class, DigestUtils.sha256Hex(rawToken));
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,28 @@
+package com.resumeagent.service;
+
+import com.resumeagent.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResumeHistoryCursorTest {
+
+    @Test
+    void roundTripsWithMicrosecondPrecision() {
+        ResumeHistoryCursor cursor = new ResumeHistoryCursor(
+                Instant.parse("2025-03-01T10:15:30.123456Z"), UUID.randomUUID());
+
+        assertEquals(cursor, ResumeHistoryCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void rejectsForeignCursors() {
+        assertThrows(InvalidCursorException.class, () -> ResumeHistoryCursor.decode("not a cursor"));
+        assertThrows(InvalidCursorException.class, () -> ResumeHistoryCursor.decode("MTox"));
+        assertThrows(InvalidCursorException.class, () -> ResumeHistoryCursor.decode("eDp5Onk"));
+    }
+}
@@ -0,0 +1,41 @@
+package com.resumeagent.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ResumeSearchQueryTest {
+
+    @Test
+    void andsQuotedPrefixTerms() {
+        assertEquals("'back':* & 'java':*", ResumeSearchQuery.toTsQuery("  back   java "));
+    }
+
+    @Test
+    void neutralizesTsQuerySyntax() {
+        assertEquals("'o''reilly':* & '!c\\\\':*", ResumeSearchQuery.toTsQuery("o'reilly & !c\\ |"));
+    }
+
+    @Test
+    void returnsNullWithoutSearchableTerms() {
+        assertNull(ResumeSearchQuery.toTsQuery(null));
+        assertNull(ResumeSearchQuery.toTsQuery("  & | ! "));
+    }
+
+    @Test
+    void boundsTermCount() {
+        String query = ResumeSearchQuery.toTsQuery("a b c d e f g h i j");
+
+        assertEquals(ResumeSearchQuery.MAX_TERMS, query.split(" & ").length);
+    }
+
+    @Test
+    void searchCursorKeepsExactRank() {
+        ResumeSearchCursor cursor = new ResumeSearchCursor(0.1f / 3, UUID.randomUUID());
+
+        assertEquals(cursor, ResumeSearchCursor.decode(cursor.encode()));
+    }
+}
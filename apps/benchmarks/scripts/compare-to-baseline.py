@@ -0,0 +1,74 @@
+#!/usr/bin/env python3
+"""
+Compare a JMH JSON result file against a baseline and flag regressions.
+
+Usage:
+    java -jar target/benchmarks.jar -rf json -rff target/jmh-result.json
+    python3 scripts/compare-to-baseline.py baselines/baseline.json target/jmh-result.json [--threshold 10]
+
+A benchmark regresses when its score is worse than the baseline by more than
+--threshold percent AND the difference is larger than both runs' error margins
+combined. Exit code 1 if any benchmark regressed (usable as a CI gate).
+
+Refresh the baseline after an accepted change:
+    cp target/jmh-result.json baselines/baseline.json
+"""
+import argparse
+import json
+import sys
+
+
+def key(entry):
+    params = entry.get("params") or {}
+    suffix = ",".join(f"{k}={v}" for k, v in sorted(params.items()))
+    name = entry["benchmark"].replace("com.resumeagent.benchmarks.", "")
+    return f"{name}[{suffix}]" if suffix else name
+
+
+def load(path):
+    with open(path, encoding="utf-8") as f:
+        return {key(e): e for e in json.load(f)}
+
+
+def lower_is_better(entry):
+    # avgt / sample / ss measure time; thrpt measures operations per time
+    return entry["mode"] != "thrpt"
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__, formatter_class=argparse.RawDescriptionHelpFormatter)
+    parser.add_argument("baseline")
+    parser.add_argument("current")
+    parser.add_argument("--threshold", type=float, default=10.0, help="allowed slowdown in percent (default 10)")
+    args = parser.parse_args()
+
+    baseline = load(args.baseline)
+    current = load(args.current)
+
+    regressions = 0
+    print(f"{'benchmark':<70} {'baseline':>12} {'current':>12} {'change':>9}  unit")
+    for name in sorted(current):
+        cur = current[name]["primaryMetric"]
+        if name not in baseline:
+            print(f"{name:<70} {'-':>12} {cur['score']:>12.3f} {'new':>9}  {cur['scoreUnit']}")
+            continue
+
+        base = baseline[name]["primaryMetric"]
+        change = (cur["score"] - base["score"]) / base["score"] * 100.0
+        worse = change if lower_is_better(current[name]) else -change
+        noise = (abs(cur.get("scoreError") or 0.0) + abs(base.get("scoreError") or 0.0))
+        regressed = worse > args.threshold and abs(cur["score"] - base["score"]) > noise
+
+        marker = "  REGRESSION" if regressed else ""
+        regressions += regressed
+        print(f"{name:<70} {base['score']:>12.3f} {cur['score']:>12.3f} {change:>+8.1f}%  {cur['scoreUnit']}{marker}")
+
+    for name in sorted(set(baseline) - set(current)):
+        print(f"{name:<70} (missing from current run)")
+
+    print(f"\n{regressions} regression(s) above {args.threshold:.0f}%")
+    return 1 if regressions else 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
@@ -0,0 +1,59 @@
+package com.resumeagent.benchmarks;
+
+import com.resumeagent.config.JwtProperties;
+import com.resumeagent.security.CookieUtil;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cookie lookup runs on every request (JwtAuthenticationFilter).
+ * Browsers send analytics/consent cookies too, so the access token is placed last.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CookieUtilBenchmark {
+
+    @Param({"1", "8", "24"})
+    public int cookieCount;
+
+    private CookieUtil cookieUtil;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        cookieUtil = new CookieUtil(new JwtProperties());
+
+        Cookie[] cookies = new Cookie[cookieCount];
+        for (int i = 0; i < cookieCount - 1; i++) {
+            cookies[i] = new Cookie("_ga_" + i, "GA1.1." + (1_000_000 + i));
+        }
+        // Same length as a real RS256 access token
+        cookies[cookieCount - 1] = new Cookie("accessToken", "eyJhbGciOiJSUzI1NiJ9." + "a".repeat(560));
+
+        request = new MockHttpServletRequest();
+        request.setCookies(cookies);
+    }
+
+    @Benchmark
+    public Optional<String> extractAccessToken() {
+        return cookieUtil.extractTokenFromCookie(request, "accessToken");
+    }
+}
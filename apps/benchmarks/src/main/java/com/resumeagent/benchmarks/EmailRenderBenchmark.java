@@ -0,0 +1,89 @@
+package com.resumeagent.benchmarks;
+
+import com.resumeagent.entity.EmailOutbox;
+import com.resumeagent.entity.enums.EmailType;
+import com.resumeagent.service.EmailService;
+import com.resumeagent.service.EmailTemplate;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Year;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verification email rendering.
+ * - legacyLoadAndReplace: classpath read + chained String.replace per email
+ *   (the previous EmailService behaviour, kept here as the baseline)
+ * - compiledRender: precompiled EmailTemplate, single escaped pass
+ * - buildAndSerializeMessage: full EmailService.buildMessage plus MIME
+ *   serialization, i.e. everything a bulk send does except SMTP I/O
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailRenderBenchmark {
+
+    private static final String TEMPLATE = "templates/email/email_verification.html";
+
+    private EmailTemplate template;
+    private EmailService emailService;
+    private EmailOutbox email;
+
+    @Setup
+    public void setUp() {
+        template = EmailTemplate.load(TEMPLATE);
+        emailService = new EmailService(new JavaMailSenderImpl());
+        email = EmailOutbox.builder()
+                .id(UUID.randomUUID())
+                .emailType(EmailType.VERIFICATION)
+                .recipientEmail("ada.lovelace@example.com")
+                .recipientName("Ada Lovelace")
+                .actionToken(UUID.randomUUID().toString())
+                .build();
+    }
+
+    @Benchmark
+    public String legacyLoadAndReplace() throws IOException {
+        String html = new String(new ClassPathResource(TEMPLATE).getInputStream().readAllBytes(),
+                StandardCharsets.UTF_8);
+        return html
+                .replace("{{recipient_name}}", email.getRecipientName())
+                .replace("{{verification_link}}", "http://localhost:3000/verify-email/" + email.getActionToken())
+                .replace("{{year}}", String.valueOf(Year.now().getValue()));
+    }
+
+    @Benchmark
+    public String compiledRender() {
+        return template.render(Map.of(
+                "recipient_name", email.getRecipientName(),
+                "verification_link", "http://localhost:3000/verify-email/" + email.getActionToken(),
+                "year", String.valueOf(Year.now().getValue())));
+    }
+
+    @Benchmark
+    public int buildAndSerializeMessage() throws Exception {
+        MimeMessage message = emailService.buildMessage(email);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+        message.writeTo(out);
+        return out.size();
+    }
+}
@@ -0,0 +1,54 @@
+package com.resumeagent.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Realistic benchmark inputs shipped under src/main/resources/fixtures.
+ * SIZES:
+ * - small:  1 role, 1 project (~1.5 KB text / 4 KB JSON)
+ * - medium: 4 roles, 3 projects (~5 KB text / 11 KB JSON)
+ * - large:  10 roles, 6 projects, every optional section (~17 KB text / 30 KB JSON)
+ */
+final class Fixtures {
+
+    private Fixtures() {}
+
+    /**
+     * ObjectMapper configured like Spring Boot's (java.time as ISO strings).
+     */
+    static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    static String masterResumeJson(String size) {
+        return read("master-resume-" + size + ".json");
+    }
+
+    static String matchingJson(String size) {
+        return read("matching-" + size + ".json");
+    }
+
+    static String resumeText(String size) {
+        return read("resume-" + size + ".txt");
+    }
+
+    static String read(String name) {
+        try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Missing fixture: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
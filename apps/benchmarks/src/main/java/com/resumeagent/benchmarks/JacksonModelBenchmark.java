@@ -0,0 +1,70 @@
+package com.resumeagent.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeagent.entity.model.MasterResumeJson;
+import com.resumeagent.entity.model.MatchingAgentJson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * (De)serialization of the agent pipeline models.
+ * Every generation parses agent outputs and re-serializes models into the
+ * next agent's prompt and into JSONB columns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonModelBenchmark {
+
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    private ObjectMapper objectMapper;
+    private String masterResumeJson;
+    private String matchingJson;
+    private MasterResumeJson masterResume;
+    private MatchingAgentJson matching;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Fixtures.objectMapper();
+        masterResumeJson = Fixtures.masterResumeJson(size);
+        matchingJson = Fixtures.matchingJson(size);
+        masterResume = objectMapper.readValue(masterResumeJson, MasterResumeJson.class);
+        matching = objectMapper.readValue(matchingJson, MatchingAgentJson.class);
+    }
+
+    @Benchmark
+    public MasterResumeJson readMasterResume() throws Exception {
+        return objectMapper.readValue(masterResumeJson, MasterResumeJson.class);
+    }
+
+    @Benchmark
+    public String writeMasterResume() throws Exception {
+        return objectMapper.writeValueAsString(masterResume);
+    }
+
+    @Benchmark
+    public MatchingAgentJson readMatching() throws Exception {
+        return objectMapper.readValue(matchingJson, MatchingAgentJson.class);
+    }
+
+    @Benchmark
+    public String writeMatching() throws Exception {
+        return objectMapper.writeValueAsString(matching);
+    }
+}
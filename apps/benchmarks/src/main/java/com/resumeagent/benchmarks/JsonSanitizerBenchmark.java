@@ -0,0 +1,60 @@
+package com.resumeagent.benchmarks;
+
+import com.resumeagent.ai.util.JsonSanitizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agent output cleanup (every agent sanitizes before parsing).
+ * Inputs mimic real model output: chatter around a fenced JSON document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSanitizerBenchmark {
+
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    private String chattyOutput;
+    private String fencedOutput;
+
+    @Setup
+    public void setUp() {
+        String json = Fixtures.masterResumeJson(size);
+        fencedOutput = "```json\n" + json + "\n```";
+        chattyOutput = "Here is the optimized resume in the requested format:\n\n"
+                + fencedOutput
+                + "\n\nLet me know if you would like any further adjustments.";
+    }
+
+    /**
+     * Matching / JD analyzer / rewrite / ATS agents.
+     */
+    @Benchmark
+    public String extractObject() {
+        return JsonSanitizer.extractObject(chattyOutput);
+    }
+
+    /**
+     * Resume parser agent.
+     */
+    @Benchmark
+    public String stripCodeFence() {
+        return JsonSanitizer.stripCodeFence(fencedOutput);
+    }
+}
@@ -0,0 +1,109 @@
+package com.resumeagent.benchmarks;
+
+import com.resumeagent.config.JwtProperties;
+import com.resumeagent.config.JwtProperties.SigningAlgorithm;
+import com.resumeagent.entity.enums.UserPlan;
+import com.resumeagent.entity.enums.UserRole;
+import com.resumeagent.security.AuthenticatedUser;
+import com.resumeagent.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sign (login/refresh) and verify (every request with an unseen token)
+ * throughput per jwt.signing-algorithm.
+ * A fresh key pair per algorithm is generated into a temp directory, so the
+ * numbers do not depend on the development keys.
+ * validateToken bypasses the verified-token cache: it measures the raw
+ * signature check a cache miss pays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSigningAlgorithmBenchmark {
+
+    @Param({"RS256", "ES256", "EdDSA"})
+    public String algorithm;
+
+    private JwtTokenProvider tokenProvider;
+    private AuthenticatedUser principal;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        SigningAlgorithm signingAlgorithm = SigningAlgorithm.valueOf(algorithm);
+        KeyPair keyPair = generateKeyPair(signingAlgorithm);
+
+        Path dir = Files.createTempDirectory("jwt-bench-keys");
+        Path privateKey = writePem(dir.resolve("private.pem"), "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+        Path publicKey = writePem(dir.resolve("public.pem"), "PUBLIC KEY", keyPair.getPublic().getEncoded());
+
+        JwtProperties properties = new JwtProperties();
+        properties.setSigningAlgorithm(signingAlgorithm);
+        properties.setSigningKeyId(algorithm.toLowerCase() + "-bench");
+        properties.setPrivateKeyPath(privateKey.toUri().toString());
+        properties.setPublicKeyPath(publicKey.toUri().toString());
+
+        tokenProvider = new JwtTokenProvider(properties, new DefaultResourceLoader());
+        tokenProvider.init();
+
+        principal = new AuthenticatedUser(UUID.randomUUID(), "jordan.avery@example.com", UserRole.USER, UserPlan.FREE);
+        accessToken = tokenProvider.generateAccessToken(principal, 0);
+    }
+
+    @Benchmark
+    public String sign() {
+        return tokenProvider.generateAccessToken(principal, 0);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return tokenProvider.validateToken(accessToken);
+    }
+
+    private static KeyPair generateKeyPair(SigningAlgorithm algorithm) throws Exception {
+        return switch (algorithm) {
+            case RS256 -> {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+                yield generator.generateKeyPair();
+            }
+            case ES256 -> {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                yield generator.generateKeyPair();
+            }
+            case EdDSA -> KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        };
+    }
+
+    private static Path writePem(Path file, String type, byte[] der) throws IOException {
+        String pem = "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+        return Files.writeString(file, pem);
+    }
+}
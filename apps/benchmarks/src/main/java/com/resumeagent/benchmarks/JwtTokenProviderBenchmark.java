@@ -0,0 +1,71 @@
+package com.resumeagent.benchmarks;
+
+import com.resumeagent.config.JwtProperties;
+import com.resumeagent.entity.enums.UserPlan;
+import com.resumeagent.entity.enums.UserRole;
+import com.resumeagent.security.AuthenticatedUser;
+import com.resumeagent.security.JwtTokenProvider;
+import com.resumeagent.security.VerifiedClaims;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification runs on every authenticated request (JwtAuthenticationFilter).
+ * Uses the development key pair bundled in the backend jar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setPrivateKeyPath("classpath:keys/private_key.pem");
+        properties.setPublicKeyPath("classpath:keys/public_key.pem");
+
+        tokenProvider = new JwtTokenProvider(properties, new DefaultResourceLoader());
+        tokenProvider.init();
+
+        accessToken = tokenProvider.generateAccessToken(
+                new AuthenticatedUser(UUID.randomUUID(), "jordan.avery@example.com", UserRole.USER, UserPlan.FREE), 0);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Claims extractAllClaims() {
+        return tokenProvider.extractAllClaims(accessToken);
+    }
+
+    /**
+     * Parse-once path used by JwtAuthenticationFilter (repeat token = cache hit).
+     */
+    @Benchmark
+    public Optional<VerifiedClaims> verifyRepeatedToken() {
+        return tokenProvider.verify(accessToken);
+    }
+}
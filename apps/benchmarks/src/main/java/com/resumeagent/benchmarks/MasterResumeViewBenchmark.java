@@ -0,0 +1,79 @@
+package com.resumeagent.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeagent.entity.model.MasterResumeJson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/master-resume/view response path, from the JSON text handed over
+ * by the driver to bytes in the response buffer (a discarding stream here).
+ * - objectGraph: JSONB -> MasterResumeJson -> envelope DTO -> Jackson
+ *   (the previous Hibernate JSON type + message converter path)
+ * - passthrough: stored text written into the envelope as is
+ *   (RawJsonResponse)
+ * Run with -prof gc: gc.alloc.rate.norm (bytes/op) is the number to compare.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MasterResumeViewBenchmark {
+
+    /**
+     * Shape of the former MasterResumeResponse DTO.
+     */
+    public record Envelope(MasterResumeJson resumeJson) {
+    }
+
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    private ObjectMapper objectMapper;
+    private String storedJson;
+    private OutputStream responseBody;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Fixtures.objectMapper();
+        // Same text PostgreSQL would render for resume_json::text
+        storedJson = objectMapper.writeValueAsString(
+                objectMapper.readValue(Fixtures.masterResumeJson(size), MasterResumeJson.class));
+        responseBody = OutputStream.nullOutputStream();
+    }
+
+    @Benchmark
+    public Envelope objectGraph() throws IOException {
+        Envelope envelope = new Envelope(objectMapper.readValue(storedJson, MasterResumeJson.class));
+        objectMapper.writeValue(responseBody, envelope);
+        return envelope;
+    }
+
+    @Benchmark
+    public Writer passthrough() throws IOException {
+        Writer writer = new OutputStreamWriter(responseBody, StandardCharsets.UTF_8);
+        writer.write("{\"resumeJson\":");
+        writer.write(storedJson);
+        writer.write('}');
+        writer.flush();
+        return writer;
+    }
+}
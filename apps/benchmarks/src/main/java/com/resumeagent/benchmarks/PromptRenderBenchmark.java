@@ -0,0 +1,68 @@
+package com.resumeagent.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeagent.ai.util.PromptLoader;
+import com.resumeagent.entity.model.MasterResumeJson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prompt rendering as done by the agents: load the template from the
+ * classpath, then substitute {{PLACEHOLDER}} values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PromptRenderBenchmark {
+
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    private final PromptLoader promptLoader = new PromptLoader();
+
+    private String resumeText;
+    private String resumeJson;
+    private String jobDescriptionJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = Fixtures.objectMapper();
+        resumeText = Fixtures.resumeText(size);
+        resumeJson = objectMapper.writeValueAsString(
+                objectMapper.readValue(Fixtures.masterResumeJson(size), MasterResumeJson.class));
+        jobDescriptionJson = Fixtures.matchingJson("small");
+    }
+
+    /**
+     * ResumeParserAgent: single placeholder.
+     */
+    @Benchmark
+    public String renderResumeParserPrompt() {
+        return promptLoader.load("resume_parser.prompt")
+                .replace("{{RESUME_TEXT}}", resumeText);
+    }
+
+    /**
+     * MatchingAgent: two placeholders with JSON payloads.
+     */
+    @Benchmark
+    public String renderMatchingPrompt() {
+        return promptLoader.load("matching_agent.prompt")
+                .replace("{{RESUME_TEXT}}", resumeJson)
+                .replace("{{JOB_DESCRIPTION}}", jobDescriptionJson);
+    }
+}
@@ -0,0 +1,124 @@
+package com.resumeagent.benchmarks;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh-token validation latency as refresh_tokens grows.
+ * Runs the same SQL Hibernate generates for
+ * RefreshTokenRepository.findActiveByTokenHash against tables of 10k .. 5M rows;
+ * with the UNIQUE index on token_hash the latency must stay flat.
+ * Needs a disposable PostgreSQL database (tables are created in a separate schema):
+ *   java -Dbench.jdbcUrl=jdbc:postgresql://localhost:5432/resumeagent_bench \
+ *        -Dbench.jdbcUser=postgres -Dbench.jdbcPassword=... \
+ *        -jar target/benchmarks.jar RefreshTokenLookupBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RefreshTokenLookupBenchmark {
+
+    private static final String LOOKUP_SQL = """
+            SELECT rt.*, u.*
+            FROM bench.refresh_tokens rt
+            JOIN bench.users u ON u.id = rt.user_id
+            WHERE rt.token_hash = ? AND rt.revoked = false AND rt.expires_at > now()
+            """;
+
+    @Param({"10000", "1000000", "5000000"})
+    public int rows;
+
+    private Connection connection;
+    private PreparedStatement lookup;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.jdbcUrl", "jdbc:postgresql://localhost:5432/resumeagent_bench"),
+                System.getProperty("bench.jdbcUser", "postgres"),
+                System.getProperty("bench.jdbcPassword", ""));
+
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP SCHEMA IF EXISTS bench CASCADE");
+            ddl.execute("CREATE SCHEMA bench");
+            ddl.execute("""
+                    CREATE TABLE bench.users (
+                        id BIGINT PRIMARY KEY,
+                        email VARCHAR(255) NOT NULL
+                    )""");
+            ddl.execute("""
+                    CREATE TABLE bench.refresh_tokens (
+                        id BIGINT PRIMARY KEY,
+                        user_id BIGINT NOT NULL REFERENCES bench.users(id),
+                        token_hash VARCHAR(255) NOT NULL UNIQUE,
+                        expires_at TIMESTAMP NOT NULL,
+                        revoked BOOLEAN NOT NULL DEFAULT FALSE,
+                        last_used_at TIMESTAMP
+                    )""");
+            ddl.execute("INSERT INTO bench.users SELECT g, 'user' || g || '@example.com' "
+                    + "FROM generate_series(1, 10000) g");
+            // Token hashes are sha256(token id) so lookups can target random existing rows
+            ddl.execute("INSERT INTO bench.refresh_tokens (id, user_id, token_hash, expires_at, revoked) "
+                    + "SELECT g, 1 + g % 10000, encode(sha256(g::text::bytea), 'hex'), "
+                    + "now() + interval '30 days', g % 10 = 0 "
+                    + "FROM generate_series(1, " + rows + ") g");
+            ddl.execute("ANALYZE bench.users");
+            ddl.execute("ANALYZE bench.refresh_tokens");
+        }
+
+        lookup = connection.prepareStatement(LOOKUP_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP SCHEMA IF EXISTS bench CASCADE");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public boolean lookupExistingToken() throws SQLException {
+        long id = ThreadLocalRandom.current().nextLong(1, rows + 1L);
+        return execute(DigestUtils.sha256Hex(Long.toString(id)));
+    }
+
+    /**
+     * Garbage token (cache miss path before the negative cache kicks in).
+     */
+    @Benchmark
+    public boolean lookupUnknownToken() throws SQLException {
+        return execute(DigestUtils.sha256Hex("garbage-" + ThreadLocalRandom.current().nextLong()));
+    }
+
+    private boolean execute(String tokenHash) throws SQLException {
+        lookup.setString(1, tokenHash);
+        try (ResultSet rs = lookup.executeQuery()) {
+            return rs.next();
+        }
+    }
+}
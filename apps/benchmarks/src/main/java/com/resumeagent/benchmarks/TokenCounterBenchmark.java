@@ -0,0 +1,50 @@
+package com.resumeagent.benchmarks;
+
+import com.resumeagent.ai.util.TokenCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token counting runs on every prompt and every agent output (agent logs).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenCounterBenchmark {
+
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    private String resumeText;
+    private String resumeJson;
+
+    @Setup
+    public void setUp() {
+        resumeText = Fixtures.resumeText(size);
+        resumeJson = Fixtures.masterResumeJson(size);
+    }
+
+    @Benchmark
+    public int countResumeText() {
+        return TokenCounter.countTokens(resumeText);
+    }
+
+    @Benchmark
+    public int countResumeJson() {
+        return TokenCounter.countTokens(resumeJson);
+    }
+}